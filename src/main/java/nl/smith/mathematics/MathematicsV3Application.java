@@ -28,6 +28,7 @@ import org.springframework.context.support.ReloadableResourceBundleMessageSource
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import static nl.smith.mathematics.configuration.constant.NumberConstant.BigDecimalValueOf;
 import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.Scale;
@@ -65,7 +66,8 @@ public class MathematicsV3Application {
             RationalNumberOutputType.value().set(RationalNumberOutputType.PredefinedType.TRUNCATED);
             Scale.value().set(150);
             LOGGER.info("Calculate sin(𝝅/4) using Taylor series:");
-            RationalNumber piDividedByFour = RationalValueOf.Pi.value().get().divide(4);
+            // Note: The error of the Taylor polynomials (degree < 20) exceeds the error of the approximated value of 𝝅
+            RationalNumber piDividedByFour = RationalValueOf.Pi.approximatedValue(new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(30))).divide(4);
             for (int i = 0; i < 20; i++) {
                 TaylorDegreeOfPolynom.value().set(i);
                 LOGGER.info("Taylor ({}): {}", TaylorDegreeOfPolynom.value().get(), rationalNumberGoniometricFunctions.sin(piDividedByFour));
@@ -83,7 +85,7 @@ public class MathematicsV3Application {
             RationalNumberOutputType.value().set(RationalNumberOutputType.PredefinedType.TRUNCATED);
             for (int i = 0; i < 150; i++) {
                 Scale.value().set(i);
-                LOGGER.info(RationalValueOf.Pi.value().get().toString());
+                LOGGER.info(RationalValueOf.Pi.approximatedValue(new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(i + 1))).toString());
             }
 
             LogarithmicFunctions<RationalNumber, ?> logarithmicFunctions = context.getBean("rationalNumberLogarithmicFunctions", RationalNumberLogarithmicFunctions.class);
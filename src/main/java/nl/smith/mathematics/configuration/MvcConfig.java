@@ -1,10 +1,13 @@
 package nl.smith.mathematics.configuration;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class MvcConfig implements WebMvcConfigurer {
 
@@ -18,4 +21,10 @@ public class MvcConfig implements WebMvcConfigurer {
           registry.addResourceHandler("/resources/**").addResourceLocations("classpath:/static/");
 
     }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Note: Binary (application/octet-stream) representation of rational numbers (and arrays of rational numbers) and big decimals
+        converters.add(0, new NumberHttpMessageConverter());
+    }
 }
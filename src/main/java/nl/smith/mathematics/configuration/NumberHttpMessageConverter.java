@@ -0,0 +1,88 @@
+package nl.smith.mathematics.configuration;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.NumberCodec;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Reads and writes {@link RationalNumber} and {@link BigDecimal} values as {@value MediaType#APPLICATION_OCTET_STREAM_VALUE} using the binary format of {@link NumberCodec}.
+ * An array of rational numbers is represented by the encoded numbers written back to back.
+ * <p>
+ * A body that can not be decoded (i.e. a truncated or malformed body) or a single value followed by trailing bytes results in a {@link HttpMessageNotReadableException}.
+ */
+public class NumberHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public NumberHttpMessageConverter() {
+        super(MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == RationalNumber.class || clazz == BigDecimal.class || clazz == RationalNumber[].class;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(inputMessage.getBody().readAllBytes());
+
+        Object result;
+        try {
+            if (clazz == RationalNumber[].class) {
+                List<RationalNumber> rationalNumbers = new ArrayList<>();
+                while (buffer.hasRemaining()) {
+                    rationalNumbers.add(NumberCodec.readRationalNumber(buffer));
+                }
+
+                return rationalNumbers.toArray(new RationalNumber[0]);
+            }
+
+            result = clazz == RationalNumber.class ? NumberCodec.readRationalNumber(buffer) : NumberCodec.readBigDecimal(buffer);
+        } catch (RuntimeException e) {
+            // Note: A truncated body results in a BufferUnderflowException (without a message)
+            throw new HttpMessageNotReadableException(format("Can not decode the binary encoded %s (%d bytes).", clazz.getSimpleName(), buffer.capacity()), e, inputMessage);
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new HttpMessageNotReadableException(format("The binary encoded %s is followed by %d unexpected bytes.", clazz.getSimpleName(), buffer.remaining()), inputMessage);
+        }
+
+        return result;
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        ByteBuffer buffer;
+        if (object instanceof RationalNumber[]) {
+            RationalNumber[] rationalNumbers = (RationalNumber[]) object;
+            int length = 0;
+            for (RationalNumber rationalNumber : rationalNumbers) {
+                length += NumberCodec.getEncodedLength(rationalNumber);
+            }
+
+            buffer = ByteBuffer.allocate(length);
+            for (RationalNumber rationalNumber : rationalNumbers) {
+                NumberCodec.write(rationalNumber, buffer);
+            }
+        } else if (object instanceof RationalNumber) {
+            buffer = ByteBuffer.allocate(NumberCodec.getEncodedLength((RationalNumber) object));
+            NumberCodec.write((RationalNumber) object, buffer);
+        } else {
+            buffer = ByteBuffer.allocate(NumberCodec.getEncodedLength((BigDecimal) object));
+            NumberCodec.write((BigDecimal) object, buffer);
+        }
+
+        outputMessage.getBody().write(buffer.array());
+    }
+}
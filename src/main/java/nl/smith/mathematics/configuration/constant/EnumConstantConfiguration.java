@@ -96,7 +96,9 @@ public abstract class EnumConstantConfiguration<T extends Enum<?> & EnumConstant
         public enum PredefinedType implements EnumConstant {
 
             YES("Normalize rational numbers. Constructing a rational number using 5/10 results in the rational number 1/10."),
-            NO("Do not normalize rational numbers. Constructing a rational number using 5/10 does not result in the rational number 1/10.");
+            NO("Do not normalize rational numbers. Constructing a rational number using 5/10 does not result in the rational number 1/10."),
+            ADAPTIVE("Normalize rational numbers only if the combined bit length of the numerator and the denominator exceeds the normalization threshold. " +
+                    "Constructing a rational number using 5/10 does not result in the rational number 1/10 but the components of intermediate results remain bounded.");
 
             private final String description;
 
@@ -132,6 +134,90 @@ public abstract class EnumConstantConfiguration<T extends Enum<?> & EnumConstant
 
     }
 
+    public static class RationalNumberApproximation extends EnumConstantConfiguration<RationalNumberApproximation.PredefinedType> {
+
+        public enum PredefinedType implements EnumConstant {
+
+            YES("Approximate intermediate results of Taylor polynomials by the simplest rational number within a fraction of the maximum error. " +
+                    "The components of intermediate results remain small, the result differs at most the maximum error from the exact evaluation."),
+            NO("Evaluate Taylor polynomials exactly.");
+
+            private final String description;
+
+            PredefinedType(String description) {
+                this.description = description;
+            }
+
+            public String valueDescription() {
+                return description;
+            }
+        }
+
+        private static final RationalNumberApproximation instance = new RationalNumberApproximation();
+
+
+        private RationalNumberApproximation() {
+            super(PredefinedType.class);
+        }
+
+        public static RationalNumberApproximation value() {
+            return instance;
+        }
+
+        @Override
+        public String constantDescription() {
+            return "Specification whether intermediate results of Taylor polynomials are approximated.";
+        }
+
+        @Override
+        public String name() {
+            return "Approximation";
+        }
+
+    }
+
+    public static class TaylorTermination extends EnumConstantConfiguration<TaylorTermination.PredefinedType> {
+
+        public enum PredefinedType implements EnumConstant {
+
+            FIXED("Evaluate Taylor polynomials of the configured degree."),
+            CONVERGENCE("Evaluate Taylor polynomials up to the lowest degree for which the remainder is bounded by the maximum error (rational numbers) or the scale (big decimals). " +
+                    "The configured degree is the maximum degree.");
+
+            private final String description;
+
+            PredefinedType(String description) {
+                this.description = description;
+            }
+
+            public String valueDescription() {
+                return description;
+            }
+        }
+
+        private static final TaylorTermination instance = new TaylorTermination();
+
+
+        private TaylorTermination() {
+            super(PredefinedType.class);
+        }
+
+        public static TaylorTermination value() {
+            return instance;
+        }
+
+        @Override
+        public String constantDescription() {
+            return "Specification of the degree of Taylor polynomials.";
+        }
+
+        @Override
+        public String name() {
+            return "Termination";
+        }
+
+    }
+
     public static class RationalNumberOutputType extends EnumConstantConfiguration<RationalNumberOutputType.PredefinedType> {
 
         public enum PredefinedType implements EnumConstant {
@@ -3,6 +3,10 @@ package nl.smith.mathematics.configuration.constant;
 import nl.smith.mathematics.numbertype.RationalNumber;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
 
 /**
  * Default values for all implementing classes are specified in {@link NumberConstant#PROPERTY_FILE_NAME}.
@@ -26,7 +30,9 @@ public class NumberConstant<T extends Number> extends ConstantConfiguration<T> {
     public enum IntegerValueOf implements EnumConstant  {
 
         Scale("Number of decimals after the decimal point."),
-        TaylorDegreeOfPolynom("Degree of the Taylor polynom.");
+        TaylorDegreeOfPolynom("Degree of the Taylor polynom."),
+        NormalizationThreshold("Combined bit length of the numerator and the denominator above which rational numbers are normalized (adaptive normalization)."),
+        CompilationThreshold("Number of evaluations of an expression plan after which the plan is compiled.");
 
         private final NumberConstant<Integer> instance;
 
@@ -90,15 +96,51 @@ public class NumberConstant<T extends Number> extends ConstantConfiguration<T> {
 
         private final String description;
 
+        /** Convergents of the most recently approximated value (initially the default value). */
+        private volatile Convergents convergents;
+
         RationalValueOf(String description) {
             instance = new NumberConstant<>(numberType, this.getClass().getEnclosingClass().getCanonicalName() + "." + this.name());
             this.description = description;
+            convergents = new Convergents(instance.getDefaultValue());
         }
 
         public NumberConstant<RationalNumber> value() {
             return instance;
         }
 
+        /**
+         * @return the convergent of the continued fraction expansion of the value with the smallest denominator
+         * which does not differ more than the current {@link #MaximumError} from the value
+         */
+        public RationalNumber approximatedValue() {
+            return approximatedValue(MaximumError.value().get());
+        }
+
+        /**
+         * @return the convergent of the continued fraction expansion of the value with the smallest denominator
+         * which does not differ more than the specified maximum error from the value (example: 355/113 for π and maximum error 10^-6)
+         */
+        public RationalNumber approximatedValue(RationalNumber maxError) {
+            if (maxError == null) {
+                throw new IllegalArgumentException("A maximum error must be specified (not be null)");
+            }
+
+            if (maxError.signum() < 0) {
+                throw new IllegalArgumentException(format("The maximum error must not be negative (%s)", maxError.toStringComponents()));
+            }
+
+            RationalNumber value = instance.get();
+            Convergents cachedConvergents = convergents;
+            // Note: A value set by a thread is usually a new (equal) instance, for instance when parsed for every request
+            if (!cachedConvergents.value.equals(value)) {
+                cachedConvergents = new Convergents(value);
+                convergents = cachedConvergents;
+            }
+
+            return cachedConvergents.get(maxError);
+        }
+
         @Override
         public String valueDescription() {
             return description;
@@ -110,4 +152,39 @@ public class NumberConstant<T extends Number> extends ConstantConfiguration<T> {
         super(numberType, propertyName);
     }
 
+    /**
+     * The convergents of a rational number (see {@link RationalNumber#convergents()}) and their distances to the rational number.
+     * The distances decrease, so the first convergent within a maximum error is found using a binary search.
+     */
+    private static class Convergents {
+
+        private final RationalNumber value;
+
+        private final List<RationalNumber> convergents;
+
+        private final List<RationalNumber> distances = new ArrayList<>();
+
+        private Convergents(RationalNumber value) {
+            this.value = value;
+            convergents = value.convergents();
+            convergents.forEach(convergent -> distances.add(convergent.subtract(value).abs()));
+        }
+
+        private RationalNumber get(RationalNumber maxError) {
+            // Note: The last convergent equals the value
+            int low = 0;
+            int high = convergents.size() - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (distances.get(middle).compareTo(maxError) <= 0) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+
+            return convergents.get(low);
+        }
+    }
+
 }
@@ -2,6 +2,8 @@ package nl.smith.mathematics.controller;
 
 import nl.smith.mathematics.numbertype.RationalNumber;
 import nl.smith.mathematics.service.MethodRunnerService;
+import nl.smith.mathematics.util.NumberCodec;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,6 +14,8 @@ import java.util.Map;
 @RequestMapping(DefaultController.MAPPING_FUNCTION)
 public class DefaultRestController {
 
+    public static final String MAPPING_BATCH = "batch";
+
 private final MethodRunnerService methodRunnerService;
 
     public DefaultRestController(MethodRunnerService methodRunnerService) {
@@ -34,5 +38,26 @@ private final MethodRunnerService methodRunnerService;
         return results;
     }
 
+    /**
+     * Invokes the specified function using a binary encoded (see: {@link NumberCodec}) rational number argument.
+     */
+    @PostMapping(value = "{functionName}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public RationalNumber invoke(@PathVariable String functionName, @RequestBody RationalNumber argument) {
+        return methodRunnerService.invokeMathematicalMethodForNumberType(RationalNumber.class, functionName, new RationalNumber[]{argument});
+    }
+
+    /**
+     * Invokes the specified function for every binary encoded (see: {@link NumberCodec}) rational number argument.
+     * The results are returned (binary encoded) in the same order.
+     */
+    @PostMapping(value = "{functionName}/" + MAPPING_BATCH, consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public RationalNumber[] invokeForAll(@PathVariable String functionName, @RequestBody RationalNumber[] arguments) {
+        RationalNumber[] results = new RationalNumber[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            results[i] = invoke(functionName, arguments[i]);
+        }
+
+        return results;
+    }
 
 }
@@ -2,9 +2,11 @@ package nl.smith.mathematics.controller;
 
 import nl.smith.mathematics.configuration.constant.*;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberApproximation;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberOutputType;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination;
 import nl.smith.mathematics.exception.StringToConstantConfigurationException;
 import nl.smith.mathematics.numbertype.RationalNumber;
 import nl.smith.mathematics.util.ThreadContext;
@@ -43,6 +45,8 @@ public class RequestHeaderFilter extends OncePerRequestFilter {
 
         constantConfigurationOptions.put(AngleType.class, AngleType.value().valuesAsString());
         constantConfigurationOptions.put(RationalNumberNormalize.class, RationalNumberNormalize.value().valuesAsString());
+        constantConfigurationOptions.put(RationalNumberApproximation.class, RationalNumberApproximation.value().valuesAsString());
+        constantConfigurationOptions.put(TaylorTermination.class, TaylorTermination.value().valuesAsString());
         constantConfigurationOptions.put(RationalNumberOutputType.class, RationalNumberOutputType.value().valuesAsString());
         constantConfigurationOptions.put(RoundingMode.class, RoundingMode.value().valuesAsString());
 
@@ -0,0 +1,436 @@
+package nl.smith.mathematics.domain;
+
+import nl.smith.mathematics.domain.StackElement.*;
+import nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree;
+import nl.smith.mathematics.util.ThreadContext;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static java.lang.String.format;
+
+/**
+ * Compiled form of a closed {@link ExpressionStack}.
+ * <p>
+ * The stack elements are translated once into a tree of nodes (numbers, variables and operations) with direct calls to the typed views
+ * ({@link MathematicalFunctionMethodMapping#asUnaryOperator()}, {@link MathematicalFunctionMethodMapping#asBinaryOperator()}, {@link MathematicalFunctionMethodMapping#asFunction(int)})
+ * of the resolved methods. Operator precedence equals the precedence used when digesting the stack: unary operators first,
+ * then high priority binary operators and finally binary operators (binary operators are left associative).
+ * <p>
+ * The tree is optimized:
+ * <pre>
+ *     - Structurally identical subtrees are represented by the same node, which is computed once per evaluation (common subexpression elimination).
+ *     - Operations without variables are computed once for the configuration of the evaluating thread (constant folding).
+ *       Since the result of a function can depend on the configuration (see {@link ThreadContext}), the values are recomputed when the configuration changes.
+ * </pre>
+ * The operations are evaluated in a loop (children before parents) so the depth of the tree (for instance the number of terms of a sum) does not
+ * affect the depth of the call stack.
+ * <p>
+ * A compiled expression only evaluates if all variables are specified.
+ * Otherwise the expression stack should be digested, which reports the unknown variables.
+ *
+ * @param <N> The number type
+ */
+final class CompiledExpression<N extends Number> {
+
+    private final Node<N> root;
+
+    /** The operations (children before parents, so in order of evaluation). The index of an operation is the index of its value in an array of values. */
+    private final List<OperationNode<N>> operations;
+
+    private final Set<String> variableNames;
+
+    private volatile FoldedConstants<N> foldedConstants;
+
+    /** Number of times the constants have been folded. */
+    private final AtomicInteger numberOfFoldings = new AtomicInteger();
+
+    private CompiledExpression(Node<N> root, List<OperationNode<N>> operations, Set<String> variableNames) {
+        this.root = root;
+        this.operations = operations;
+        this.variableNames = variableNames;
+    }
+
+    /**
+     * @param expressionStack A closed expression stack of dimension 1
+     * @return The compiled expression
+     * @throws IllegalStateException If the stack can not be compiled
+     */
+    static <N extends Number> CompiledExpression<N> compile(ExpressionStack<N> expressionStack) {
+        if (expressionStack.getState() != ExpressionStack.State.CLOSED || expressionStack.getDimension() != 1) {
+            throw new IllegalStateException(format("Can not compile an expression stack with state %s and dimension %d.", expressionStack.getState(), expressionStack.getDimension()));
+        }
+
+        Compiler<N> compiler = new Compiler<>();
+        Node<N> root = compiler.compileExpressionStack(expressionStack);
+
+        return new CompiledExpression<>(root, Collections.unmodifiableList(compiler.operations), Collections.unmodifiableSet(compiler.variableNames));
+    }
+
+    /**
+     * @return True if all variables of the expression are specified (not null)
+     */
+    boolean isEvaluable(Map<String, N> variables) {
+        for (String variableName : variableNames) {
+            if (variables.get(variableName) == null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    N evaluate(Map<String, N> variables) {
+        // Note: The values of the constant operations are computed, the values of the other operations are computed during evaluation
+        N[] values = getFoldedConstants().values.clone();
+        for (OperationNode<N> operation : operations) {
+            if (!operation.isConstant()) {
+                values[operation.index] = operation.compute(variables, values);
+            }
+        }
+
+        return root.getValue(variables, values);
+    }
+
+    /**
+     * @return The number of distinct operations (after elimination of common subexpressions)
+     */
+    int getNumberOfOperations() {
+        return operations.size();
+    }
+
+    /**
+     * @return The number of times the constants have been folded (i.e. computed for a changed configuration)
+     */
+    int getNumberOfFoldings() {
+        return numberOfFoldings.get();
+    }
+
+    private FoldedConstants<N> getFoldedConstants() {
+        Map<String, Object> threadValues = ThreadContext.getValues();
+        FoldedConstants<N> result = foldedConstants;
+        if (result == null || !result.isFoldedFor(threadValues)) {
+            // Note: The configuration is copied before folding since folding adds the degrees of evaluated Taylor polynomials to the thread context
+            Map<String, Object> configuration = new HashMap<>(threadValues);
+            configuration.remove(TaylorDegree.PROPERTY_NAME);
+
+            N[] values = (N[]) new Number[operations.size()];
+            for (OperationNode<N> operation : operations) {
+                if (operation.isConstant()) {
+                    values[operation.index] = operation.compute(Collections.emptyMap(), values);
+                }
+            }
+
+            result = new FoldedConstants<>(configuration, values);
+            foldedConstants = result;
+            numberOfFoldings.incrementAndGet();
+        }
+
+        return result;
+    }
+
+    private static class FoldedConstants<N> {
+
+        /** The values of the thread context used to fold the constants (without the reported degree of a Taylor polynomial). */
+        private final Map<String, Object> configuration;
+
+        private final N[] values;
+
+        private FoldedConstants(Map<String, Object> configuration, N[] values) {
+            this.configuration = configuration;
+            this.values = values;
+        }
+
+        /**
+         * Note: The degree of an evaluated Taylor polynomial (see {@link TaylorDegree}) is reported in the thread context by every evaluation.
+         * Since it is a result and not a configuration it is ignored (otherwise the constants would be folded at every evaluation).
+         */
+        private boolean isFoldedFor(Map<String, Object> threadValues) {
+            int size = threadValues.size();
+            for (Map.Entry<String, Object> entry : threadValues.entrySet()) {
+                if (TaylorDegree.PROPERTY_NAME.equals(entry.getKey())) {
+                    size--;
+                } else if (!entry.getValue().equals(configuration.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+
+            return size == configuration.size();
+        }
+    }
+
+    /**
+     * Builds the tree. Structurally identical nodes are only created once.
+     */
+    private static class Compiler<N extends Number> {
+
+        private final Map<Node<N>, Node<N>> nodes = new HashMap<>();
+
+        private final List<OperationNode<N>> operations = new ArrayList<>();
+
+        private final Set<String> variableNames = new TreeSet<>();
+
+        private Node<N> compileExpressionStack(ExpressionStack<N> expressionStack) {
+            // Note: The first element of the expression is the last element of the stack
+            Iterator<StackElement<N, ?>> iterator = expressionStack.stackElements.descendingIterator();
+
+            Node<N> term = compileOperand(iterator);
+            List<MathematicalFunctionMethodMapping<N>> binaryOperators = new ArrayList<>();
+            List<Node<N>> terms = new ArrayList<>();
+            while (iterator.hasNext()) {
+                StackElement<N, ?> stackElement = iterator.next();
+                if (!(stackElement instanceof BinaryOperatorStackElement)) {
+                    throw new IllegalStateException(format("Expected a stack element of type %s but the type was %s.", BinaryOperatorStackElement.class.getSimpleName(), stackElement.getClass().getSimpleName()));
+                }
+
+                MathematicalFunctionMethodMapping<N> binaryOperator = ((BinaryOperatorStackElement<N>) stackElement).getValue();
+                Node<N> operand = compileOperand(iterator);
+                if (stackElement instanceof HighPriorityBinaryOperatorStackElement) {
+                    term = operation(binaryOperator, term, operand);
+                } else {
+                    terms.add(term);
+                    binaryOperators.add(binaryOperator);
+                    term = operand;
+                }
+            }
+
+            terms.add(term);
+            Node<N> result = terms.get(0);
+            for (int i = 0; i < binaryOperators.size(); i++) {
+                result = operation(binaryOperators.get(i), result, terms.get(i + 1));
+            }
+
+            return result;
+        }
+
+        /**
+         * An operand is a number, a variable, a compound expression or a function followed by a compound expression holding its arguments.
+         * The operand can be preceded by a unary operator.
+         */
+        private Node<N> compileOperand(Iterator<StackElement<N, ?>> iterator) {
+            StackElement<N, ?> stackElement = next(iterator);
+
+            if (stackElement instanceof UnaryOperatorStackElement) {
+                return operation(((UnaryOperatorStackElement<N>) stackElement).getValue(), compileOperand(iterator));
+            }
+
+            if (stackElement instanceof NumberStackElement) {
+                return intern(new NumberNode<>(((NumberStackElement<N>) stackElement).getValue()));
+            }
+
+            if (stackElement instanceof VariableNameStackElement) {
+                String variableName = ((VariableNameStackElement<N>) stackElement).getValue();
+                variableNames.add(variableName);
+
+                return intern(new VariableNode<>(variableName));
+            }
+
+            if (stackElement instanceof CompoundExpressionStackElement) {
+                return compileExpressionStack(((CompoundExpressionStackElement<N>) stackElement).getValue());
+            }
+
+            if (stackElement instanceof MathematicalFunctionStackElement) {
+                MathematicalFunctionMethodMapping<N> methodMapping = ((MathematicalFunctionStackElement<N>) stackElement).getValue();
+                stackElement = next(iterator);
+                if (!(stackElement instanceof CompoundExpressionStackElement)) {
+                    throw new IllegalStateException(format("Expected a stack element of type %s after a function but the type was %s.", CompoundExpressionStackElement.class.getSimpleName(), stackElement.getClass().getSimpleName()));
+                }
+
+                List<Node<N>> arguments = new ArrayList<>();
+                for (ExpressionStack<N> argument = ((CompoundExpressionStackElement<N>) stackElement).getValue(); argument != null; argument = argument.getSibling()) {
+                    arguments.add(compileExpressionStack(argument));
+                }
+
+                return operation(methodMapping, arguments.toArray(new Node[0]));
+            }
+
+            throw new IllegalStateException(format("Expected an operand but the type of the stack element was %s.", stackElement.getClass().getSimpleName()));
+        }
+
+        @SafeVarargs
+        private final Node<N> operation(MathematicalFunctionMethodMapping<N> methodMapping, Node<N>... arguments) {
+            OperationNode<N> operation = new OperationNode<>(methodMapping, arguments, operations.size());
+            Node<N> node = intern(operation);
+            if (node == operation) {
+                operations.add(operation);
+            }
+
+            return node;
+        }
+
+        private Node<N> intern(Node<N> node) {
+            Node<N> existingNode = nodes.putIfAbsent(node, node);
+
+            return existingNode == null ? node : existingNode;
+        }
+
+        private static <N extends Number> StackElement<N, ?> next(Iterator<StackElement<N, ?>> iterator) {
+            if (!iterator.hasNext()) {
+                throw new IllegalStateException("Expected an operand at the end of the expression stack.");
+            }
+
+            return iterator.next();
+        }
+    }
+
+    private abstract static class Node<N extends Number> {
+
+        /**
+         * @param values The values of the operations computed during the current evaluation (the values of the arguments of an operation are computed before the operation)
+         */
+        abstract N getValue(Map<String, N> variables, N[] values);
+
+        abstract boolean isConstant();
+    }
+
+    private static class NumberNode<N extends Number> extends Node<N> {
+
+        private final N number;
+
+        private NumberNode(N number) {
+            this.number = number;
+        }
+
+        @Override
+        N getValue(Map<String, N> variables, N[] values) {
+            return number;
+        }
+
+        @Override
+        boolean isConstant() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof NumberNode && number.equals(((NumberNode<?>) o).number);
+        }
+
+        @Override
+        public int hashCode() {
+            return number.hashCode();
+        }
+    }
+
+    private static class VariableNode<N extends Number> extends Node<N> {
+
+        private final String name;
+
+        private VariableNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        N getValue(Map<String, N> variables, N[] values) {
+            return variables.get(name);
+        }
+
+        @Override
+        boolean isConstant() {
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof VariableNode && name.equals(((VariableNode<?>) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    /**
+     * A unary operation, binary operation or function.
+     * Since structurally identical nodes are the same instance, the arguments are compared by identity.
+     */
+    private static class OperationNode<N extends Number> extends Node<N> {
+
+        private final MathematicalFunctionMethodMapping<N> methodMapping;
+
+        private final Node<N>[] arguments;
+
+        private final int index;
+
+        private final boolean constant;
+
+        private final UnaryOperator<N> unaryOperator;
+
+        private final BinaryOperator<N> binaryOperator;
+
+        private final Function<N[], N> function;
+
+        private final int hashCode;
+
+        private OperationNode(MathematicalFunctionMethodMapping<N> methodMapping, Node<N>[] arguments, int index) {
+            this.methodMapping = methodMapping;
+            this.arguments = arguments;
+            this.index = index;
+            constant = Arrays.stream(arguments).allMatch(Node::isConstant);
+            unaryOperator = arguments.length == 1 ? methodMapping.asUnaryOperator() : null;
+            binaryOperator = arguments.length == 2 ? methodMapping.asBinaryOperator() : null;
+            function = arguments.length != 1 && arguments.length != 2 ? methodMapping.asFunction(arguments.length) : null;
+            hashCode = 31 * System.identityHashCode(methodMapping) + Arrays.stream(arguments).mapToInt(System::identityHashCode).reduce(0, (h, a) -> 31 * h + a);
+        }
+
+        @Override
+        N getValue(Map<String, N> variables, N[] values) {
+            return values[index];
+        }
+
+        /**
+         * Note: The values of the arguments have been computed.
+         */
+        private N compute(Map<String, N> variables, N[] values) {
+            if (unaryOperator != null) {
+                return unaryOperator.apply(arguments[0].getValue(variables, values));
+            }
+
+            if (binaryOperator != null) {
+                return binaryOperator.apply(arguments[0].getValue(variables, values), arguments[1].getValue(variables, values));
+            }
+
+            // Note: The arguments of a vararg method are collected in an array of the number type by the method handle
+            N[] argumentValues = (N[]) new Number[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                argumentValues[i] = arguments[i].getValue(variables, values);
+            }
+
+            return function.apply(argumentValues);
+        }
+
+        @Override
+        boolean isConstant() {
+            return constant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof OperationNode)) {
+                return false;
+            }
+
+            OperationNode<?> that = (OperationNode<?>) o;
+            if (methodMapping != that.methodMapping || arguments.length != that.arguments.length) {
+                return false;
+            }
+
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i] != that.arguments[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package nl.smith.mathematics.domain;
+
+import nl.smith.mathematics.domain.StackElement.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.lang.String.format;
+
+/**
+ * Single pass evaluator of a closed {@link ExpressionStack} (shunting-yard).
+ * <p>
+ * The stack elements are copied once into an array in expression order. The compound expressions (and function arguments) are
+ * evaluated by their own evaluators. Evaluation uses an operand stack and an operator stack (arrays with a top index)
+ * and processes the operators by precedence: unary operators, high priority binary operators and binary operators.
+ * Binary operators are left associative.
+ * <p>
+ * The result equals the result of {@link ExpressionStack#digest(Map)}, including the reported unknown variables.
+ * As when digesting a stack, functions and compound expressions are evaluated even if a variable is unknown but operators are not.
+ *
+ * @param <N> The number type
+ */
+final class ExpressionEvaluator<N extends Number> {
+
+    private static final int UNARY_OPERATOR_PRECEDENCE = 3;
+
+    private static final int HIGH_PRIORITY_BINARY_OPERATOR_PRECEDENCE = 2;
+
+    private static final int BINARY_OPERATOR_PRECEDENCE = 1;
+
+    /** The stack elements in expression order. */
+    private final StackElement<N, ?>[] stackElements;
+
+    /** The evaluators of the compound expression stack elements (one for each sibling). */
+    private final ExpressionEvaluator<N>[][] compoundExpressionEvaluators;
+
+    /** The names of the variables (not the variables of the compound expressions). */
+    private final Set<String> variableNames = new TreeSet<>();
+
+    private final int maximumNumberOfOperands;
+
+    ExpressionEvaluator(ExpressionStack<N> expressionStack) {
+        if (expressionStack.getState() != ExpressionStack.State.CLOSED) {
+            throw new IllegalStateException(format("Can not evaluate an expression stack when it is in state %s.", expressionStack.getState()));
+        }
+
+        int size = expressionStack.stackElements.size();
+        stackElements = new StackElement[size];
+        compoundExpressionEvaluators = new ExpressionEvaluator[size][];
+
+        // Note: The first element of the expression is the last element of the stack
+        int i = size;
+        int numberOfOperands = 0;
+        for (StackElement<N, ?> stackElement : expressionStack.stackElements) {
+            stackElements[--i] = stackElement;
+            if (stackElement instanceof CompoundExpressionStackElement) {
+                ExpressionStack<N> compoundExpressionStack = ((CompoundExpressionStackElement<N>) stackElement).getValue();
+                ExpressionEvaluator<N>[] evaluators = new ExpressionEvaluator[compoundExpressionStack.getDimension()];
+                for (int j = 0; j < evaluators.length; j++, compoundExpressionStack = compoundExpressionStack.getSibling()) {
+                    evaluators[j] = new ExpressionEvaluator<>(compoundExpressionStack);
+                }
+
+                compoundExpressionEvaluators[i] = evaluators;
+            }
+
+            if (stackElement instanceof VariableNameStackElement) {
+                variableNames.add(((VariableNameStackElement<N>) stackElement).getValue());
+            }
+
+            if (!(stackElement instanceof MethodMappingStackElement)) {
+                numberOfOperands++;
+            }
+        }
+
+        maximumNumberOfOperands = numberOfOperands;
+    }
+
+    N evaluate(Map<String, N> variables) {
+        N[] operands = (N[]) new Number[maximumNumberOfOperands];
+        int operandsTop = -1;
+        int[] operators = new int[stackElements.length];
+        int operatorsTop = -1;
+        Set<String> unknownVariables = getUnknownVariables(variables);
+        boolean invoke = unknownVariables.isEmpty();
+
+        for (int i = 0; i < stackElements.length; i++) {
+            StackElement<N, ?> stackElement = stackElements[i];
+            if (stackElement instanceof NumberStackElement) {
+                operands[++operandsTop] = ((NumberStackElement<N>) stackElement).getValue();
+            } else if (stackElement instanceof VariableNameStackElement) {
+                operands[++operandsTop] = variables.get(((VariableNameStackElement<N>) stackElement).getValue());
+            } else if (stackElement instanceof CompoundExpressionStackElement) {
+                operands[++operandsTop] = compoundExpressionEvaluators[i][0].evaluate(variables);
+            } else if (stackElement instanceof MathematicalFunctionStackElement) {
+                // Note: The next stack element is the compound expression holding the arguments of the function
+                ExpressionEvaluator<N>[] argumentEvaluators = compoundExpressionEvaluators[++i];
+                N[] arguments = (N[]) new Number[argumentEvaluators.length];
+                for (int j = 0; j < arguments.length; j++) {
+                    arguments[j] = argumentEvaluators[j].evaluate(variables);
+                }
+
+                operands[++operandsTop] = ((MathematicalFunctionStackElement<N>) stackElement).getValue().invokeWithNumbers(arguments);
+            } else if (stackElement instanceof UnaryOperatorStackElement) {
+                operators[++operatorsTop] = i;
+            } else {
+                int precedence = getPrecedence(stackElement);
+                while (operatorsTop >= 0 && getPrecedence(stackElements[operators[operatorsTop]]) >= precedence) {
+                    operandsTop = apply(stackElements[operators[operatorsTop--]], operands, operandsTop, invoke);
+                }
+
+                operators[++operatorsTop] = i;
+            }
+        }
+
+        while (operatorsTop >= 0) {
+            operandsTop = apply(stackElements[operators[operatorsTop--]], operands, operandsTop, invoke);
+        }
+
+        if (!invoke) {
+            throw new IllegalStateException(format("Unknown variable(s) '%s'.", String.join("', '", unknownVariables)));
+        }
+
+        if (operandsTop != 0) {
+            throw new IllegalStateException(format("Expected one operand after evaluating the expression stack but found %d operands.", operandsTop + 1));
+        }
+
+        return operands[0];
+    }
+
+    private Set<String> getUnknownVariables(Map<String, N> variables) {
+        Set<String> unknownVariables = new TreeSet<>();
+        for (String variableName : variableNames) {
+            if (variables.get(variableName) == null) {
+                unknownVariables.add(variableName);
+            }
+        }
+
+        return unknownVariables;
+    }
+
+    /**
+     * Applies the operator to the operand(s) on top of the operand stack and replaces them by the result.
+     * If the operator is not invoked (since a variable is unknown) the result is null.
+     *
+     * @return The new top index of the operand stack
+     */
+    private static <N extends Number> int apply(StackElement<N, ?> operator, N[] operands, int operandsTop, boolean invoke) {
+        MathematicalFunctionMethodMapping<N> methodMapping = ((MethodMappingStackElement<N>) operator).getValue();
+        if (operator instanceof UnaryOperatorStackElement) {
+            operands[operandsTop] = invoke ? methodMapping.invokeWithNumbers(operands[operandsTop]) : null;
+
+            return operandsTop;
+        }
+
+        N secondOperand = operands[operandsTop--];
+        operands[operandsTop] = invoke ? methodMapping.invokeWithNumbers(operands[operandsTop], secondOperand) : null;
+
+        return operandsTop;
+    }
+
+    private static int getPrecedence(StackElement<?, ?> operator) {
+        if (operator instanceof UnaryOperatorStackElement) {
+            return UNARY_OPERATOR_PRECEDENCE;
+        }
+
+        return operator instanceof HighPriorityBinaryOperatorStackElement ? HIGH_PRIORITY_BINARY_OPERATOR_PRECEDENCE : BINARY_OPERATOR_PRECEDENCE;
+    }
+}
@@ -0,0 +1,107 @@
+package nl.smith.mathematics.domain;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.CompilationThreshold;
+
+/**
+ * Compiled form of an expression for a specific number type.
+ * <p>
+ * The plan wraps the closed {@link ExpressionStack} of the expression, i.e. the text has been tokenized and validated
+ * and all operators and functions have been resolved. The plan is immutable: the stack is evaluated in a single pass (see {@link ExpressionEvaluator}),
+ * so a plan can be evaluated repeatedly (and concurrently) using different variables.
+ * <p>
+ * After {@link nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf#CompilationThreshold} evaluations
+ * the plan is compiled (see {@link CompiledExpression}). If the stack can not be compiled the plan keeps evaluating the stack.
+ *
+ * @param <N> The number type
+ */
+public class ExpressionPlan<N extends Number> {
+
+    private final String text;
+
+    private final Class<N> numberType;
+
+    private final ExpressionStack<N> expressionStack;
+
+    private final ExpressionEvaluator<N> expressionEvaluator;
+
+    private final AtomicInteger numberOfEvaluations = new AtomicInteger();
+
+    private volatile CompiledExpression<N> compiledExpression;
+
+    private volatile boolean compilationFailed;
+
+    public ExpressionPlan(String text, Class<N> numberType, ExpressionStack<N> expressionStack) {
+        if (text == null || numberType == null || expressionStack == null) {
+            throw new IllegalArgumentException("Please specify a text, a number type and an expression stack.");
+        }
+
+        if (expressionStack.getState() != ExpressionStack.State.CLOSED || expressionStack.getDimension() != 1) {
+            throw new IllegalStateException(format("Can not create a plan using an expression stack with state %s and dimension %d.%nThe state should be %s and the dimension should be 1.",
+                    expressionStack.getState(),
+                    expressionStack.getDimension(),
+                    ExpressionStack.State.CLOSED));
+        }
+
+        this.text = text;
+        this.numberType = numberType;
+        this.expressionStack = expressionStack;
+        this.expressionEvaluator = new ExpressionEvaluator<>(expressionStack);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Class<N> getNumberType() {
+        return numberType;
+    }
+
+    /**
+     * @param variables Map of variable names and values
+     * @return The value of the expression
+     */
+    public N evaluate(Map<String, N> variables) {
+        CompiledExpression<N> compiledExpression = getCompiledExpression();
+        if (compiledExpression != null && compiledExpression.isEvaluable(variables)) {
+            return compiledExpression.evaluate(variables);
+        }
+
+        return expressionEvaluator.evaluate(variables);
+    }
+
+    /**
+     * @return True if the plan has been compiled
+     */
+    public boolean isCompiled() {
+        return compiledExpression != null;
+    }
+
+    private CompiledExpression<N> getCompiledExpression() {
+        CompiledExpression<N> result = compiledExpression;
+        if (result == null && !compilationFailed && numberOfEvaluations.incrementAndGet() >= CompilationThreshold.value().get()) {
+            synchronized (this) {
+                result = compiledExpression;
+                if (result == null && !compilationFailed) {
+                    try {
+                        result = CompiledExpression.compile(expressionStack);
+                        compiledExpression = result;
+                    } catch (IllegalStateException e) {
+                        // Note: The stack is evaluated (interpreted) instead
+                        compilationFailed = true;
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s (%s)", text, numberType.getSimpleName());
+    }
+}
@@ -267,7 +267,8 @@ public class ExpressionStack<N extends Number> {
                 .digestBinaryOperators();
 
         if (sibling != null) {
-            digestedExpressionStack.setSibling(sibling.digest(variables));
+            // Note: The sibling is assigned directly since setSibling only accepts closed (not digested) stacks
+            digestedExpressionStack.sibling = sibling.digest(variables);
         }
 
         return digestedExpressionStack;
@@ -290,7 +291,19 @@ public class ExpressionStack<N extends Number> {
                 CompoundExpressionStackElement<N> compoundExpressionStackElement = (CompoundExpressionStackElement<N>) stackElement;
                 ExpressionStack<N> subExpressionStack = compoundExpressionStackElement.getValue();
                 ExpressionStack<N> digestedSubExpressionStack = subExpressionStack.digest(variables);
-                if (digestedSubExpressionStack.stackElements.size() == 1) {
+                if (digestedSubExpressionStack.sibling != null) {
+                    // Note: A compound expression with siblings holds the arguments of the preceding function, which is invoked right away
+                    StackElement<N, ?> previousStackElement = digestedExpressionStack.stackElements.peek();
+                    if (!(previousStackElement instanceof MathematicalFunctionStackElement)) {
+                        throw new IllegalStateException(format("A compound expression of dimension %d should be preceded by a stack element of type %s.",
+                                digestedSubExpressionStack.getDimension(),
+                                MathematicalFunctionStackElement.class.getSimpleName()));
+                    }
+
+                    digestedExpressionStack.stackElements.pop();
+                    MathematicalFunctionMethodMapping<N> methodMapping = ((MathematicalFunctionStackElement<N>) previousStackElement).getValue();
+                    digestedExpressionStack.addNumber(methodMapping.invokeWithNumbers(digestedSubExpressionStack.getValues()));
+                } else if (digestedSubExpressionStack.stackElements.size() == 1) {
                     StackElement<N, ?> resultStackElement = digestedSubExpressionStack.stackElements.get(0);
                     if (resultStackElement instanceof NumberStackElement) {
                         NumberStackElement<N> numberStackElement = (NumberStackElement<N>) resultStackElement;
@@ -479,6 +492,24 @@ public class ExpressionStack<N extends Number> {
         return digestedExpressionStack.closeWithState(requestedState);
     }
 
+    /**
+     * @return The values of a digested expression stack and its siblings
+     */
+    private N[] getValues() {
+        List<N> values = new ArrayList<>();
+        for (ExpressionStack<N> expressionStack = this; expressionStack != null; expressionStack = expressionStack.sibling) {
+            StackElement<N, ?> stackElement = expressionStack.stackElements.peek();
+            if (expressionStack.getState() != DIGESTED || !(stackElement instanceof NumberStackElement)) {
+                throw new IllegalStateException(format("Can not retrieve the value of an expression stack in state %s.", expressionStack.getState()));
+            }
+
+            values.add(((NumberStackElement<N>) stackElement).getValue());
+        }
+
+        // Note: The array is passed to the method mapping, which copies its elements into an array of the number type if necessary
+        return (N[]) values.toArray(new Number[0]);
+    }
+
     private static boolean isValidStackSequence(Class<?> previousStackElementClass, Class<?> stackElementClass) {
         if (previousStackElementClass == null) {
             return new HashSet<>(Arrays.asList(
@@ -505,7 +536,8 @@ public class ExpressionStack<N extends Number> {
         }
 
         if (previousStackElementClass == MathematicalFunctionStackElement.class) {
-            return stackElementClass == CompoundExpressionStackElement.class;
+            // Note: During digestion the compound expression holding the argument of the function is replaced by a number
+            return stackElementClass == CompoundExpressionStackElement.class || stackElementClass == NumberStackElement.class;
         }
 
         if (BinaryOperatorStackElement.class.isAssignableFrom(previousStackElementClass)) {
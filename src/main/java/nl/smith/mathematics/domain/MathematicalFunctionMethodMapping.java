@@ -5,8 +5,16 @@ import nl.smith.mathematics.exception.MathematicalFunctionMethodMappingException
 import nl.smith.mathematics.mathematicalfunctions.RecursiveFunctionContainer;
 
 import javax.validation.ConstraintViolationException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,6 +45,10 @@ public class MathematicalFunctionMethodMapping<N extends Number> {
 
     private final MathematicalFunction.Type type;
 
+    private final Class<? extends Number[]> varArgArrayType;
+
+    private volatile MethodHandle methodHandle;
+
     public MathematicalFunctionMethodMapping(RecursiveFunctionContainer<N, ? extends RecursiveFunctionContainer<N, ?>> container, Method method) {
         if (container == null || method == null) {
             throw new IllegalArgumentException("Please specify a container and a method.");
@@ -60,6 +72,7 @@ public class MathematicalFunctionMethodMapping<N extends Number> {
         parameterCount = method.getParameterCount();
         isVararg = method.isVarArgs();
         type = annotation.type();
+        varArgArrayType = (Class<? extends Number[]>) Array.newInstance(container.getNumberType(), 0).getClass();
 
         if (!name.matches(type.getRegex())) {
             throw new IllegalStateException(format("The name '%s' can not be used to reference a method(%s) of type %s.%nThe name should comply to the regular expression '%s'", name, method, type, type.getRegex()));
@@ -101,45 +114,136 @@ public class MathematicalFunctionMethodMapping<N extends Number> {
     }
 
     public N invokeWithNumbers(N... arguments) {
-        Object[] invocationParameters = getInvocationParameters(arguments);
+        MethodHandle methodHandle = getMethodHandle();
         try {
-            // Note: We have to use the sibling container since this is the @Validated container.
-            return (N) method.invoke(container.getSibling(), invocationParameters);
-        } catch (InvocationTargetException e) {
-            Throwable targetException = e.getTargetException();
-            if (targetException instanceof ConstraintViolationException) {
-                ConstraintViolationException constraintViolationException = (ConstraintViolationException) targetException;
-                throw new IllegalArgumentException(constraintViolationException.getMessage());
+            return (N) (Number) methodHandle.invokeExact(getInvocationParameters(arguments));
+        } catch (Throwable e) {
+            throw getInvocationException(e, arguments);
+        }
+    }
+
+    /**
+     * @return A typed view of a method accepting one argument. The argument is passed without creating an array of invocation parameters.
+     */
+    public UnaryOperator<N> asUnaryOperator() {
+        MethodHandle methodHandle = getMethodHandle(1);
+
+        return argument -> {
+            try {
+                return (N) (Number) methodHandle.invokeExact((Number) argument);
+            } catch (Throwable e) {
+                throw getInvocationException(e, argument);
             }
-            throw new MathematicalFunctionMethodMappingException(format("Can not invoke method %s.", signature), e, this, arguments);
-        } catch (IllegalAccessException e) {
-            throw new MathematicalFunctionMethodMappingException(format("Can not invoke method %s.", signature), e, this, arguments);
+        };
+    }
+
+    /**
+     * @return A typed view of a method accepting two arguments. The arguments are passed without creating an array of invocation parameters.
+     */
+    public BinaryOperator<N> asBinaryOperator() {
+        MethodHandle methodHandle = getMethodHandle(2);
+
+        return (argument1, argument2) -> {
+            try {
+                return (N) (Number) methodHandle.invokeExact((Number) argument1, (Number) argument2);
+            } catch (Throwable e) {
+                throw getInvocationException(e, argument1, argument2);
+            }
+        };
+    }
+
+    /**
+     * @return A typed view of a method accepting an array of the specified number of arguments.
+     */
+    public Function<N[], N> asFunction(int numberOfArguments) {
+        MethodHandle methodHandle = getMethodHandle(numberOfArguments).asSpreader(Number[].class, numberOfArguments);
+
+        return arguments -> {
+            try {
+                return (N) (Number) methodHandle.invokeExact((Number[]) arguments);
+            } catch (Throwable e) {
+                throw getInvocationException(e, arguments);
+            }
+        };
+    }
+
+    private void assertParameterCount(int numberOfArguments) {
+        if (isVararg ? parameterCount - 1 > numberOfArguments : parameterCount != numberOfArguments) {
+            throw new IllegalStateException(format("The method %s does not accept %d argument(s).", signature, numberOfArguments));
         }
     }
 
-    @SafeVarargs
-    private <N extends Number> Object[] getInvocationParameters(N... arguments) {
-        Object[] parameters = new Object[parameterCount];
+    private RuntimeException getInvocationException(Throwable e, Number... arguments) {
+        if (e instanceof ConstraintViolationException) {
+            return new IllegalArgumentException(e.getMessage());
+        }
+
+        if (e instanceof Exception) {
+            return new MathematicalFunctionMethodMappingException(format("Can not invoke method %s.", signature), (Exception) e, this, arguments);
+        }
 
+        throw (Error) e;
+    }
+
+    /**
+     * The method handle is bound to the sibling container (the @Validated container) and accepts the invocation parameters as an array.
+     * Since the sibling is set after instantiation of the container the method handle is created at first invocation.
+     */
+    private MethodHandle getMethodHandle() {
+        MethodHandle result = methodHandle;
+        if (result == null) {
+            result = getBoundMethodHandle()
+                    .asSpreader(Object[].class, parameterCount)
+                    .asType(MethodType.methodType(Number.class, Object[].class));
+
+            methodHandle = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * The method handle is bound to the sibling container and accepts the specified number of arguments (of type {@link Number}).
+     * The trailing arguments of a vararg method are collected in an array of the number type.
+     */
+    private MethodHandle getMethodHandle(int numberOfArguments) {
+        assertParameterCount(numberOfArguments);
+
+        MethodHandle result = getBoundMethodHandle();
         if (isVararg) {
-            int numberOfExplicitlyDeclaredParameters = parameterCount - 1;
+            result = result.asCollector(varArgArrayType, numberOfArguments - (parameterCount - 1));
+        }
 
-            if (numberOfExplicitlyDeclaredParameters >= 0)
-                System.arraycopy(arguments, 0, parameters, 0, numberOfExplicitlyDeclaredParameters);
+        return result.asType(MethodType.methodType(Number.class, Collections.<Class<?>>nCopies(numberOfArguments, Number.class)));
+    }
 
-            int numberOfVarArgParameters = arguments.length - numberOfExplicitlyDeclaredParameters;
-            Object varArgParameters = Array.newInstance(container.getNumberType(), numberOfVarArgParameters);
-            for (int i = 0; i < arguments.length - numberOfExplicitlyDeclaredParameters; i++) {
-                Array.set(varArgParameters, i, arguments[numberOfExplicitlyDeclaredParameters + i]);
-            }
+    private MethodHandle getBoundMethodHandle() {
+        if (container.getSibling() == null) {
+            throw new IllegalStateException(format("Can not invoke method %s. The sibling of the container %s has not been set.", signature, container.getClass().getCanonicalName()));
+        }
 
-            parameters[parameterCount - 1] = varArgParameters;
-        } else {
-            parameters = arguments;
+        try {
+            return MethodHandles.publicLookup().unreflect(method)
+                    .asFixedArity()
+                    .bindTo(container.getSibling());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(format("Can not access method %s.", signature), e);
         }
+    }
 
-        return parameters;
+    @SafeVarargs
+    private <N extends Number> Object[] getInvocationParameters(N... arguments) {
+        if (!isVararg) {
+            return arguments;
+        }
 
+        Object[] parameters = new Object[parameterCount];
+        int numberOfExplicitlyDeclaredParameters = parameterCount - 1;
+        System.arraycopy(arguments, 0, parameters, 0, numberOfExplicitlyDeclaredParameters);
+        // Note: The array of the vararg parameters should be of the number type (the implementing method does not accept a Number[])
+        parameters[numberOfExplicitlyDeclaredParameters] = Arrays.copyOfRange(arguments, numberOfExplicitlyDeclaredParameters, arguments.length, varArgArrayType);
+
+        return parameters;
     }
 
     @Override
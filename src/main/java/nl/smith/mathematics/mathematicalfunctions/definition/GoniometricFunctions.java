@@ -24,12 +24,10 @@ public abstract class GoniometricFunctions<N extends Number, S extends Goniometr
    */
   @MathematicalFunction (description = "The sinus of an angle")
   //TODO Test implementations
-  //TODO Implement Modulo
   public abstract N sin(@NotNull N angle);
 
   @MathematicalFunction (description = "The cosines of an angle")
   //TODO Test implementations
-  //TODO Implement Modulo
   //TODO Change implementation cos(x) = f(sin(x))
   public abstract N cos(@NotNull N angle);
 
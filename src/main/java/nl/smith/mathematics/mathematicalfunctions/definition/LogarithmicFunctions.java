@@ -3,11 +3,12 @@ package nl.smith.mathematics.mathematicalfunctions.definition;
 import nl.smith.mathematics.annotation.MathematicalFunction;
 import nl.smith.mathematics.annotation.MathematicalFunctionContainer;
 import nl.smith.mathematics.annotation.constraint.mathematicalfunctionargument.IsLargerThan;
+import nl.smith.mathematics.annotation.constraint.mathematicalfunctionargument.IsNaturalNumber;
 import nl.smith.mathematics.mathematicalfunctions.RecursiveFunctionContainer;
 
 import javax.validation.constraints.NotNull;
 
-@MathematicalFunctionContainer(name = "Logarithmic methods", description = "Logarithmic methods: exp, ln, power, sqrt")
+@MathematicalFunctionContainer(name = "Logarithmic methods", description = "Logarithmic methods: exp, ln, power, sqrt, root")
 public abstract class LogarithmicFunctions<N extends Number, S extends LogarithmicFunctions<N, S>> extends RecursiveFunctionContainer<N, S> {
 
   public LogarithmicFunctions() {
@@ -37,6 +38,12 @@ public abstract class LogarithmicFunctions<N extends Number, S extends Logarithm
    *     ln(1 + x) = 0 + x -∑ x Tᵢ₋₁ (i - 1)/i T₁ = x
    *                       i=2
    *
+   *                                 ∞
+   *     ln(x) = 2 atanh(s) = 2 ∑ s²ⁱ⁺¹/(2i + 1)   s = (x - 1)/(x + 1)
+   *                                i=0
+   *
+   *     ln(2ᵏm) = k ln(2) + ln(m)   (implementations reduce the argument to 2/3 ≤ m ≤ 4/3, so |s| ≤ 1/5)
+   *
    */
   @MathematicalFunction(description = "The natural logarithm of a number")
   //TODO test implementations and constraint
@@ -53,8 +60,10 @@ public abstract class LogarithmicFunctions<N extends Number, S extends Logarithm
   public abstract N power(@NotNull N number, @NotNull N power);
 
   @MathematicalFunction(description = "The square root of a number")
-  //TODO test implementations and constraint
-  // Other implementation
-  public abstract N sqrt(@NotNull N number);
+  public abstract N sqrt(@NotNull @IsLargerThan(value = "0", includingBoundary = true) N number);
+
+  /** Note: Roots of odd degree of negative numbers are negative, roots of even degree of negative numbers do not exist. */
+  @MathematicalFunction(description = "The nth root of a number")
+  public abstract N root(@NotNull N number, @NotNull @IsNaturalNumber @IsLargerThan("0") N n);
 
 }
@@ -0,0 +1,118 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.NumberUtil;
+
+import java.math.BigInteger;
+
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType.PredefinedType.DEG;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType.PredefinedType.RAD;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.Scale;
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.PI;
+
+/**
+ * Reduces an angle (unit as specified by {@link AngleType}) to an angle 0 &lt;= z &lt;= π/4 (radians) such that sin(angle) and cos(angle) equal ±sin(z) or ±cos(z).
+ * The Taylor polynomials of sin and cos rapidly converge for these small angles. Used by the goniometric functions of all number types.
+ * <pre>
+ * 1. Full turns are removed: r = |angle| mod turn (turn = 2π, 360 degrees or 400 gradients)
+ * 2. Quadrant:               r = j * quarter + y (0 &lt;= y &lt; quarter)
+ *                            sin(r) = sin(y), cos(y), -sin(y), -cos(y) and cos(r) = cos(y), -sin(y), -cos(y), sin(y) (j = 0, 1, 2, 3)
+ * 3. Octant:                 y &gt; eighth is replaced by quarter - y (sin(y) = cos(quarter - y) and cos(y) = sin(quarter - y))
+ * 4. The result is converted into radians
+ * </pre>
+ * Degrees and gradients are reduced exactly. Radians are reduced using {@link MathematicalConstant#PI} approximated to a working precision
+ * of {@link nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf#Scale} digits plus the number of digits of the angle
+ * (the error of π is multiplied by the number of turns) plus {@value #GUARD_DIGITS} guard digits.
+ */
+public class AngleReduction {
+
+    private static final int GUARD_DIGITS = 3;
+
+    /** Lower bound of π/4. Smaller angles (radians) are not reduced. */
+    private static final RationalNumber LOWER_BOUND_QUARTER_PI = RationalNumber.valueOf(785, 1000);
+
+    /** Reduced angle in radians (0 &lt;= angle &lt;= π/4). */
+    private final RationalNumber angle;
+
+    /** True if the cosine (instead of the sine) of the reduced angle must be determined. */
+    private final boolean cosine;
+
+    /** True if the sine or cosine of the reduced angle must be negated. */
+    private final boolean negative;
+
+    private AngleReduction(RationalNumber angle, boolean cosine, boolean negative) {
+        this.angle = angle;
+        this.cosine = cosine;
+        this.negative = negative;
+    }
+
+    /**
+     * sin(angle) = ±sin(z) or ±cos(z)
+     */
+    public static AngleReduction ofSin(RationalNumber angle) {
+        assertIsAngle(angle);
+
+        return of(angle.abs(), false, angle.signum() < 0);
+    }
+
+    /**
+     * cos(angle) = ±sin(z) or ±cos(z)
+     */
+    public static AngleReduction ofCos(RationalNumber angle) {
+        assertIsAngle(angle);
+
+        return of(angle.abs(), true, false);
+    }
+
+    public RationalNumber getAngle() {
+        return angle;
+    }
+
+    public boolean isCosine() {
+        return cosine;
+    }
+
+    public boolean isNegative() {
+        return negative;
+    }
+
+    private static void assertIsAngle(RationalNumber angle) {
+        if (angle == null) {
+            throw new IllegalArgumentException("An angle must be specified (not be null)");
+        }
+    }
+
+    private static AngleReduction of(RationalNumber angle, boolean cosine, boolean negative) {
+        AngleType.PredefinedType angleType = AngleType.value().get();
+        if (angleType == RAD && angle.compareTo(LOWER_BOUND_QUARTER_PI) <= 0) {
+            return new AngleReduction(angle, cosine, negative);
+        }
+
+        RationalNumber pi = PI.valueOf(new RationalNumber(BigInteger.ONE, NumberUtil.powerOfTen(Scale.value().get() + angle.bigIntValue().bitLength() * 3 / 10 + 1 + GUARD_DIGITS)));
+        RationalNumber turn = angleType == RAD ? pi.multiply(2) : RationalNumber.valueOf(angleType == DEG ? 360 : 400);
+        RationalNumber quarter = turn.divide(4);
+
+        RationalNumber[] quadrantAndAngle = angle.divideAndRemainder(turn)[1].divideAndRemainder(quarter);
+        int quadrant = quadrantAndAngle[0].intValue();
+        RationalNumber reducedAngle = quadrantAndAngle[1];
+
+        if (cosine) {
+            negative = quadrant == 1 || quadrant == 2;
+        } else {
+            negative ^= quadrant >= 2;
+        }
+        cosine ^= quadrant % 2 == 1;
+
+        if (reducedAngle.compareTo(quarter.divide(2)) > 0) {
+            reducedAngle = quarter.subtract(reducedAngle);
+            cosine = !cosine;
+        }
+
+        if (angleType != RAD) {
+            reducedAngle = reducedAngle.multiply(pi).divide(angleType == DEG ? 180 : 200);
+        }
+
+        return new AngleReduction(reducedAngle, cosine, negative);
+    }
+}
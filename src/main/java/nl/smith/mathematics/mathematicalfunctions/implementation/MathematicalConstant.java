@@ -0,0 +1,128 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.BinarySplittingSeries;
+import nl.smith.mathematics.util.NumberUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static java.lang.String.format;
+
+/**
+ * Mathematical constants evaluated to the requested precision using binary splitting (see {@link BinarySplittingSeries}).
+ * <p>
+ * The values are cached per precision (number of bits). The precision is rounded up to a multiple of {@value #PRECISION_TIER} bits
+ * so requests of about the same precision share the cached value. A request is served by the least precise cached value which meets the requested precision,
+ * which keeps the numerators and denominators (and so the costs of the calculations using the value) as small as possible.
+ */
+public enum MathematicalConstant {
+
+    /**
+     * π = 426880 √10005 / Σ (-1)^i (6i)! (13591409 + 545140134 i) / ((3i)! (i!)^3 640320^(3i)) (Chudnovsky).
+     * <p>
+     * Note: Each term of the series adds more than 45 bits. The square root of 10005 is truncated at 2^-bits, which contributes less than 2^-(bits + 4).
+     */
+    PI {
+        @Override
+        RationalNumber evaluate(int bits) {
+            RationalNumber series = CHUDNOVSKY_SERIES.sum(bits / 45 + 1).multiply(CHUDNOVSKY_A);
+            RationalNumber squareRoot = new RationalNumber(NumberUtil.root(BigInteger.valueOf(10005).shiftLeft(2 * bits), 2), BigInteger.ONE.shiftLeft(bits));
+
+            return squareRoot.multiply(426880).divide(series);
+        }
+    },
+
+    /**
+     * e = Σ 1 / i!
+     * <p>
+     * Note: The remainder of the polynomial of degree n does not exceed 2 / (n + 1)!.
+     */
+    EULER {
+        @Override
+        RationalNumber evaluate(int bits) {
+            int n = 0;
+            double log2Factorial = 0;
+            while (log2Factorial < bits + 2) {
+                n++;
+                log2Factorial += Math.log(n + 1) / Math.log(2);
+            }
+
+            return EULER_SERIES.sum(n);
+        }
+    },
+
+    /**
+     * ln(2) = 2 atanh(1/3) = (2/3) Σ (1/9)^i / (2i + 1)
+     * <p>
+     * Note: The remainder of the polynomial of degree n does not exceed 9^-(n + 1) &lt;= 2^-(3n + 3).
+     */
+    LN_2 {
+        @Override
+        RationalNumber evaluate(int bits) {
+            return LN_2_SERIES.sum(bits / 3 + 1).multiply(RationalNumber.valueOf(2, 3));
+        }
+    };
+
+    private static final int PRECISION_TIER = 64;
+
+    private static final long CHUDNOVSKY_A = 13591409;
+
+    private static final long CHUDNOVSKY_B = 545140134;
+
+    /** 640320^3 / 24 */
+    private static final BigInteger CHUDNOVSKY_C = BigInteger.valueOf(640320).pow(3).divide(BigInteger.valueOf(24));
+
+    /** T(i) / T(i - 1) = -(6i - 5)(2i - 1)(6i - 1)(A + Bi) / (i^3 C (A + B(i - 1))), T(0) = 1 */
+    private static final BinarySplittingSeries CHUDNOVSKY_SERIES = new BinarySplittingSeries(
+            i -> BigInteger.valueOf(6 * i - 5).multiply(BigInteger.valueOf(2 * i - 1)).multiply(BigInteger.valueOf(6 * i - 1))
+                    .multiply(BigInteger.valueOf(CHUDNOVSKY_A + CHUDNOVSKY_B * i)).negate(),
+            i -> BigInteger.valueOf(i).pow(3).multiply(CHUDNOVSKY_C).multiply(BigInteger.valueOf(CHUDNOVSKY_A + CHUDNOVSKY_B * (i - 1))));
+
+    private static final BinarySplittingSeries EULER_SERIES = new BinarySplittingSeries(i -> BigInteger.ONE, BigInteger::valueOf);
+
+    private static final BinarySplittingSeries LN_2_SERIES = new BinarySplittingSeries(i -> BigInteger.valueOf(2 * i - 1), i -> BigInteger.valueOf(9 * (2 * i + 1)));
+
+    /** Values (key: precision in bits) which do not differ more than 2^-precision from the constant. */
+    private final ConcurrentSkipListMap<Integer, RationalNumber> values = new ConcurrentSkipListMap<>();
+
+    /**
+     * @return the constant within the specified maximum error
+     */
+    public RationalNumber valueOf(RationalNumber maxError) {
+        if (maxError == null || maxError.signum() <= 0) {
+            throw new IllegalArgumentException(format("The maximum error must be positive (%s)", maxError));
+        }
+
+        // Note: 2^-bits <= maxError
+        int bits = Math.max(maxError.getDenominator().bitLength() - maxError.getNumerator().bitLength() + 1, 1);
+        Map.Entry<Integer, RationalNumber> cached = values.ceilingEntry(bits);
+        if (cached != null) {
+            return cached.getValue();
+        }
+
+        // Note: Both the evaluation and the approximation contribute at most 2^-(precision + 1)
+        int precision = (bits / PRECISION_TIER + 1) * PRECISION_TIER;
+        RationalNumber value = evaluate(precision + 1).approximate(new RationalNumber(BigInteger.ONE, BigInteger.ONE.shiftLeft(precision + 1)));
+
+        return values.computeIfAbsent(precision, p -> value);
+    }
+
+    /**
+     * @return the constant rounded (half even) to the specified scale
+     */
+    public BigDecimal valueOf(int scale) {
+        // Note: The value is within 10^-scale / 4, so the rounding is only affected if the constant is (almost) halfway between two decimals
+        RationalNumber value = valueOf(new RationalNumber(BigInteger.ONE, NumberUtil.powerOfTen(scale).shiftLeft(2)));
+
+        return new BigDecimal(value.getNumerator()).divide(new BigDecimal(value.getDenominator()), scale, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * @return a value which does not differ more than 2^-bits from the constant
+     */
+    abstract RationalNumber evaluate(int bits);
+}
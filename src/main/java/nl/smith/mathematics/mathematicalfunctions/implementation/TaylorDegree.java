@@ -0,0 +1,165 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.ThreadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination.PredefinedType.CONVERGENCE;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.TaylorDegreeOfPolynom;
+
+/**
+ * Degree of an evaluated Taylor polynomial.
+ * <p>
+ * Using {@link TaylorTermination.PredefinedType#FIXED} polynomials are of degree {@link nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf#TaylorDegreeOfPolynom}.
+ * Using {@link TaylorTermination.PredefinedType#CONVERGENCE} polynomials are of the lowest degree for which a bound of the remainder does not exceed the maximum error,
+ * the configured degree is the maximum degree.
+ * <p>
+ * The degree of the most recently evaluated polynomial is stored in the {@link ThreadContext} (see {@link #getLast()}).
+ * A polynomial of which the remainder bound exceeds the maximum error is reported as not converged (and logged).
+ */
+public class TaylorDegree {
+
+    /** Name of the thread context property containing the degree of the most recently evaluated polynomial. */
+    public static final String PROPERTY_NAME = "taylorDegree";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaylorDegree.class);
+
+    private static final double LN_2 = Math.log(2);
+
+    /** Name of the function of which the Taylor polynomial is evaluated. */
+    private final String function;
+
+    private final int degree;
+
+    private final boolean converged;
+
+    private TaylorDegree(String function, int degree, boolean converged) {
+        this.function = function;
+        this.degree = degree;
+        this.converged = converged;
+    }
+
+    /**
+     * Determines the degree of a polynomial with terms x^i / i! (exp, sin and cos).
+     * <p>
+     * Once n + 2 &gt;= 2|x| the ratio of consecutive terms |x| / (n + 2) does not exceed 1/2. The remainder of the polynomial of degree n then does not exceed
+     * 2|x|^(n + 1) / (n + 1)! (this bound also holds for the alternating polynomials of sin and cos).
+     */
+    public static TaylorDegree ofFactorialSeries(String function, RationalNumber x, RationalNumber maxError) {
+        int maxDegree = TaylorDegreeOfPolynom.value().get();
+        double absoluteX = x.abs().doubleValue();
+        double log2X = log2(x.abs());
+        double log2MaxError = log2(maxError);
+
+        // Note: log2 of the term of degree n + 1 (after its update at the start of iteration n)
+        double log2Term = 0;
+        for (int n = 0; n <= maxDegree; n++) {
+            log2Term += log2X - log2(n + 1);
+            if (n + 2 >= 2 * absoluteX && getLog2Bound(1 + log2Term) <= log2MaxError) {
+                return report(function, n, true);
+            }
+        }
+
+        return report(function, maxDegree, false);
+    }
+
+    /**
+     * Determines the degree of a polynomial with terms 2s^(2i + 1) / (2i + 1) (ln(x) = 2 atanh(s) where s = (x - 1) / (x + 1)).
+     * <p>
+     * For |s| &lt; 1 the remainder of the polynomial of degree n does not exceed 2|s|^(2n + 3) / ((2n + 3)(1 - s^2)).
+     */
+    public static TaylorDegree ofLogarithmicSeries(String function, RationalNumber s, RationalNumber maxError) {
+        int maxDegree = TaylorDegreeOfPolynom.value().get();
+        RationalNumber absoluteS = s.abs();
+        if (absoluteS.compareTo(1) >= 0) {
+            return report(function, maxDegree, false);
+        }
+
+        double log2S = log2(absoluteS);
+        double log2MaxError = log2(maxError);
+        double log2Denominator = log2(RationalNumber.ONE.subtract(absoluteS.multiply(absoluteS)));
+        for (int n = 0; n <= maxDegree; n++) {
+            if (getLog2Bound(1 + (2 * n + 3) * log2S - log2(2 * n + 3) - log2Denominator) <= log2MaxError) {
+                return report(function, n, true);
+            }
+        }
+
+        return report(function, maxDegree, false);
+    }
+
+    /**
+     * Stores the degree of an evaluated polynomial in the thread context.
+     * In case of {@link TaylorTermination.PredefinedType#FIXED} the configured degree is stored (whether or not the polynomial converged at a lower degree).
+     */
+    public static TaylorDegree report(String function, int degree, boolean converged) {
+        int maxDegree = TaylorDegreeOfPolynom.value().get();
+        TaylorDegree taylorDegree = new TaylorDegree(function, isConvergenceDriven() ? degree : maxDegree, converged);
+        ThreadContext.setValue(PROPERTY_NAME, taylorDegree);
+
+        if (converged) {
+            LOGGER.debug("Evaluated Taylor polynomial of {} using degree {}", function, taylorDegree.degree);
+        } else {
+            LOGGER.warn("The Taylor polynomial of {} did not converge within the maximum degree {}", function, maxDegree);
+        }
+
+        return taylorDegree;
+    }
+
+    /**
+     * @return The degree of the most recently evaluated polynomial in the current thread
+     */
+    public static Optional<TaylorDegree> getLast() {
+        return ThreadContext.getValue(PROPERTY_NAME, TaylorDegree.class);
+    }
+
+    public static boolean isConvergenceDriven() {
+        return TaylorTermination.value().get() == CONVERGENCE;
+    }
+
+    public String getFunction() {
+        return function;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s: degree %d (%s)", function, degree, converged ? "converged" : "not converged");
+    }
+
+    /**
+     * The bound of the remainder is doubled to compensate for rounding errors of the floating point logarithms.
+     */
+    private static double getLog2Bound(double log2Bound) {
+        return 1 + log2Bound;
+    }
+
+    private static double log2(int number) {
+        return Math.log(number) / LN_2;
+    }
+
+    /**
+     * @return log2 of a non negative rational number (negative infinity for zero)
+     */
+    private static double log2(RationalNumber number) {
+        return number.signum() == 0 ? Double.NEGATIVE_INFINITY : log2(number.getNumerator()) - log2(number.getDenominator());
+    }
+
+    private static double log2(BigInteger number) {
+        int shift = Math.max(number.bitLength() - Long.SIZE + 2, 0);
+
+        return shift + Math.log(number.shiftRight(shift).doubleValue()) / LN_2;
+    }
+}
@@ -3,9 +3,13 @@ package nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
 import nl.smith.mathematics.mathematicalfunctions.definition.GoniometricFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.AngleReduction;
+import nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree;
+import nl.smith.mathematics.numbertype.RationalNumber;
 import org.springframework.context.annotation.Bean;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
@@ -16,6 +20,13 @@ public class BigDecimalGoniometricFunctions extends GoniometricFunctions<BigDeci
 
     private static final String SIBLING_BEAN_NAME = "BIG_DECIMAL_GONIOMETRIC_FUNCTIONS";
 
+    /** Number of times the reduced angle is halved (half-angle reduction). */
+    private static final int HALVINGS = 4;
+
+    private static final int GUARD_DIGITS = 3;
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
     @Override
     public String getSiblingBeanName() {
         return SIBLING_BEAN_NAME;
@@ -28,43 +39,93 @@ public class BigDecimalGoniometricFunctions extends GoniometricFunctions<BigDeci
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Note: The angle is reduced to at most π/4 (see {@link AngleReduction}) and halved {@value #HALVINGS} times.
+     * The sine and cosine of the halved angle are doubled using sin(2x) = 2sin(x)cos(x) and cos(2x) = 1 - 2sin²(x).
      */
     @Override
     public BigDecimal sin(BigDecimal angle) {
+        return evaluate(AngleReduction.ofSin(RationalNumber.valueOf(angle)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: See {@link #sin(BigDecimal)} for the reduction of the angle.
+     */
+    @Override
+    public BigDecimal cos(BigDecimal angle) {
+        return evaluate(AngleReduction.ofCos(RationalNumber.valueOf(angle)));
+    }
+
+    private BigDecimal evaluate(AngleReduction reduction) {
+        Integer scale = Scale.value().get();
+        java.math.RoundingMode roundingMode = RoundingMode.value().get().mathRoundingMode();
+
+        // Note: Intermediate results carry guard digits to compensate the errors multiplied by doubling the angle
+        int workingScale = scale + GUARD_DIGITS;
+        BigDecimal halvedAngle = reduction.getAngle().divide(1L << HALVINGS).toBigDecimal(new MathContext(workingScale, roundingMode));
+        BigDecimal sin = sinTaylor(halvedAngle, workingScale, roundingMode);
+        BigDecimal cos = cosTaylor(halvedAngle, workingScale, roundingMode);
+        for (int i = 0; i < HALVINGS; i++) {
+            BigDecimal doubledSin = TWO.multiply(sin).multiply(cos).setScale(workingScale, roundingMode);
+            cos = ONE.subtract(TWO.multiply(sin).multiply(sin)).setScale(workingScale, roundingMode);
+            sin = doubledSin;
+        }
+
+        BigDecimal value = (reduction.isCosine() ? cos : sin).setScale(scale, roundingMode);
+
+        return reduction.isNegative() ? value.negate() : value;
+    }
+
+    /**
+     * Note: The polynomial is alternating and the angle is smaller than one so the remainder does not exceed the absolute value of the last term.
+     */
+    private BigDecimal sinTaylor(BigDecimal angle, int scale, java.math.RoundingMode roundingMode) {
         BigDecimal sum = ZERO;
 
         int iMax = TaylorDegreeOfPolynom.value().get();
         if (iMax > 0) {
-            Integer scale = Scale.value().get();
-            java.math.RoundingMode roundingMode = RoundingMode.value().get().mathRoundingMode();
-
+            BigDecimal tolerance = ONE.movePointLeft(scale);
             BigDecimal T = angle;
             sum = sum.add(T);
             BigDecimal squareAngle = angle.multiply(angle);
-            for (long i = 3; i <= iMax; i = i + 2) {
+            int degree = 1;
+            boolean converged = T.abs().compareTo(tolerance) <= 0;
+            for (int i = 3; i <= iMax && !(converged && TaylorDegree.isConvergenceDriven()); i = i + 2) {
                 T = T.multiply(squareAngle).divide(new BigDecimal(i), scale, roundingMode).divide(new BigDecimal(i - 1), scale, roundingMode).negate();
                 sum = sum.add(T);
+                degree = i;
+                converged = T.abs().compareTo(tolerance) <= 0;
             }
+
+            TaylorDegree.report("sin", degree, converged);
         }
 
         return sum;
     }
 
-    @Override
-    public BigDecimal cos(BigDecimal angle) {
+    /**
+     * Note: See {@link #sinTaylor(BigDecimal, int, java.math.RoundingMode)}.
+     */
+    private BigDecimal cosTaylor(BigDecimal angle, int scale, java.math.RoundingMode roundingMode) {
         BigDecimal sum = ONE;
 
         int iMax = TaylorDegreeOfPolynom.value().get();
         if (iMax > 0) {
-            Integer scale = Scale.value().get();
-            java.math.RoundingMode roundingMode = RoundingMode.value().get().mathRoundingMode();
-
+            BigDecimal tolerance = ONE.movePointLeft(scale);
             BigDecimal T = ONE;
             BigDecimal squareAngle = angle.multiply(angle);
-            for (long i = 2; i <= iMax; i = i + 2) {
+            int degree = 0;
+            boolean converged = false;
+            for (int i = 2; i <= iMax && !(converged && TaylorDegree.isConvergenceDriven()); i = i + 2) {
                 T = T.multiply(squareAngle).divide(new BigDecimal(i), scale, roundingMode).divide(new BigDecimal(i - 1), scale, roundingMode).negate();
                 sum = sum.add(T);
+                degree = i;
+                converged = T.abs().compareTo(tolerance) <= 0;
             }
+
+            TaylorDegree.report("cos", degree, converged);
         }
 
         return sum;
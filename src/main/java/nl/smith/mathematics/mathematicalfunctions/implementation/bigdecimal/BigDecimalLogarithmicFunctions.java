@@ -2,21 +2,38 @@ package nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal;
 
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
-import nl.smith.mathematics.configuration.constant.NumberConstant;
 import nl.smith.mathematics.mathematicalfunctions.definition.LogarithmicFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.NumberUtil;
 import org.springframework.context.annotation.Bean;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 
+import static java.lang.String.format;
 import static java.math.BigDecimal.ONE;
-import static java.math.BigDecimal.ZERO;
 import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.Scale;
 import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.TaylorDegreeOfPolynom;
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.LN_2;
 
 public class BigDecimalLogarithmicFunctions extends LogarithmicFunctions<BigDecimal, BigDecimalLogarithmicFunctions> {
 
     private final static String SIBLING_BEAN_NAME = "BIG_DECIMAL_LOGARITHMIC_FUNCTIONS";
 
+    private static final int GUARD_DIGITS = 3;
+
+    private static final int SEED_DIGITS = 16;
+
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private static final BigDecimal THREE = BigDecimal.valueOf(3);
+
+    private static final BigDecimal FOUR = BigDecimal.valueOf(4);
+
     @Override
     public String getSiblingBeanName() {
         return SIBLING_BEAN_NAME;
@@ -28,67 +45,218 @@ public class BigDecimalLogarithmicFunctions extends LogarithmicFunctions<BigDeci
         return new BigDecimalLogarithmicFunctions();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: e^number = e^k * e^remainder where k is the integral part of the number (see {@link EulerPowers}) and |remainder| &lt; 1.
+     */
     //TODO Tests
     @Override
     public BigDecimal exp(BigDecimal number) {
+        int scale = Scale.value().get();
+        java.math.RoundingMode roundingMode = RoundingMode.value().get().mathRoundingMode();
+
+        BigInteger integralPart = number.toBigInteger();
+        if (integralPart.signum() == 0) {
+            return exp(number, scale, roundingMode);
+        }
+
+        int k = integralPart.abs().intValueExact();
+        BigDecimal remainder = number.subtract(new BigDecimal(integralPart));
+        if (integralPart.signum() < 0) {
+            // Note: Both e^remainder and e^-k do not exceed one
+            return exp(remainder, scale + GUARD_DIGITS, roundingMode).divide(EulerPowers.pow(k, scale + GUARD_DIGITS), scale, roundingMode);
+        }
+
+        // Note: e^k has less than k / 2 + 1 integral digits. The absolute errors of both factors are multiplied by (about) e^k.
+        int integralDigits = k / 2 + 1;
+        BigDecimal eulerPower = EulerPowers.pow(k, scale + GUARD_DIGITS + integralDigits + 1);
+
+        return eulerPower.multiply(exp(remainder, scale + GUARD_DIGITS + integralDigits, roundingMode)).setScale(scale, roundingMode);
+    }
+
+    /**
+     * Taylor polynomial of e^number (|number| &lt; 1).
+     * <p>
+     * Note: Once 2|number| &lt;= i + 1 the ratio of consecutive terms does not exceed 1/2 so the remainder does not exceed the absolute value of the term T(i).
+     */
+    private BigDecimal exp(BigDecimal number, int scale, java.math.RoundingMode roundingMode) {
+        BigDecimal tolerance = ONE.movePointLeft(scale);
+        BigDecimal doubleAbsoluteNumber = number.abs().multiply(TWO);
+
         BigDecimal T = ONE;
         BigDecimal sum = T;
-        for (int i = 1; i <= TaylorDegreeOfPolynom.value().get(); i++) {
-            T = T.multiply(number).divide(new BigDecimal(i), Scale.value().get(), RoundingMode.value().get().mathRoundingMode());
+        int iMax = TaylorDegreeOfPolynom.value().get();
+        int degree = 0;
+        boolean converged = false;
+        for (int i = 1; i <= iMax && !(converged && TaylorDegree.isConvergenceDriven()); i++) {
+            T = T.multiply(number).divide(new BigDecimal(i), scale, roundingMode);
             sum = sum.add(T);
+            degree = i;
+            converged = doubleAbsoluteNumber.compareTo(BigDecimal.valueOf(i + 1)) <= 0 && T.abs().compareTo(tolerance) <= 0;
         }
 
+        TaylorDegree.report("exp", degree, converged);
+
         return sum;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: ln(number) = k ln(2) + 2 atanh(s) where number = 2^k * m, 2/3 &lt;= m &lt;= 4/3 and s = (m - 1) / (m + 1) (see {@link nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant#LN_2}).
+     * The ratio of consecutive terms of the series does not exceed s^2 &lt;= 1/25 so the remainder does not exceed the absolute value of the term T(i).
+     */
     //TODO Tests
     @Override
     public BigDecimal ln(BigDecimal number) {
-        BigDecimal sum = ZERO;
+        int scale = Scale.value().get();
+        java.math.RoundingMode roundingMode = RoundingMode.value().get().mathRoundingMode();
+        int workingScale = scale + GUARD_DIGITS;
 
-        BigDecimal euler = NumberConstant.BigDecimalValueOf.Euler.value().get();
-        while (number.compareTo(ONE) > 0) {
-            sum = sum.add(ONE);
-            number = number.divide(euler, Scale.value().get(), RoundingMode.value().get().mathRoundingMode());
+        RationalNumber rationalNumber = RationalNumber.valueOf(number);
+        int k = rationalNumber.getNumerator().bitLength() - rationalNumber.getDenominator().bitLength();
+        // Note: Division by 2^k is exact (number * 5^k / 10^k)
+        BigDecimal m = k < 0 ? number.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(-k))) : number.multiply(new BigDecimal(FIVE.pow(k))).movePointLeft(k);
+        if (m.multiply(THREE).compareTo(FOUR) > 0) {
+            m = m.divide(TWO);
+            k++;
+        } else if (m.multiply(THREE).compareTo(TWO) < 0) {
+            m = m.multiply(TWO);
+            k--;
         }
 
-        BigDecimal delta = ONE.subtract(number);
-
+        BigDecimal tolerance = ONE.movePointLeft(workingScale);
+        BigDecimal s = m.subtract(ONE).divide(m.add(ONE), workingScale, roundingMode);
+        BigDecimal sSquared = s.multiply(s).setScale(workingScale, roundingMode);
 
+        BigDecimal sRaiseToPow2IPlus1 = s.multiply(TWO);
+        BigDecimal sum = sRaiseToPow2IPlus1;
         int iMax = TaylorDegreeOfPolynom.value().get();
-        if (!delta.equals(ZERO) && iMax > 0) {
-            sum = sum.subtract(delta);
-            BigDecimal deltaRaiseToPowI = delta;
-            for (int i = 2; i <= iMax; i++) {
-                deltaRaiseToPowI = deltaRaiseToPowI.multiply(delta);
-                sum = sum.subtract(deltaRaiseToPowI.divide(new BigDecimal(i)));
-            }
+        int degree = 0;
+        boolean converged = sum.abs().compareTo(tolerance) <= 0;
+        for (int i = 1; i <= iMax && !(converged && TaylorDegree.isConvergenceDriven()); i++) {
+            sRaiseToPow2IPlus1 = sRaiseToPow2IPlus1.multiply(sSquared).setScale(workingScale, roundingMode);
+            BigDecimal T = sRaiseToPow2IPlus1.divide(BigDecimal.valueOf(2L * i + 1), workingScale, roundingMode);
+            sum = sum.add(T);
+            degree = i;
+            converged = T.abs().compareTo(tolerance) <= 0;
         }
 
-        return sum;
+        TaylorDegree.report("ln", degree, converged);
+
+        if (k != 0) {
+            // Note: The error of ln(2) is multiplied by |k|
+            int absoluteK = Math.abs(k);
+            RationalNumber maxError = new RationalNumber(BigInteger.ONE, NumberUtil.powerOfTen(workingScale).multiply(BigInteger.valueOf(absoluteK)));
+            BigDecimal logarithmOfTwo = LN_2.valueOf(maxError).toBigDecimal(new MathContext(workingScale + String.valueOf(absoluteK).length() + 1, roundingMode));
+            sum = sum.add(logarithmOfTwo.multiply(BigDecimal.valueOf(k)));
+        }
+
+        return sum.setScale(scale, roundingMode);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: number^power = number^k * e^(remainder * ln(number)) where k is the integral part of the power and |remainder| &lt; 1.
+     * Integral powers are evaluated using binary exponentiation only.
+     */
     //TODO Tests
     @Override
     public BigDecimal power(BigDecimal number, BigDecimal power) {
-        if (power.signum() == -1) {
-            return ONE.divide(power(number, power.abs()));
-        } else if (power.signum() == 0) {
-            return ONE;
+        int scale = Scale.value().get();
+        java.math.RoundingMode roundingMode = RoundingMode.value().get().mathRoundingMode();
+
+        BigInteger integralPart = power.toBigInteger();
+        BigDecimal remainder = power.subtract(new BigDecimal(integralPart));
+        BigDecimal result = power(number, integralPart.intValueExact(), scale + GUARD_DIGITS, roundingMode);
+        if (remainder.signum() != 0) {
+            result = result.multiply(exp(remainder.multiply(ln(number))));
         }
 
-        BigDecimal result = ONE;
-        while (power.compareTo(ONE) > -1) {
-            result = result.multiply(number);
-            power = power.subtract(ONE);
+        return result.setScale(scale, roundingMode);
+    }
+
+    /**
+     * number^exponent using binary exponentiation (see {@link BigDecimal#pow(int, MathContext)}).
+     * <p>
+     * Note: 10^(m - 1) &lt;= |number| &lt; 10^m so the result has less than exponent * m (exponent &gt; 0) or |exponent| * (1 - m) (exponent &lt; 0) integral digits.
+     */
+    private static BigDecimal power(BigDecimal number, int exponent, int scale, java.math.RoundingMode roundingMode) {
+        if (exponent == 0) {
+            return ONE;
         }
 
-        return power.equals(ZERO) ? result : result.multiply(exp(power.multiply(ln(number))));
+        long m = number.precision() - number.scale();
+        long integralDigits = Math.max(0, exponent > 0 ? exponent * m : -exponent * (1 - m));
+
+        return number.pow(exponent, new MathContext(Math.toIntExact(scale + integralDigits), roundingMode));
     }
 
-    //TODO Tests
     @Override
     public BigDecimal sqrt(BigDecimal number) {
-        return power(number, new BigDecimal("0.5"));
+        return root(number, 2);
+    }
+
+    @Override
+    public BigDecimal root(BigDecimal number, BigDecimal n) {
+        return root(number, n.intValueExact());
+    }
+
+    /**
+     * n-th root using Newton's method s' = ((n - 1)s + number / s^(n - 1)) / n.
+     * <p>
+     * The iteration is seeded from the integer root of the number scaled to at least {@value #SEED_DIGITS} digits (see {@link NumberUtil#root(BigInteger, int)}).
+     * Each iteration doubles the number of correct digits, so the iterates are determined using a doubled number of significant digits until the required number of digits is reached.
+     * Note: 10^(m - 1) &lt;= |number| &lt; 10^m so the root has at most ⌈m / n⌉ integral digits.
+     * The root of a negative number (odd degree) is the negated root of its absolute value, rounded after negation.
+     */
+    private static BigDecimal root(BigDecimal number, int n) {
+        int scale = Scale.value().get();
+        java.math.RoundingMode roundingMode = RoundingMode.value().get().mathRoundingMode();
+
+        if (n < 1) {
+            throw new IllegalArgumentException(format("The degree of a root must be positive (%d)", n));
+        }
+
+        if (number.signum() < 0 && n % 2 == 0) {
+            throw new ArithmeticException(format("Can not determine the root of degree %d of a negative number (%s)", n, number));
+        }
+
+        if (n == 1 || number.signum() == 0) {
+            return number.setScale(scale, roundingMode);
+        }
+
+        BigDecimal root = positiveRoot(number.abs(), n, scale);
+
+        return (number.signum() < 0 ? root.negate() : root).setScale(scale, roundingMode);
+    }
+
+    /**
+     * @return The (unrounded) n-th root of a positive number with at least scale + {@value #GUARD_DIGITS} correct decimals
+     */
+    private static BigDecimal positiveRoot(BigDecimal number, int n, int scale) {
+        int m = number.precision() - number.scale();
+        int precision = scale + Math.max(Math.floorDiv(m + n - 1, n), 0) + GUARD_DIGITS;
+        BigDecimal tolerance = ONE.movePointLeft(scale + 1);
+
+        // Note: (number * 10^(n * k))^(1/n) * 10^-k where the scaled number has at least n * SEED_DIGITS integral digits
+        int k = Math.floorDiv(n * SEED_DIGITS - m + n - 1, n);
+        BigDecimal s = new BigDecimal(NumberUtil.root(number.movePointRight(n * k).toBigInteger(), n), k);
+
+        BigDecimal degree = BigDecimal.valueOf(n);
+        BigDecimal degreeMinusOne = BigDecimal.valueOf(n - 1);
+        int digits = SEED_DIGITS;
+        BigDecimal step;
+        do {
+            digits = Math.min(2 * digits, precision);
+            MathContext mathContext = new MathContext(digits, java.math.RoundingMode.HALF_EVEN);
+            BigDecimal next = degreeMinusOne.multiply(s).add(number.divide(s.pow(n - 1, mathContext), mathContext)).divide(degree, mathContext);
+            step = next.subtract(s).abs();
+            s = next;
+        } while (digits < precision || step.compareTo(tolerance) > 0);
+
+        return s;
     }
 }
@@ -0,0 +1,80 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.EULER;
+
+/**
+ * Integral powers e^k of the constant of Napier (see {@link nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant#EULER}), evaluated by binary exponentiation.
+ * <p>
+ * The powers e^(2^j) are cached per working precision (number of significant digits). The working precision is rounded up to a multiple of {@value #PRECISION_TIER}
+ * so powers of about the same size share the cached values. Only the powers of the most recently used working precision are cached.
+ */
+class EulerPowers {
+
+    private static final int PRECISION_TIER = 64;
+
+    private static volatile EulerPowers cache;
+
+    private final MathContext mathContext;
+
+    /** The powers e^(2^j) (index j). */
+    private final List<BigDecimal> squares = new ArrayList<>();
+
+    private EulerPowers(MathContext mathContext) {
+        this.mathContext = mathContext;
+        // Note: e has a single integral digit
+        squares.add(EULER.valueOf(mathContext.getPrecision() - 1));
+    }
+
+    /**
+     * @return e^exponent rounded to the specified number of significant digits
+     */
+    static BigDecimal pow(int exponent, int precision) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException(format("The exponent must not be negative (%d)", exponent));
+        }
+
+        if (exponent == 0) {
+            return BigDecimal.ONE;
+        }
+
+        // Note: Each squaring doubles the relative error of a power, so the powers carry a guard digit per decimal digit of the exponent
+        EulerPowers eulerPowers = getInstance(precision + String.valueOf(exponent).length() + 1);
+        BigDecimal result = null;
+        for (int j = 0; exponent != 0; j++, exponent >>>= 1) {
+            if ((exponent & 1) == 1) {
+                BigDecimal square = eulerPowers.getSquare(j);
+                result = result == null ? square : result.multiply(square, eulerPowers.mathContext);
+            }
+        }
+
+        return result.round(new MathContext(precision, RoundingMode.HALF_EVEN));
+    }
+
+    private static EulerPowers getInstance(int precision) {
+        EulerPowers eulerPowers = cache;
+        if (eulerPowers != null && eulerPowers.mathContext.getPrecision() >= precision) {
+            return eulerPowers;
+        }
+
+        eulerPowers = new EulerPowers(new MathContext((precision / PRECISION_TIER + 1) * PRECISION_TIER, RoundingMode.HALF_EVEN));
+        cache = eulerPowers;
+
+        return eulerPowers;
+    }
+
+    private synchronized BigDecimal getSquare(int j) {
+        while (squares.size() <= j) {
+            BigDecimal square = squares.get(squares.size() - 1);
+            squares.add(square.multiply(square, mathContext));
+        }
+
+        return squares.get(j);
+    }
+}
@@ -0,0 +1,76 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.NumberUtil;
+
+import java.math.BigInteger;
+
+import static java.lang.String.format;
+
+/**
+ * The n-th root of a rational number.
+ * <p>
+ * If both the numerator and the denominator are n-th powers the root is exact.
+ * Otherwise Newton's method s' = ((n - 1)s + x / s^(n - 1)) / n is seeded from the integer roots of the numerator and the denominator, both scaled to at least {@value #SEED_BITS} bits.
+ * The root lies between s and x / s^(n - 1), so the iteration ends as soon as these bounds do not differ more than the maximum error.
+ * The simplest rational number within the maximum error of both bounds is returned.
+ * <p>
+ * Each iteration doubles the number of correct bits. The iterates are approximated accordingly, which keeps their numerators and denominators small.
+ */
+class NewtonRoot {
+
+    private static final int SEED_BITS = 64;
+
+    private NewtonRoot() {
+        throw new IllegalStateException(format("Can not instantiate %s", this.getClass().getCanonicalName()));
+    }
+
+    /**
+     * @throws ArithmeticException if the root of even degree of a negative number is requested
+     */
+    static RationalNumber root(RationalNumber number, int n, RationalNumber maxError) {
+        if (n < 1) {
+            throw new IllegalArgumentException(format("The degree of a root must be positive (%d)", n));
+        }
+
+        if (number.signum() < 0) {
+            if (n % 2 == 0) {
+                throw new ArithmeticException(format("Can not determine the root of degree %d of a negative number (%s)", n, number));
+            }
+
+            return root(number.negate(), n, maxError).negate();
+        }
+
+        if (n == 1 || number.signum() == 0) {
+            return number;
+        }
+
+        BigInteger numerator = number.getNumerator();
+        BigInteger denominator = number.getDenominator();
+        BigInteger numeratorRoot = NumberUtil.root(numerator, n);
+        BigInteger denominatorRoot = NumberUtil.root(denominator, n);
+        if (numeratorRoot.pow(n).equals(numerator) && denominatorRoot.pow(n).equals(denominator)) {
+            return new RationalNumber(numeratorRoot, denominatorRoot);
+        }
+
+        // Note: (numerator * 2^(n * a))^(1/n) / (denominator * 2^(n * b))^(1/n) * 2^(b - a)
+        int a = Math.max(SEED_BITS - numerator.bitLength() / n, 0);
+        int b = Math.max(SEED_BITS - denominator.bitLength() / n, 0);
+        BigInteger numeratorSeed = a == 0 ? numeratorRoot : NumberUtil.root(numerator.shiftLeft(n * a), n);
+        BigInteger denominatorSeed = b == 0 ? denominatorRoot : NumberUtil.root(denominator.shiftLeft(n * b), n);
+        RationalNumber s = new RationalNumber(numeratorSeed.shiftLeft(b), denominatorSeed.shiftLeft(a));
+
+        while (true) {
+            RationalNumber quotient = number.divide(s.pow(n - 1));
+            RationalNumber width = s.subtract(quotient).abs();
+            if (width.compareTo(maxError) <= 0) {
+                // Note: All rational numbers between max(s, quotient) - maxError and min(s, quotient) + maxError are within the maximum error of the root
+                return s.add(quotient).divide(2).approximate(maxError.subtract(width.divide(2)));
+            }
+
+            s = s.multiply(n - 1).add(quotient).divide(n);
+            // Note: The error of the next iterate is of the order of width^2 / s
+            s = s.approximate(width.multiply(width).divide(s));
+        }
+    }
+}
@@ -24,7 +24,7 @@ public class RationalNumberAuxiliaryFunctions extends AuxiliaryFunctions<Rationa
     @Override
     public RationalNumber faculty(RationalNumber number) {
         RationalNumber faculty = ONE;
-        RationalNumber i = new RationalNumber(2);
+        RationalNumber i = RationalNumber.valueOf(2);
         while (i.compareTo(number) < 1) {
             faculty = faculty.multiply(i);
             i = i.add(ONE);
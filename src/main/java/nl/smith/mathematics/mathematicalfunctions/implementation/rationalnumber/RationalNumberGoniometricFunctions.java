@@ -2,10 +2,16 @@ package nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber
 
 
 import nl.smith.mathematics.mathematicalfunctions.definition.GoniometricFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.AngleReduction;
+import nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree;
+import nl.smith.mathematics.numbertype.RationalAccumulator;
 import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.BinarySplittingSeries;
 import org.springframework.context.annotation.Bean;
 
-import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.TaylorDegreeOfPolynom;
+import java.math.BigInteger;
+
+import static nl.smith.mathematics.configuration.constant.NumberConstant.RationalValueOf.MaximumError;
 import static nl.smith.mathematics.numbertype.RationalNumber.ONE;
 import static nl.smith.mathematics.numbertype.RationalNumber.ZERO;
 
@@ -26,23 +32,16 @@ public class RationalNumberGoniometricFunctions extends GoniometricFunctions<Rat
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Note: Intermediate results are approximated if {@link nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberApproximation} is set.
+     * Terms are only approximated once the ratio of consecutive terms angle^2 / (i * (i - 1)) does not exceed one.
+     * An exact polynomial is evaluated using binary splitting.
+     * <p>
+     * Note: The Taylor polynomial is evaluated for the angle reduced to at most π/4 (see {@link AngleReduction}).
      */
     @Override
     public RationalNumber sin(RationalNumber angle) {
-        RationalNumber sum = ZERO;
-
-        int iMax = TaylorDegreeOfPolynom.value().get();
-        if (iMax > 0) {
-            RationalNumber T = angle;
-            sum = sum.add(T);
-            RationalNumber squareAngle = angle.multiply(angle);
-            for (long i = 3; i <= iMax; i = i + 2) {
-                T = T.multiply(squareAngle).divide(i).divide(i - 1).negate();
-                sum = sum.add(T);
-            }
-        }
-
-        return sum;
+        return evaluate(AngleReduction.ofSin(angle));
     }
 
     @Override
@@ -50,21 +49,84 @@ public class RationalNumberGoniometricFunctions extends GoniometricFunctions<Rat
         return sin(angle).divide(cos(angle));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: See {@link #sin(RationalNumber)} for the evaluation of the Taylor polynomial.
+     */
     @Override
     public RationalNumber cos(RationalNumber angle) {
-        RationalNumber sum = ONE;
+        return evaluate(AngleReduction.ofCos(angle));
+    }
+
+    private RationalNumber evaluate(AngleReduction reduction) {
+        RationalNumber value = reduction.isCosine() ? cosTaylor(reduction.getAngle()) : sinTaylor(reduction.getAngle());
 
-        int iMax = TaylorDegreeOfPolynom.value().get();
+        return reduction.isNegative() ? value.negate() : value;
+    }
+
+    private RationalNumber sinTaylor(RationalNumber angle) {
+        RationalAccumulator sum = new RationalAccumulator(ZERO);
+
+        RationalNumber maxError = MaximumError.value().get();
+        int iMax = TaylorDegree.ofFactorialSeries("sin", angle, TaylorApproximation.getTruncationError(maxError)).getDegree();
         if (iMax > 0) {
-            RationalNumber T = ONE;
+            TaylorApproximation approximation = TaylorApproximation.of(iMax, maxError);
+            if (approximation.isExact()) {
+                return angle.multiply(getSeries(angle, 1).sum((iMax - 1) / 2));
+            }
+
+            RationalAccumulator T = new RationalAccumulator(angle);
+            sum.add(T);
+            RationalNumber squareAngle = angle.multiply(angle);
+            for (long i = 3; i <= iMax; i = i + 2) {
+                T.multiply(squareAngle).multiplyDivide(-1, i * (i - 1));
+                if (squareAngle.compareTo(i * (i - 1)) <= 0) {
+                    approximation.approximateTerm(T);
+                }
+                sum.add(T);
+                approximation.approximateSum(sum);
+            }
+        }
+
+        return sum.toRationalNumber();
+    }
+
+    private RationalNumber cosTaylor(RationalNumber angle) {
+        RationalAccumulator sum = new RationalAccumulator(ONE);
+
+        RationalNumber maxError = MaximumError.value().get();
+        int iMax = TaylorDegree.ofFactorialSeries("cos", angle, TaylorApproximation.getTruncationError(maxError)).getDegree();
+        if (iMax > 0) {
+            TaylorApproximation approximation = TaylorApproximation.of(iMax, maxError);
+            if (approximation.isExact()) {
+                return getSeries(angle, 0).sum(iMax / 2);
+            }
+
+            RationalAccumulator T = new RationalAccumulator(ONE);
             RationalNumber squareAngle = angle.multiply(angle);
             for (long i = 2; i <= iMax; i = i + 2) {
-                T = T.multiply(squareAngle).divide(i).divide(i - 1).negate();
-                sum = sum.add(T);
+                T.multiply(squareAngle).multiplyDivide(-1, i * (i - 1));
+                if (squareAngle.compareTo(i * (i - 1)) <= 0) {
+                    approximation.approximateTerm(T);
+                }
+                sum.add(T);
+                approximation.approximateSum(sum);
             }
         }
 
-        return sum;
+        return sum.toRationalNumber();
     }
 
+    /**
+     * Series of sin(angle) / angle (offset 1) or cos(angle) (offset 0).
+     * Consecutive terms have ratio T(k) / T(k - 1) = -u^2 / (v^2 * (2k - 1 + offset) * (2k + offset)) where angle = u / v.
+     */
+    private static BinarySplittingSeries getSeries(RationalNumber angle, int offset) {
+        BigInteger minusSquareNumerator = angle.getNumerator().pow(2).negate();
+        BigInteger squareDenominator = angle.getDenominator().pow(2);
+
+        return new BinarySplittingSeries(k -> minusSquareNumerator,
+                k -> squareDenominator.multiply(BigInteger.valueOf(2 * k - 1 + offset)).multiply(BigInteger.valueOf(2 * k + offset)));
+    }
 }
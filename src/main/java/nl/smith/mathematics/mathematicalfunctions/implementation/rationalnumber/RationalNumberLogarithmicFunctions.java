@@ -1,11 +1,17 @@
 package nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber;
 
 import nl.smith.mathematics.mathematicalfunctions.definition.LogarithmicFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree;
+import nl.smith.mathematics.numbertype.RationalAccumulator;
 import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.BinarySplittingSeries;
 import org.springframework.context.annotation.Bean;
 
-import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.TaylorDegreeOfPolynom;
-import static nl.smith.mathematics.configuration.constant.NumberConstant.RationalValueOf;
+import java.math.BigInteger;
+
+import static nl.smith.mathematics.configuration.constant.NumberConstant.RationalValueOf.MaximumError;
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.EULER;
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.LN_2;
 import static nl.smith.mathematics.numbertype.RationalNumber.ONE;
 import static nl.smith.mathematics.numbertype.RationalNumber.ZERO;
 
@@ -13,6 +19,10 @@ public class RationalNumberLogarithmicFunctions extends LogarithmicFunctions<Rat
 
     private final static String SIBLING_BEAN_NAME = "RATIONAL_NUMBER_LOGARITHMIC_FUNCTIONS";
 
+    private static final RationalNumber TWO_THIRDS = RationalNumber.valueOf(2, 3);
+
+    private static final RationalNumber FOUR_THIRDS = RationalNumber.valueOf(4, 3);
+
     @Override
     public String getSiblingBeanName() {
         return SIBLING_BEAN_NAME;
@@ -30,79 +40,146 @@ public class RationalNumberLogarithmicFunctions extends LogarithmicFunctions<Rat
             return ONE.divide(exp(number.abs()));
         }
 
-        if (number.compareTo(ONE) > 0) {
-            RationalNumber euler = RationalValueOf.Euler.value().get();
+        if (number.compareTo(1) > 0) {
+            // Note: e^number = e^k * e^remainder where k is the integral part of the number
             RationalNumber[] divideAndRemainder = number.divideAndRemainder(ONE);
-            RationalNumber i = divideAndRemainder[0];
-            RationalNumber result = euler;
-            do {
-                result = result.multiply(euler);
-                i = i.subtract(ONE);
-            } while (!i.equals(ONE));
-
-            return result.multiply(exp(divideAndRemainder[1]));
+            int k = divideAndRemainder[0].bigIntValue().intValueExact();
+            // Note: Both e^k and the Taylor polynomial contribute at most half the maximum error.
+            // The error of e is multiplied by about k e^(k - 1) e^remainder < k 3^(k + 1), the error of the Taylor polynomial is multiplied by e^k < 3^k.
+            BigInteger powerOfThree = BigInteger.valueOf(3).pow(k);
+            RationalNumber maxError = MaximumError.value().get().divide(powerOfThree.shiftLeft(1));
+            RationalNumber eulerPower = EULER.valueOf(maxError.divide(3L * k)).pow(k);
+
+            return eulerPower.multiply(exp(divideAndRemainder[1], maxError));
         }
 
+        return exp(number, MaximumError.value().get());
+    }
+
+    /**
+     * Taylor polynomial of e^number (0 &lt;= number &lt;= 1).
+     * Note: The ratio of consecutive terms (number / i) does not exceed one so all terms may be approximated.
+     * An exact polynomial is evaluated using binary splitting.
+     */
+    private RationalNumber exp(RationalNumber number, RationalNumber maxError) {
         if (number.equals(ZERO)) {
            return ONE;
         }
 
-        RationalNumber T = ONE;
-        RationalNumber sum = T;
-        for (int i = 1; i <= TaylorDegreeOfPolynom.value().get(); i++) {
-            T = T.multiply(number).divide(i);
-            sum = sum.add(T);
+        int iMax = TaylorDegree.ofFactorialSeries("exp", number, TaylorApproximation.getTruncationError(maxError)).getDegree();
+        TaylorApproximation approximation = TaylorApproximation.of(iMax, maxError);
+        if (approximation.isExact()) {
+            // Note: T(i) = T(i - 1) * u / (v * i) where number = u / v
+            BigInteger u = number.getNumerator();
+            BigInteger v = number.getDenominator();
+            return new BinarySplittingSeries(i -> u, i -> v.multiply(BigInteger.valueOf(i))).sum(Math.max(iMax, 0));
         }
 
-        return sum;
+        RationalAccumulator T = new RationalAccumulator(ONE);
+        RationalAccumulator sum = new RationalAccumulator(ONE);
+        for (int i = 1; i <= iMax; i++) {
+            T.multiply(number).divide(i);
+            approximation.approximateTerm(T);
+            sum.add(T);
+            approximation.approximateSum(sum);
+        }
+
+        return sum.toRationalNumber();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: ln(number) = k ln(2) + ln(m) where number = 2^k * m and 2/3 &lt;= m &lt;= 4/3 (see {@link nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant#LN_2}).
+     */
     @Override
     public RationalNumber ln(RationalNumber number) {
-        RationalNumber sum = ZERO;
+        int k = number.getNumerator().bitLength() - number.getDenominator().bitLength();
+        RationalNumber m = k < 0 ? number.multiply(BigInteger.ONE.shiftLeft(-k)) : number.divide(BigInteger.ONE.shiftLeft(k));
+        if (m.compareTo(FOUR_THIRDS) > 0) {
+            m = m.divide(2);
+            k++;
+        } else if (m.compareTo(TWO_THIRDS) < 0) {
+            m = m.multiply(2);
+            k--;
+        }
 
-        RationalNumber euler = RationalValueOf.Euler.value().get();
-        while (number.compareTo(ONE) > 0) {
-            sum = sum.add(ONE);
-            number = number.divide(euler);
+        RationalNumber maxError = MaximumError.value().get();
+        if (k == 0) {
+            return ln(m, maxError);
         }
 
-        RationalNumber delta = ONE.subtract(number);
+        // Note: The maximum error is shared equally by k ln(2) and ln(m)
+        RationalNumber logarithmOfTwo = LN_2.valueOf(maxError.divide(2L * Math.abs(k)));
+        return logarithmOfTwo.multiply(k).add(ln(m, maxError.divide(2)));
+    }
+
+    /**
+     * Taylor polynomial of ln(m) = 2 atanh(s) where s = (m - 1) / (m + 1) (2/3 &lt;= m &lt;= 4/3, so |s| &lt;= 1/5).
+     * Note: The ratio of consecutive terms s^2 (2i - 1) / (2i + 1) does not exceed one so all terms may be approximated.
+     * An exact polynomial is evaluated using binary splitting.
+     */
+    private RationalNumber ln(RationalNumber m, RationalNumber maxError) {
+        RationalNumber s = m.subtract(ONE).divide(m.add(ONE));
+        int iMax = TaylorDegree.ofLogarithmicSeries("ln", s, TaylorApproximation.getTruncationError(maxError)).getDegree();
+        if (s.equals(ZERO)) {
+            return ZERO;
+        }
 
+        TaylorApproximation approximation = TaylorApproximation.of(iMax, maxError);
+        if (approximation.isExact()) {
+            // Note: T(i) = T(i - 1) * u^2 (2i - 1) / (v^2 (2i + 1)) where s = u / v
+            BigInteger uSquared = s.getNumerator().pow(2);
+            BigInteger vSquared = s.getDenominator().pow(2);
+            BinarySplittingSeries series = new BinarySplittingSeries(i -> uSquared.multiply(BigInteger.valueOf(2 * i - 1)), i -> vSquared.multiply(BigInteger.valueOf(2 * i + 1)));
+            return s.multiply(2).multiply(series.sum(iMax));
+        }
 
-        int iMax = TaylorDegreeOfPolynom.value().get();
-        if (!delta.equals(ZERO) && iMax > 0) {
-            sum = sum.subtract(delta);
-            RationalNumber deltaRaiseToPowI = delta;
-            for (int i = 2; i <= iMax; i++) {
-                deltaRaiseToPowI = deltaRaiseToPowI.multiply(delta);
-                sum = sum.subtract(deltaRaiseToPowI.divide(new RationalNumber(i)));
-            }
+        RationalNumber sSquared = s.multiply(s);
+        RationalAccumulator T = new RationalAccumulator(s.multiply(2));
+        RationalAccumulator sum = new RationalAccumulator(T.toRationalNumber());
+        for (int i = 1; i <= iMax; i++) {
+            T.multiply(sSquared).multiplyDivide(2L * i - 1, 2L * i + 1);
+            approximation.approximateTerm(T);
+            sum.add(T);
+            approximation.approximateSum(sum);
         }
 
-        return sum;
+        return sum.toRationalNumber();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: number^power = number^k * e^(remainder * ln(number)) where k is the integral part of the power and |remainder| &lt; 1.
+     * Integral powers are evaluated exactly (see {@link RationalNumber#pow(int)}).
+     */
     @Override
     public RationalNumber power(RationalNumber number, RationalNumber power) {
-        if (power.signum() == -1) {
-            return ONE.divide(power(number, power.abs()));
-        } else if (power.signum() == 0) {
-            return ONE;
-        }
+        RationalNumber[] divideAndRemainder = power.divideAndRemainder(ONE);
+        RationalNumber result = number.pow(divideAndRemainder[0].bigIntValue().intValueExact());
 
-        RationalNumber result = ONE;
-        while (power.compareTo(ONE) > -1) {
-            result = result.multiply(number);
-            power = power.subtract(ONE);
-        }
-
-        return power.equals(ZERO) ? result : result.multiply(exp(power.multiply(ln(number))));
+        return divideAndRemainder[1].equals(ZERO) ? result : result.multiply(exp(divideAndRemainder[1].multiply(ln(number))));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: The root is determined using Newton's method (see {@link NewtonRoot}).
+     */
     @Override
     public RationalNumber sqrt(RationalNumber number) {
-        return power(number, new RationalNumber(1, 2));
+        return NewtonRoot.root(number, 2, MaximumError.value().get());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Note: The root is determined using Newton's method (see {@link NewtonRoot}).
+     */
+    @Override
+    public RationalNumber root(RationalNumber number, RationalNumber n) {
+        return NewtonRoot.root(number, n.bigIntValue().intValueExact(), MaximumError.value().get());
     }
 
 }
@@ -1,8 +1,8 @@
 package nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber;
 
 import nl.smith.mathematics.mathematicalfunctions.definition.StatisticalFunctions;
+import nl.smith.mathematics.numbertype.RationalAccumulator;
 import nl.smith.mathematics.numbertype.RationalNumber;
-import nl.smith.mathematics.util.ObjectWrapper;
 import org.springframework.context.annotation.Bean;
 
 import java.util.stream.Stream;
@@ -27,36 +27,80 @@ public class RationalNumberStatisticalFunctions extends StatisticalFunctions<Rat
 
 	@Override
 	public RationalNumber sum(RationalNumber... numbers) {
-		ObjectWrapper<RationalNumber> sum = new ObjectWrapper<>(ZERO);
-		Stream.of(numbers).forEach(n -> sum.setValue(sum.getValue().add(n)));
+		RationalAccumulator sum = new RationalAccumulator(ZERO);
+		for (RationalNumber number : numbers) {
+			sum.add(number);
+		}
 
-		return sum.getValue();
+		return sum.toRationalNumber();
 	}
 
 	@Override
 	public RationalNumber prod(RationalNumber... numbers) {
-		ObjectWrapper<RationalNumber> prod = new ObjectWrapper<>(ONE);
-		Stream.of(numbers).forEach(n -> prod.setValue(prod.getValue().multiply(n)));
+		RationalAccumulator prod = new RationalAccumulator(ONE);
+		for (RationalNumber number : numbers) {
+			prod.multiply(number);
+		}
 
-		return prod.getValue();
+		return prod.toRationalNumber();
 	}
 
 	@Override
 	public RationalNumber average(RationalNumber... numbers) {
+		assertHasNumbers(numbers.length);
+
 		return sibling.sum(numbers).divide(numbers.length);
 	}
 
 	@Override
 	public RationalNumber deviation(RationalNumber ... numbers) {
+		assertHasNumbers(numbers.length);
+
 		RationalNumber average = sibling.average(numbers);
 
-		ObjectWrapper<RationalNumber> sum = new ObjectWrapper<>(ZERO);
-		Stream.of(numbers).forEach(number -> {
-			RationalNumber difference = number.subtract(average);
-			sum.setValue(difference.multiply(difference).add(sum.getValue()));
-		});
+		// Note: Exact identity sum((x - average)^2) / n = sum(x^2) / n - average^2, the sum of squares being a (fused) dot product
+		return ZERO.dot(numbers, numbers).divide(numbers.length).subtract(average.multiply(average));
+	}
+
+	/**
+	 * Sum of a (possibly parallel) stream of numbers, for instance read using {@link nl.smith.mathematics.util.NumberStreamReader}.
+	 * Note: The numbers are not materialized, each thread sums its part of the stream in its own accumulator.
+	 */
+	public RationalNumber sum(Stream<RationalNumber> numbers) {
+		int reductionThreshold = RationalAccumulator.getDefaultReductionThreshold();
+
+		return numbers.collect(() -> new RationalAccumulator(ZERO, reductionThreshold), RationalAccumulator::add, RationalAccumulator::add).toRationalNumber();
+	}
+
+	/**
+	 * Product of a (possibly parallel) stream of numbers.
+	 */
+	public RationalNumber prod(Stream<RationalNumber> numbers) {
+		int reductionThreshold = RationalAccumulator.getDefaultReductionThreshold();
+
+		return numbers.collect(() -> new RationalAccumulator(ONE, reductionThreshold), RationalAccumulator::multiply, RationalAccumulator::multiply).toRationalNumber();
+	}
+
+	/**
+	 * Average of a (possibly parallel) stream of numbers.
+	 */
+	public RationalNumber average(Stream<RationalNumber> numbers) {
+		Moments moments = Moments.of(numbers);
+		assertHasNumbers(moments.count);
+
+		return moments.sum.divide(moments.count).toRationalNumber();
+	}
+
+	/**
+	 * Deviation of a (possibly parallel) stream of numbers.
+	 * Note: Determined in a single pass using the (exact) identity sum((x - average)^2) / n = sum(x^2) / n - average^2.
+	 */
+	public RationalNumber deviation(Stream<RationalNumber> numbers) {
+		Moments moments = Moments.of(numbers);
+		assertHasNumbers(moments.count);
+		RationalNumber average = moments.sum.divide(moments.count).toRationalNumber();
 
-		return sum.getValue().divide(numbers.length);
+		return moments.sumOfSquares.divide(moments.count).subtract(average.multiply(average)).toRationalNumber();
 	}
 
 	@Override
@@ -68,4 +112,45 @@ public class RationalNumberStatisticalFunctions extends StatisticalFunctions<Rat
 	public RationalNumber[] square(RationalNumber... numbers) {
 		return new RationalNumber[0];
 	}
+
+	private static void assertHasNumbers(long count) {
+		if (count == 0) {
+			throw new IllegalArgumentException("At least one number must be specified");
+		}
+	}
+
+	/**
+	 * Number of values, their sum and the sum of their squares.
+	 */
+	private static class Moments {
+
+		private final RationalAccumulator sum;
+
+		private final RationalAccumulator sumOfSquares;
+
+		private long count;
+
+		private Moments(int reductionThreshold) {
+			sum = new RationalAccumulator(ZERO, reductionThreshold);
+			sumOfSquares = new RationalAccumulator(ZERO, reductionThreshold);
+		}
+
+		private static Moments of(Stream<RationalNumber> numbers) {
+			int reductionThreshold = RationalAccumulator.getDefaultReductionThreshold();
+
+			return numbers.collect(() -> new Moments(reductionThreshold), Moments::add, Moments::add);
+		}
+
+		private void add(RationalNumber number) {
+			count++;
+			sum.add(number);
+			sumOfSquares.addProduct(number, number);
+		}
+
+		private void add(Moments moments) {
+			count += moments.count;
+			sum.add(moments.sum);
+			sumOfSquares.add(moments.sumOfSquares);
+		}
+	}
 }
@@ -0,0 +1,79 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberApproximation;
+import nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree;
+import nl.smith.mathematics.numbertype.RationalAccumulator;
+import nl.smith.mathematics.numbertype.RationalNumber;
+
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberApproximation.PredefinedType.NO;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.RationalValueOf.MaximumError;
+
+/**
+ * Error budget to approximate the intermediate results of a Taylor polynomial of degree n (see {@link RationalNumberApproximation}).
+ * <p>
+ * The partial sum is approximated within maxError / (2n) after each addition, together contributing at most maxError / 2.
+ * A term is approximated within maxError / (2n^2), provided the ratio of consecutive terms does not exceed one (i.e. the errors do not grow in later terms).
+ * Each of the (at most n) terms then carries at most n approximation errors, together contributing at most maxError / 2.
+ * <p>
+ * If the degree is determined by convergence (see {@link TaylorDegree}) the maximum error is shared equally by the truncation and the approximation of the polynomial.
+ */
+class TaylorApproximation {
+
+    private static final TaylorApproximation EXACT = new TaylorApproximation(null, null);
+
+    /** Maximum error of an approximated term (null if terms are not approximated). */
+    private final RationalNumber termError;
+
+    /** Maximum error of an approximated partial sum (null if partial sums are not approximated). */
+    private final RationalNumber sumError;
+
+    private TaylorApproximation(RationalNumber termError, RationalNumber sumError) {
+        this.termError = termError;
+        this.sumError = sumError;
+    }
+
+    static TaylorApproximation of(int degree) {
+        return of(degree, MaximumError.value().get());
+    }
+
+    static TaylorApproximation of(int degree, RationalNumber maxError) {
+        if (degree <= 0 || RationalNumberApproximation.value().get() == NO) {
+            return EXACT;
+        }
+
+        if (TaylorDegree.isConvergenceDriven()) {
+            maxError = maxError.divide(2);
+        }
+
+        return new TaylorApproximation(maxError.divide(2L * degree * degree), maxError.divide(2L * degree));
+    }
+
+    /**
+     * @return The maximum error of the truncation of a Taylor polynomial (see {@link TaylorDegree})
+     */
+    static RationalNumber getTruncationError(RationalNumber maxError) {
+        return RationalNumberApproximation.value().get() == NO ? maxError : maxError.divide(2);
+    }
+
+    /**
+     * @return true if neither terms nor partial sums are approximated (the Taylor polynomial may be evaluated exactly, for instance using binary splitting)
+     */
+    boolean isExact() {
+        return this == EXACT;
+    }
+
+    /**
+     * Approximates the term. Only allowed if the ratio of all following consecutive terms does not exceed one.
+     */
+    void approximateTerm(RationalAccumulator term) {
+        if (termError != null) {
+            term.approximate(termError);
+        }
+    }
+
+    void approximateSum(RationalAccumulator sum) {
+        if (sumError != null) {
+            sum.approximate(sumError);
+        }
+    }
+}
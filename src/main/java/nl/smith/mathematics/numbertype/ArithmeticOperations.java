@@ -28,6 +28,27 @@ public interface ArithmeticOperations<T extends Number> {
 
     abstract T divide(T divisor);
 
+    /**
+     * Fused multiply-add.
+     *
+     * @return this * multiplicand + augend
+     */
+    abstract T multiplyAdd(T multiplicand, T augend);
+
+    /**
+     * Fused multiplication and division.
+     *
+     * @return this * multiplicand / divisor
+     */
+    abstract T multiplyDivide(long multiplicand, long divisor);
+
+    /**
+     * Fused dot product. Both arrays must have the same length.
+     *
+     * @return this + Σ multiplicands[i] * multiplicators[i]
+     */
+    abstract T dot(T[] multiplicands, T[] multiplicators);
+
     abstract T negate();
 
     abstract T abs();
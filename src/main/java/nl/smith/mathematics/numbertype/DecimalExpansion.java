@@ -0,0 +1,209 @@
+package nl.smith.mathematics.numbertype;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Decimal expansion of a non-negative fraction.
+ * <p>
+ * The expansion of n/d (d being the reduced denominator) consists of an integer part, a pre-period and a (possibly empty) period.
+ * The length of the pre-period is max(a, b) where d = 2^a * 5^b * m and gcd(m, 10) = 1.
+ * The length of the period is the multiplicative order of 10 modulo m (zero if m = 1).
+ * <p>
+ * Since the pre-period length is known up front, the end of the period is detected when the remainder of the long division returns to the
+ * remainder at the start of the period. Digits are streamed to an {@link Appendable} using O(1) extra memory (no remainders are stored).
+ * <p>
+ * Example: 1/6 = 0.1[6]R (pre-period 1, period 1), 1/7 = 0.[142857]R (pre-period 0, period 6).
+ */
+public class DecimalExpansion {
+
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+    /** Reduced denominators below this limit are processed using longs (ten times the remainder does not overflow). */
+    private static final long LONG_LIMIT = Long.MAX_VALUE / 10;
+
+    private final BigInteger integerPart;
+
+    /** Remainder of the division of the (reduced) numerator by the (reduced) denominator. */
+    private final BigInteger remainder;
+
+    private final BigInteger denominator;
+
+    private final int preperiodLength;
+
+    /** Denominator without factors 2 and 5. */
+    private final BigInteger periodModulus;
+
+    public DecimalExpansion(BigInteger numerator, BigInteger denominator) {
+        if (numerator == null || denominator == null) {
+            throw new IllegalArgumentException("Both numerator and denominator must be specified (not be null)");
+        }
+
+        if (numerator.signum() < 0 || denominator.signum() <= 0) {
+            throw new IllegalArgumentException(String.format("A non negative numerator and a positive denominator must be specified (%s/%s)", numerator, denominator));
+        }
+
+        BigInteger gcd = numerator.gcd(denominator);
+        if (!gcd.equals(BigInteger.ONE)) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+
+        BigInteger[] divideAndRemainder = numerator.divideAndRemainder(denominator);
+        this.integerPart = divideAndRemainder[0];
+        this.remainder = divideAndRemainder[1];
+        this.denominator = denominator;
+
+        int powerOfTwo = denominator.getLowestSetBit();
+        BigInteger modulus = denominator.shiftRight(powerOfTwo);
+        int powerOfFive = 0;
+        divideAndRemainder = modulus.divideAndRemainder(FIVE);
+        while (divideAndRemainder[1].signum() == 0) {
+            modulus = divideAndRemainder[0];
+            powerOfFive++;
+            divideAndRemainder = modulus.divideAndRemainder(FIVE);
+        }
+
+        this.preperiodLength = Math.max(powerOfTwo, powerOfFive);
+        this.periodModulus = modulus;
+    }
+
+    public BigInteger getIntegerPart() {
+        return integerPart;
+    }
+
+    public int getPreperiodLength() {
+        return preperiodLength;
+    }
+
+    public boolean isTerminating() {
+        return periodModulus.equals(BigInteger.ONE);
+    }
+
+    /**
+     * Returns the length of the period i.e. the multiplicative order of 10 modulo the denominator without factors 2 and 5.
+     * Note: The order is determined iteratively (O(period length) time, O(1) memory).
+     */
+    public long getPeriodLength() {
+        if (isTerminating()) {
+            return 0;
+        }
+
+        long order = 1;
+        if (periodModulus.compareTo(BigInteger.valueOf(LONG_LIMIT)) < 0) {
+            long modulus = periodModulus.longValue();
+            long power = 10 % modulus;
+            while (power != 1) {
+                power = power * 10 % modulus;
+                order++;
+            }
+        } else {
+            BigInteger power = BigInteger.TEN.mod(periodModulus);
+            while (!power.equals(BigInteger.ONE)) {
+                power = power.multiply(BigInteger.TEN).mod(periodModulus);
+                order++;
+            }
+        }
+
+        return order;
+    }
+
+    /**
+     * Writes the exact representation (repeating decimals between square brackets, followed by 'R') and/or the representation truncated after
+     * the specified number of decimals in a single pass of the long division.
+     *
+     * @param exact     Appendable to receive the exact representation (null if not required)
+     * @param truncated Appendable to receive the truncated representation (null if not required)
+     * @param scale     Number of decimals of the truncated representation
+     */
+    public void write(Appendable exact, Appendable truncated, int scale) throws IOException {
+        boolean terminating = isTerminating();
+        if (exact != null) {
+            exact.append(integerPart.toString());
+            if (preperiodLength > 0 || !terminating) {
+                exact.append('.');
+            }
+        }
+
+        int truncatedLength = truncated == null ? 0 : terminating ? Math.min(scale, preperiodLength) : scale;
+        if (truncated != null) {
+            truncated.append(integerPart.toString());
+            if (truncatedLength > 0) {
+                truncated.append('.');
+            }
+        }
+
+        if (denominator.compareTo(BigInteger.valueOf(LONG_LIMIT)) < 0) {
+            writeDigits(remainder.longValue(), denominator.longValue(), exact, truncated, truncatedLength, terminating);
+        } else {
+            writeDigits(remainder, exact, truncated, truncatedLength, terminating);
+        }
+    }
+
+    private void writeDigits(long remainder, long denominator, Appendable exact, Appendable truncated, int truncatedLength, boolean terminating) throws IOException {
+        boolean exactRequired = exact != null && (preperiodLength > 0 || !terminating);
+        long periodStartRemainder = -1;
+        for (long position = 0; exactRequired || position < truncatedLength; position++) {
+            if (position == preperiodLength) {
+                periodStartRemainder = remainder;
+                if (exactRequired) {
+                    if (terminating) {
+                        exactRequired = false;
+                        continue;
+                    }
+                    exact.append('[');
+                }
+            }
+
+            remainder = remainder * 10;
+            char digit = (char) ('0' + remainder / denominator);
+            remainder = remainder % denominator;
+
+            exactRequired = appendDigit(digit, position, exact, exactRequired, truncated, truncatedLength, remainder == periodStartRemainder);
+        }
+    }
+
+    private void writeDigits(BigInteger remainder, Appendable exact, Appendable truncated, int truncatedLength, boolean terminating) throws IOException {
+        boolean exactRequired = exact != null && (preperiodLength > 0 || !terminating);
+        BigInteger periodStartRemainder = null;
+        for (long position = 0; exactRequired || position < truncatedLength; position++) {
+            if (position == preperiodLength) {
+                periodStartRemainder = remainder;
+                if (exactRequired) {
+                    if (terminating) {
+                        exactRequired = false;
+                        continue;
+                    }
+                    exact.append('[');
+                }
+            }
+
+            BigInteger[] divideAndRemainder = remainder.multiply(BigInteger.TEN).divideAndRemainder(denominator);
+            char digit = (char) ('0' + divideAndRemainder[0].intValue());
+            remainder = divideAndRemainder[1];
+
+            exactRequired = appendDigit(digit, position, exact, exactRequired, truncated, truncatedLength, remainder.equals(periodStartRemainder));
+        }
+    }
+
+    /**
+     * Appends the digit to the required appendables.
+     *
+     * @return true if more digits are required for the exact representation
+     */
+    private static boolean appendDigit(char digit, long position, Appendable exact, boolean exactRequired, Appendable truncated, int truncatedLength, boolean periodCompleted) throws IOException {
+        if (exactRequired) {
+            exact.append(digit);
+            if (periodCompleted) {
+                exact.append("]R");
+                exactRequired = false;
+            }
+        }
+
+        if (position < truncatedLength) {
+            truncated.append(digit);
+        }
+
+        return exactRequired;
+    }
+}
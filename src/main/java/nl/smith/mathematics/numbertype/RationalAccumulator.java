@@ -0,0 +1,447 @@
+package nl.smith.mathematics.numbertype;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize;
+
+import java.math.BigInteger;
+
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.NO;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.NormalizationThreshold;
+
+/**
+ * Mutable (not thread safe) class to accumulate the result of a sequence of rational operations.
+ * <p>
+ * In contrast to {@link RationalNumber} no intermediate instances are created.
+ * As long as both components fit in a long the calculation is performed using primitives.
+ * Intermediate values are only reduced if their combined bit length exceeds the reduction threshold (a negative threshold defers reduction
+ * until the final result is requested using {@link #toRationalNumber()}).
+ * <p>
+ * Note: By default the reduction threshold is derived from {@link RationalNumberNormalize}:
+ * intermediate values are never reduced if normalization is switched off
+ * and are reduced above {@link nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf#NormalizationThreshold} otherwise.
+ */
+public class RationalAccumulator {
+
+    private final int reductionThreshold;
+
+    /** Numerator as long. Only valid if {@link #numerator} is null. */
+    private long longNumerator;
+
+    /** Denominator as long. Only valid if {@link #denominator} is null. */
+    private long longDenominator;
+
+    /** Numerator if the value does not fit in two longs, null otherwise. */
+    private BigInteger numerator;
+
+    /** Denominator if the value does not fit in two longs, null otherwise. */
+    private BigInteger denominator;
+
+    public RationalAccumulator() {
+        this(RationalNumber.ZERO);
+    }
+
+    public RationalAccumulator(RationalNumber initialValue) {
+        this(initialValue, getDefaultReductionThreshold());
+    }
+
+    public RationalAccumulator(RationalNumber initialValue, int reductionThreshold) {
+        this.reductionThreshold = reductionThreshold;
+        set(initialValue);
+    }
+
+    /**
+     * Returns the reduction threshold used by default (derived from the constants of the current thread).
+     */
+    public static int getDefaultReductionThreshold() {
+        return RationalNumberNormalize.value().get() == NO ? -1 : NormalizationThreshold.value().get();
+    }
+
+    public RationalAccumulator set(RationalNumber value) {
+        if (value == null) {
+            throw new IllegalArgumentException("A rational number must be specified (not be null)");
+        }
+
+        if (value.isCompact()) {
+            setCompact(value.getLongNumerator(), value.getLongDenominator());
+        } else {
+            setBigIntegers(value.getNumerator(), value.getDenominator());
+        }
+
+        return this;
+    }
+
+    public RationalAccumulator set(RationalAccumulator value) {
+        if (value == null) {
+            throw new IllegalArgumentException("A rational accumulator must be specified (not be null)");
+        }
+
+        if (value.isCompact()) {
+            setCompact(value.longNumerator, value.longDenominator);
+        } else {
+            numerator = value.numerator;
+            denominator = value.denominator;
+        }
+
+        return this;
+    }
+
+    public RationalAccumulator add(long augend) {
+        return add(augend, 1, false);
+    }
+
+    public RationalAccumulator add(RationalNumber augend) {
+        if (augend == null) {
+            throw new ArithmeticException("Please specify an augend.");
+        }
+
+        return augend.isCompact() ? add(augend.getLongNumerator(), augend.getLongDenominator(), false) : add(augend.getNumerator(), augend.getDenominator(), false);
+    }
+
+    public RationalAccumulator add(RationalAccumulator augend) {
+        if (augend == null) {
+            throw new ArithmeticException("Please specify an augend.");
+        }
+
+        return augend.isCompact() ? add(augend.longNumerator, augend.longDenominator, false) : add(augend.numerator, augend.denominator, false);
+    }
+
+    public RationalAccumulator subtract(long subtrahend) {
+        return add(subtrahend, 1, true);
+    }
+
+    public RationalAccumulator subtract(RationalNumber subtrahend) {
+        if (subtrahend == null) {
+            throw new ArithmeticException("Please specify a subtrahend.");
+        }
+
+        return subtrahend.isCompact() ? add(subtrahend.getLongNumerator(), subtrahend.getLongDenominator(), true) : add(subtrahend.getNumerator(), subtrahend.getDenominator(), true);
+    }
+
+    public RationalAccumulator subtract(RationalAccumulator subtrahend) {
+        if (subtrahend == null) {
+            throw new ArithmeticException("Please specify a subtrahend.");
+        }
+
+        return subtrahend.isCompact() ? add(subtrahend.longNumerator, subtrahend.longDenominator, true) : add(subtrahend.numerator, subtrahend.denominator, true);
+    }
+
+    public RationalAccumulator multiply(long multiplicand) {
+        return multiply(multiplicand, 1);
+    }
+
+    public RationalAccumulator multiply(RationalNumber multiplicand) {
+        if (multiplicand == null) {
+            throw new ArithmeticException("Please specify a multiplicand.");
+        }
+
+        return multiplicand.isCompact() ? multiply(multiplicand.getLongNumerator(), multiplicand.getLongDenominator()) : multiply(multiplicand.getNumerator(), multiplicand.getDenominator());
+    }
+
+    public RationalAccumulator multiply(RationalAccumulator multiplicand) {
+        if (multiplicand == null) {
+            throw new ArithmeticException("Please specify a multiplicand.");
+        }
+
+        return multiplicand.isCompact() ? multiply(multiplicand.longNumerator, multiplicand.longDenominator) : multiply(multiplicand.numerator, multiplicand.denominator);
+    }
+
+    public RationalAccumulator divide(long divisor) {
+        return divide(divisor, 1);
+    }
+
+    public RationalAccumulator divide(RationalNumber divisor) {
+        if (divisor == null) {
+            throw new ArithmeticException("Please specify a divisor.");
+        }
+
+        return divisor.isCompact() ? divide(divisor.getLongNumerator(), divisor.getLongDenominator()) : divide(divisor.getNumerator(), divisor.getDenominator());
+    }
+
+    public RationalAccumulator divide(RationalAccumulator divisor) {
+        if (divisor == null) {
+            throw new ArithmeticException("Please specify a divisor.");
+        }
+
+        return divisor.isCompact() ? divide(divisor.longNumerator, divisor.longDenominator) : divide(divisor.numerator, divisor.denominator);
+    }
+
+    /**
+     * Adds the product of the specified rational numbers (without instantiating the product).
+     */
+    public RationalAccumulator addProduct(RationalNumber multiplicand, RationalNumber multiplicator) {
+        if (multiplicand == null || multiplicator == null) {
+            throw new ArithmeticException("Please specify a multiplicand and a multiplicator.");
+        }
+
+        if (multiplicand.isCompact() && multiplicator.isCompact()) {
+            try {
+                return add(Math.multiplyExact(multiplicand.getLongNumerator(), multiplicator.getLongNumerator()), Math.multiplyExact(multiplicand.getLongDenominator(), multiplicator.getLongDenominator()), false);
+            } catch (ArithmeticException e) {
+                // Note: Overflow, repeat the calculation using big integers
+            }
+        }
+
+        return add(multiplicand.getNumerator().multiply(multiplicator.getNumerator()), multiplicand.getDenominator().multiply(multiplicator.getDenominator()), false);
+    }
+
+    /**
+     * Adds the square of the specified accumulated value.
+     */
+    public RationalAccumulator addSquare(RationalAccumulator value) {
+        if (value == null) {
+            throw new ArithmeticException("Please specify a value.");
+        }
+
+        if (value.isCompact()) {
+            try {
+                return add(Math.multiplyExact(value.longNumerator, value.longNumerator), Math.multiplyExact(value.longDenominator, value.longDenominator), false);
+            } catch (ArithmeticException e) {
+                // Note: Overflow, repeat the calculation using big integers
+            }
+        }
+
+        BigInteger n = value.getNumerator();
+        BigInteger d = value.getDenominator();
+
+        return add(n.multiply(n), d.multiply(d), false);
+    }
+
+    /**
+     * Fused multiply-add (this = this * multiplicand + augend). The new components are determined in one computation and stored (reduced) only once.
+     */
+    public RationalAccumulator multiplyAdd(RationalNumber multiplicand, RationalNumber augend) {
+        if (multiplicand == null) {
+            throw new ArithmeticException("Please specify a multiplicand.");
+        }
+
+        if (augend == null) {
+            throw new ArithmeticException("Please specify an augend.");
+        }
+
+        if (isCompact() && multiplicand.isCompact() && augend.isCompact()) {
+            try {
+                long productNumerator = Math.multiplyExact(longNumerator, multiplicand.getLongNumerator());
+                long productDenominator = Math.multiplyExact(longDenominator, multiplicand.getLongDenominator());
+                if (productDenominator == augend.getLongDenominator()) {
+                    return setCompact(Math.addExact(productNumerator, augend.getLongNumerator()), productDenominator);
+                }
+
+                long newNumerator = Math.addExact(Math.multiplyExact(productNumerator, augend.getLongDenominator()), Math.multiplyExact(augend.getLongNumerator(), productDenominator));
+
+                return setCompact(newNumerator, Math.multiplyExact(productDenominator, augend.getLongDenominator()));
+            } catch (ArithmeticException e) {
+                // Note: Overflow, repeat the calculation using big integers
+            }
+        }
+
+        BigInteger productNumerator = getNumerator().multiply(multiplicand.getNumerator());
+        BigInteger productDenominator = getDenominator().multiply(multiplicand.getDenominator());
+        if (productDenominator.equals(augend.getDenominator())) {
+            return setBigIntegers(productNumerator.add(augend.getNumerator()), productDenominator);
+        }
+
+        BigInteger newNumerator = productNumerator.multiply(augend.getDenominator()).add(augend.getNumerator().multiply(productDenominator));
+
+        return setBigIntegers(newNumerator, productDenominator.multiply(augend.getDenominator()));
+    }
+
+    /**
+     * Fused multiplication and division.
+     */
+    public RationalAccumulator multiplyDivide(long multiplicand, long divisor) {
+        return divide(divisor, multiplicand);
+    }
+
+    public RationalAccumulator negate() {
+        if (isCompact() && longNumerator != Long.MIN_VALUE) {
+            longNumerator = -longNumerator;
+        } else {
+            setBigIntegers(getNumerator().negate(), getDenominator());
+        }
+
+        return this;
+    }
+
+    /**
+     * Replaces the accumulated value by the simplest rational number within the specified maximum error (see {@link RationalNumber#approximate(RationalNumber)}).
+     */
+    public RationalAccumulator approximate(RationalNumber maxError) {
+        RationalNumber.assertIsMaximumError(maxError);
+
+        if (maxError.signum() == 0) {
+            return this;
+        }
+
+        BigInteger[] components = RationalNumber.getSimplestComponents(getNumerator(), getDenominator(), maxError);
+
+        return store(components[0], components[1]);
+    }
+
+    /**
+     * Reduces the accumulated value (i.e. divides both components by their greatest common divisor).
+     */
+    public RationalAccumulator reduce() {
+        if (isCompact()) {
+            long gcd = RationalNumber.gcd(longNumerator, longDenominator);
+            if (gcd > 1) {
+                longNumerator = longNumerator / gcd;
+                longDenominator = longDenominator / gcd;
+            }
+        } else {
+            BigInteger[] components = RationalNumber.getNormalizedComponents(numerator, denominator);
+            store(components[0], components[1]);
+        }
+
+        return this;
+    }
+
+    public int signum() {
+        return isCompact() ? Long.signum(longNumerator) : numerator.signum();
+    }
+
+    public BigInteger getNumerator() {
+        return isCompact() ? BigInteger.valueOf(longNumerator) : numerator;
+    }
+
+    public BigInteger getDenominator() {
+        return isCompact() ? BigInteger.valueOf(longDenominator) : denominator;
+    }
+
+    /**
+     * Returns the accumulated value. The result is normalized according to {@link RationalNumberNormalize}.
+     */
+    public RationalNumber toRationalNumber() {
+        return isCompact() ? new RationalNumber(longNumerator, longDenominator) : new RationalNumber(numerator, denominator);
+    }
+
+    @Override
+    public String toString() {
+        return getNumerator() + "/" + getDenominator();
+    }
+
+    private boolean isCompact() {
+        return numerator == null;
+    }
+
+    private RationalAccumulator add(long n, long d, boolean subtract) {
+        if (isCompact()) {
+            try {
+                long newNumerator;
+                long newDenominator;
+                if (longDenominator == d) {
+                    newNumerator = subtract ? Math.subtractExact(longNumerator, n) : Math.addExact(longNumerator, n);
+                    newDenominator = d;
+                } else {
+                    long term = Math.multiplyExact(n, longDenominator);
+                    newNumerator = Math.multiplyExact(longNumerator, d);
+                    newNumerator = subtract ? Math.subtractExact(newNumerator, term) : Math.addExact(newNumerator, term);
+                    newDenominator = Math.multiplyExact(longDenominator, d);
+                }
+
+                return setCompact(newNumerator, newDenominator);
+            } catch (ArithmeticException e) {
+                // Note: Overflow, repeat the calculation using big integers
+            }
+        }
+
+        return add(BigInteger.valueOf(n), BigInteger.valueOf(d), subtract);
+    }
+
+    private RationalAccumulator add(BigInteger n, BigInteger d, boolean subtract) {
+        BigInteger thisNumerator = getNumerator();
+        BigInteger thisDenominator = getDenominator();
+        if (thisDenominator.equals(d)) {
+            return setBigIntegers(subtract ? thisNumerator.subtract(n) : thisNumerator.add(n), d);
+        }
+
+        BigInteger term = n.multiply(thisDenominator);
+        BigInteger newNumerator = thisNumerator.multiply(d);
+
+        return setBigIntegers(subtract ? newNumerator.subtract(term) : newNumerator.add(term), thisDenominator.multiply(d));
+    }
+
+    private RationalAccumulator multiply(long n, long d) {
+        if (isCompact()) {
+            try {
+                return setCompact(Math.multiplyExact(longNumerator, n), Math.multiplyExact(longDenominator, d));
+            } catch (ArithmeticException e) {
+                // Note: Overflow, repeat the calculation using big integers
+            }
+        }
+
+        return multiply(BigInteger.valueOf(n), BigInteger.valueOf(d));
+    }
+
+    private RationalAccumulator multiply(BigInteger n, BigInteger d) {
+        return setBigIntegers(getNumerator().multiply(n), getDenominator().multiply(d));
+    }
+
+    private RationalAccumulator divide(long n, long d) {
+        if (n == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        if (isCompact()) {
+            try {
+                long newNumerator = Math.multiplyExact(longNumerator, d);
+                long newDenominator = Math.multiplyExact(longDenominator, n);
+                if (newDenominator < 0) {
+                    newNumerator = Math.negateExact(newNumerator);
+                    newDenominator = Math.negateExact(newDenominator);
+                }
+
+                return setCompact(newNumerator, newDenominator);
+            } catch (ArithmeticException e) {
+                // Note: Overflow, repeat the calculation using big integers
+            }
+        }
+
+        return divide(BigInteger.valueOf(n), BigInteger.valueOf(d));
+    }
+
+    private RationalAccumulator divide(BigInteger n, BigInteger d) {
+        if (n.signum() == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        BigInteger newNumerator = getNumerator().multiply(d);
+        BigInteger newDenominator = getDenominator().multiply(n);
+        if (newDenominator.signum() < 0) {
+            newNumerator = newNumerator.negate();
+            newDenominator = newDenominator.negate();
+        }
+
+        return setBigIntegers(newNumerator, newDenominator);
+    }
+
+    private RationalAccumulator setCompact(long n, long d) {
+        longNumerator = n;
+        longDenominator = d;
+        numerator = null;
+        denominator = null;
+
+        return this;
+    }
+
+    /**
+     * Stores the specified components (the denominator being positive). The components are reduced if their combined bit length exceeds the reduction threshold.
+     */
+    private RationalAccumulator setBigIntegers(BigInteger n, BigInteger d) {
+        if (reductionThreshold >= 0 && n.bitLength() + d.bitLength() > reductionThreshold) {
+            BigInteger[] components = RationalNumber.getNormalizedComponents(n, d);
+            return store(components[0], components[1]);
+        }
+
+        return store(n, d);
+    }
+
+    private RationalAccumulator store(BigInteger n, BigInteger d) {
+        if (n.bitLength() < Long.SIZE && d.bitLength() < Long.SIZE) {
+            return setCompact(n.longValue(), d.longValue());
+        }
+
+        numerator = n;
+        denominator = d;
+
+        return this;
+    }
+}
@@ -2,16 +2,21 @@ package nl.smith.mathematics.numbertype;
 
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberOutputType;
-import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
+import nl.smith.mathematics.util.NumberUtil;
 import nl.smith.mathematics.util.RationalNumberUtil;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.HashMap;
-import java.util.Map;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.lang.String.format;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.ADAPTIVE;
 import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.YES;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.NormalizationThreshold;
 import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.Scale;
 
 /**
@@ -21,21 +26,81 @@ import static nl.smith.mathematics.configuration.constant.NumberConstant.Integer
  * denominator ℤ+
  * <p>
  * Note: Unless specified (see: {@link RationalNumberNormalize}) numbers are not normalized by default i.e. 2/10 will not be converted to 1/5.
+ * Using {@link RationalNumberNormalize.PredefinedType#ADAPTIVE} numbers are only normalized if the combined bit length of the numerator and
+ * the denominator exceeds {@link nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf#NormalizationThreshold}.
+ * <p>
+ * Note: As long as both the numerator and the denominator fit in a long they are stored as primitives.
+ * Arithmetic on these compact instances is performed using {@link Math#multiplyExact(long, long)} and {@link Math#addExact(long, long)}.
+ * Only when an overflow occurs the calculation is repeated using {@link BigInteger} components.
  */
 public class RationalNumber extends Number implements Comparable<RationalNumber>, ArithmeticOperations<RationalNumber>  {
 
-    public static final RationalNumber ZERO = new RationalNumber(BigInteger.ZERO, BigInteger.ONE);
+    /** Integers n with |n| ≤ {@value} are cached. */
+    private static final int CACHED_INTEGER_LIMIT = 1024;
+
+    /** Normalized fractions n/d with |n| ≤ {@value} and 1 < d ≤ {@value} are cached. */
+    private static final int CACHED_FRACTION_LIMIT = 32;
+
+    private static final RationalNumber[] INTEGER_CACHE = new RationalNumber[2 * CACHED_INTEGER_LIMIT + 1];
+
+    private static final RationalNumber[] FRACTION_CACHE = new RationalNumber[(2 * CACHED_FRACTION_LIMIT + 1) * (CACHED_FRACTION_LIMIT - 1)];
+
+    static {
+        for (int n = -CACHED_INTEGER_LIMIT; n <= CACHED_INTEGER_LIMIT; n++) {
+            INTEGER_CACHE[n + CACHED_INTEGER_LIMIT] = new RationalNumber(n, 1);
+        }
+
+        // Note: Only normalized fractions are cached. Their components do not depend on the normalization setting.
+        for (int d = 2; d <= CACHED_FRACTION_LIMIT; d++) {
+            for (int n = -CACHED_FRACTION_LIMIT; n <= CACHED_FRACTION_LIMIT; n++) {
+                if (gcd(n, d) == 1) {
+                    FRACTION_CACHE[getFractionCacheIndex(n, d)] = new RationalNumber(n, d);
+                }
+            }
+        }
+    }
+
+    public static final RationalNumber ZERO = valueOf(0);
+
+    public static final RationalNumber ONE = valueOf(1);
+
+    public static final RationalNumber TEN = valueOf(10);
+
+    /** Number of significant bits of a double. */
+    private static final int DOUBLE_PRECISION = 53;
+
+    /** Exponent of the smallest normal double. */
+    private static final int DOUBLE_MIN_EXPONENT = Double.MIN_EXPONENT;
+
+    /** Longs with an absolute value up to this limit are exact doubles. */
+    private static final long DOUBLE_EXACT_LIMIT = 1L << DOUBLE_PRECISION;
 
-    public static final RationalNumber ONE = new RationalNumber(BigInteger.ONE, BigInteger.ONE);
+    /** Number of significant bits of a float. */
+    private static final int FLOAT_PRECISION = 24;
 
-    public static final RationalNumber TEN = new RationalNumber(BigInteger.TEN, BigInteger.ONE);
+    /** Exponent of the smallest normal float. */
+    private static final int FLOAT_MIN_EXPONENT = Float.MIN_EXPONENT;
 
+    /** Longs with an absolute value up to this limit are exact floats. */
+    private static final long FLOAT_EXACT_LIMIT = 1L << FLOAT_PRECISION;
+
+    /** Numerator of a compact rational number. Only valid if {@link #numerator} is null. */
+    private final long longNumerator;
+
+    /** Denominator of a compact rational number. Only valid if {@link #denominator} is null. */
+    private final long longDenominator;
+
+    /** Numerator if the rational number does not fit in two longs, null otherwise. */
     private final BigInteger numerator;
 
+    /** Denominator if the rational number does not fit in two longs, null otherwise. */
     private final BigInteger denominator;
 
+    /** Cached hash code of the normalized rational number (0 if not yet calculated). */
+    private int hash;
+
     public RationalNumber(long numerator) {
-        this(BigInteger.valueOf(numerator));
+        this(numerator, 1);
     }
 
     public RationalNumber(BigInteger numerator) {
@@ -43,7 +108,38 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
     }
 
     public RationalNumber(long numerator, long denominator) {
-        this(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        if (denominator == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        if (denominator < 0 && (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE)) {
+            // Note: The sign of the components can not be changed without an overflow.
+            BigInteger[] components = getComponents(BigInteger.valueOf(numerator).negate(), BigInteger.valueOf(denominator).negate());
+            boolean compact = isCompact(components);
+            this.longNumerator = compact ? components[0].longValue() : 0;
+            this.longDenominator = compact ? components[1].longValue() : 0;
+            this.numerator = compact ? null : components[0];
+            this.denominator = compact ? null : components[1];
+            return;
+        }
+
+        if (denominator < 0) {
+            numerator = -numerator;
+            denominator = -denominator;
+        }
+
+        if (isNormalizationRequired(numerator, denominator)) {
+            long gcd = gcd(numerator, denominator);
+            if (gcd != 1) {
+                numerator = numerator / gcd;
+                denominator = denominator / gcd;
+            }
+        }
+
+        this.longNumerator = numerator;
+        this.longDenominator = denominator;
+        this.numerator = null;
+        this.denominator = null;
     }
 
     public RationalNumber(RationalNumber rationalNumber) {
@@ -51,17 +147,30 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             throw new IllegalArgumentException("A rational number must be specified (not be null)");
         }
 
-        BigInteger n = rationalNumber.numerator;
-        BigInteger d = rationalNumber.denominator;
+        if (rationalNumber.isCompact()) {
+            long n = rationalNumber.longNumerator;
+            long d = rationalNumber.longDenominator;
 
-        if (YES.equals(RationalNumberNormalize.value().get())) {
-            BigInteger[] normalizedComponents = getNormalizedComponents(n, d);
-            n = normalizedComponents[0];
-            d = normalizedComponents[1];
-        }
+            if (isNormalizationRequired(n, d)) {
+                long gcd = gcd(n, d);
+                if (gcd != 1) {
+                    n = n / gcd;
+                    d = d / gcd;
+                }
+            }
 
-        this.numerator = n;
-        this.denominator = d;
+            this.longNumerator = n;
+            this.longDenominator = d;
+            this.numerator = null;
+            this.denominator = null;
+        } else {
+            BigInteger[] components = getComponents(rationalNumber.numerator, rationalNumber.denominator);
+            boolean compact = isCompact(components);
+            this.longNumerator = compact ? components[0].longValue() : 0;
+            this.longDenominator = compact ? components[1].longValue() : 0;
+            this.numerator = compact ? null : components[0];
+            this.denominator = compact ? null : components[1];
+        }
     }
 
     public RationalNumber(BigInteger numerator, BigInteger denominator) {
@@ -78,14 +187,137 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             denominator = denominator.abs();
         }
 
-        if (YES.equals(RationalNumberNormalize.value().get())) {
-            BigInteger[] normalizedComponents = getNormalizedComponents(numerator, denominator);
-            numerator = normalizedComponents[0];
-            denominator = normalizedComponents[1];
+        BigInteger[] components = getComponents(numerator, denominator);
+        boolean compact = isCompact(components);
+        this.longNumerator = compact ? components[0].longValue() : 0;
+        this.longDenominator = compact ? components[1].longValue() : 0;
+        this.numerator = compact ? null : components[0];
+        this.denominator = compact ? null : components[1];
+    }
+
+    /**
+     * Returns a rational number representing the specified integer.
+     * Frequently used (small) values are retrieved from a cache instead of being instantiated.
+     */
+    public static RationalNumber valueOf(long numerator) {
+        if (numerator >= -CACHED_INTEGER_LIMIT && numerator <= CACHED_INTEGER_LIMIT) {
+            return INTEGER_CACHE[(int) numerator + CACHED_INTEGER_LIMIT];
+        }
+
+        return new RationalNumber(numerator, 1);
+    }
+
+    /**
+     * Returns a rational number representing the specified fraction.
+     * Frequently used (small) values are retrieved from a cache instead of being instantiated.
+     * The components of the returned value are the same as those of a rational number created using {@link #RationalNumber(long, long)}.
+     */
+    public static RationalNumber valueOf(long numerator, long denominator) {
+        if (denominator == 1) {
+            return valueOf(numerator);
+        }
+
+        if (denominator == -1 && numerator != Long.MIN_VALUE) {
+            return valueOf(-numerator);
+        }
+
+        if (denominator != 0 && denominator != Long.MIN_VALUE && numerator != Long.MIN_VALUE) {
+            long d = Math.abs(denominator);
+            long n = denominator < 0 ? -numerator : numerator;
+            if (d <= CACHED_FRACTION_LIMIT && Math.abs(n) <= CACHED_INTEGER_LIMIT) {
+                long gcd = gcd(n, d);
+                if (gcd == 1 || isNormalizationRequired(n, d)) {
+                    n = n / gcd;
+                    d = d / gcd;
+                    if (d == 1) {
+                        return valueOf(n);
+                    }
+                    if (Math.abs(n) <= CACHED_FRACTION_LIMIT) {
+                        return FRACTION_CACHE[getFractionCacheIndex(n, d)];
+                    }
+                }
+            }
+        }
+
+        return new RationalNumber(numerator, denominator);
+    }
+
+    private static int getFractionCacheIndex(long numerator, long denominator) {
+        return (int) ((denominator - 2) * (2 * CACHED_FRACTION_LIMIT + 1) + numerator + CACHED_FRACTION_LIMIT);
+    }
+
+    /**
+     * Returns the specified (sign corrected) components. The components are normalized if required.
+     */
+    private static BigInteger[] getComponents(BigInteger numerator, BigInteger denominator) {
+        if (isNormalizationRequired(numerator, denominator)) {
+            return getNormalizedComponents(numerator, denominator);
         }
 
-        this.numerator = numerator;
-        this.denominator = denominator;
+        return new BigInteger[]{numerator, denominator};
+    }
+
+    private static boolean isNormalizationRequired(long numerator, long denominator) {
+        RationalNumberNormalize.PredefinedType normalize = RationalNumberNormalize.value().get();
+        if (normalize == ADAPTIVE) {
+            int bitLength = 2 * Long.SIZE - Long.numberOfLeadingZeros(Math.abs(numerator)) - Long.numberOfLeadingZeros(denominator);
+            return bitLength > NormalizationThreshold.value().get();
+        }
+
+        return normalize == YES;
+    }
+
+    private static boolean isNormalizationRequired(BigInteger numerator, BigInteger denominator) {
+        RationalNumberNormalize.PredefinedType normalize = RationalNumberNormalize.value().get();
+        if (normalize == ADAPTIVE) {
+            return numerator.bitLength() + denominator.bitLength() > NormalizationThreshold.value().get();
+        }
+
+        return normalize == YES;
+    }
+
+    /**
+     * Components can be stored compactly if both fit in a long.
+     */
+    private static boolean isCompact(BigInteger[] components) {
+        return components[0].bitLength() < Long.SIZE && components[1].bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Returns the (positive) greatest common divisor of the specified numerator and the positive denominator.
+     */
+    static long gcd(long numerator, long denominator) {
+        long a = denominator;
+        long b = numerator;
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+
+        // Note: The gcd divides the positive denominator so its absolute value does not overflow.
+        return Math.abs(a);
+    }
+
+    /**
+     * A compact rational number stores its numerator and denominator as longs.
+     */
+    boolean isCompact() {
+        return numerator == null;
+    }
+
+    /**
+     * Numerator of a compact rational number (see: {@link #isCompact()}).
+     */
+    long getLongNumerator() {
+        return longNumerator;
+    }
+
+    /**
+     * Denominator of a compact rational number (see: {@link #isCompact()}).
+     */
+    long getLongDenominator() {
+        return longDenominator;
     }
 
     /**
@@ -107,6 +339,12 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
      * Returns the current instance if it is normalized else returns a new normalized rational number instance.
      */
     public RationalNumber getNormalized() {
+        if (isCompact()) {
+            long gcd = gcd(longNumerator, longDenominator);
+
+            return gcd == 1 ? this : new RationalNumber(longNumerator / gcd, longDenominator / gcd);
+        }
+
         BigInteger[] normalizedComponents = getNormalizedComponents(numerator, denominator);
 
         return normalizedComponents[1].equals(denominator) ? this : new RationalNumber(normalizedComponents[0], normalizedComponents[1]);
@@ -122,45 +360,133 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
 
     @Override
     public boolean isNaturalNumber() {
+        if (isCompact()) {
+            return longNumerator % longDenominator == 0;
+        }
+
         return numerator.divideAndRemainder(denominator)[1].equals(BigInteger.ZERO);
     }
 
     @Override
     public int signum() {
-        return numerator.signum();
+        return isCompact() ? Long.signum(longNumerator) : numerator.signum();
     }
 
     @Override
     public int intValue() {
-        return numerator.divideAndRemainder(denominator)[0].intValue();
+        return isCompact() ? (int) (longNumerator / longDenominator) : numerator.divideAndRemainder(denominator)[0].intValue();
     }
 
     /**
      * The truncated value as {@link java.math.BigInteger}
      */
     public BigInteger bigIntValue() {
-        return numerator.divideAndRemainder(denominator)[0];
+        return isCompact() ? BigInteger.valueOf(longNumerator / longDenominator) : numerator.divideAndRemainder(denominator)[0];
     }
 
     @Override
     public long longValue() {
-        return numerator.divideAndRemainder(denominator)[0].longValue();
+        return isCompact() ? longNumerator / longDenominator : numerator.divideAndRemainder(denominator)[0].longValue();
     }
 
-    //TODO Test
     @Override
     public float floatValue() {
-        return (new BigDecimal(numerator)).divide(new BigDecimal(denominator), Scale.value().get(), RoundingMode.value().get().mathRoundingMode()).floatValue();
+        if (isCompact() && Math.abs(longNumerator) <= FLOAT_EXACT_LIMIT && longDenominator <= FLOAT_EXACT_LIMIT) {
+            // Note: Both components are exact floats so the (IEEE) division is correctly rounded
+            return (float) longNumerator / (float) longDenominator;
+        }
+
+        return (float) toBinaryFloatingPoint(FLOAT_PRECISION, FLOAT_MIN_EXPONENT);
     }
 
-    //TODO Test
     @Override
     public double doubleValue() {
-        return (new BigDecimal(numerator)).divide(new BigDecimal(denominator), Scale.value().get(), RoundingMode.value().get().mathRoundingMode()).doubleValue();
+        if (isCompact() && Math.abs(longNumerator) <= DOUBLE_EXACT_LIMIT && longDenominator <= DOUBLE_EXACT_LIMIT) {
+            // Note: Both components are exact doubles so the (IEEE) division is correctly rounded
+            return (double) longNumerator / (double) longDenominator;
+        }
+
+        return toBinaryFloatingPoint(DOUBLE_PRECISION, DOUBLE_MIN_EXPONENT);
+    }
+
+    /**
+     * Returns this rational number rounded according to the specified math context.
+     * The division is performed at exactly the requested precision (i.e. independent of {@link nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf#Scale}).
+     *
+     * @throws ArithmeticException if the precision is unlimited and the decimal expansion does not terminate
+     */
+    public BigDecimal toBigDecimal(MathContext mathContext) {
+        if (mathContext == null) {
+            throw new IllegalArgumentException("A math context must be specified (not be null)");
+        }
+
+        if (isCompact()) {
+            return BigDecimal.valueOf(longNumerator).divide(BigDecimal.valueOf(longDenominator), mathContext);
+        }
+
+        return new BigDecimal(numerator).divide(new BigDecimal(denominator), mathContext);
+    }
+
+    /**
+     * Correctly rounded (round half even) conversion to a binary floating point number with the specified precision (in bits).
+     * The quotient of the (shifted) components is determined using a single integer division. The remainder only serves as sticky bit.
+     *
+     * @param precision   Number of significant bits (including the implicit leading bit)
+     * @param minExponent Exponent of the smallest normal number
+     */
+    private double toBinaryFloatingPoint(int precision, int minExponent) {
+        BigInteger absoluteNumerator = getNumerator().abs();
+        BigInteger denominator = getDenominator();
+        if (absoluteNumerator.signum() == 0) {
+            return 0.0;
+        }
+
+        // Note: The quotient has precision + 2 or precision + 3 bits (i.e. at least a round bit and a sticky bit)
+        int shift = precision + 2 - (absoluteNumerator.bitLength() - denominator.bitLength());
+        BigInteger[] quotientAndRemainder = shiftedDivideAndRemainder(absoluteNumerator, denominator, shift);
+        int exponent = quotientAndRemainder[0].bitLength() - 1 - shift;
+
+        if (exponent < minExponent) {
+            // Note: Subnormal number, less significant bits are available
+            precision = precision - (minExponent - exponent);
+            if (precision < 0) {
+                return signum() * 0.0;
+            }
+
+            shift = precision + 1 - exponent;
+            quotientAndRemainder = shiftedDivideAndRemainder(absoluteNumerator, denominator, shift);
+        }
+
+        long quotient = quotientAndRemainder[0].longValue();
+        int droppedBits = quotientAndRemainder[0].bitLength() - precision;
+        long mantissa = quotient >> droppedBits;
+        boolean roundBit = ((quotient >> (droppedBits - 1)) & 1) == 1;
+        boolean stickyBit = (quotient & ((1L << (droppedBits - 1)) - 1)) != 0 || quotientAndRemainder[1].signum() != 0;
+        if (roundBit && (stickyBit || (mantissa & 1) == 1)) {
+            mantissa++;
+        }
+
+        // Note: The mantissa has at most precision + 1 bits so scaling is exact (or overflows to infinity)
+        return signum() * Math.scalb((double) mantissa, droppedBits - shift);
+    }
+
+    private static BigInteger[] shiftedDivideAndRemainder(BigInteger numerator, BigInteger denominator, int shift) {
+        return shift >= 0 ? numerator.shiftLeft(shift).divideAndRemainder(denominator) : numerator.divideAndRemainder(denominator.shiftLeft(-shift));
     }
 
     @Override
     public RationalNumber add(long augend) {
+        if (isCompact()) {
+            long n;
+            try {
+                n = Math.addExact(longNumerator, Math.multiplyExact(augend, longDenominator));
+            } catch (ArithmeticException e) {
+                return add(BigInteger.valueOf(augend));
+            }
+
+            return new RationalNumber(n, longDenominator);
+        }
+
         return add(BigInteger.valueOf(augend));
     }
 
@@ -179,14 +505,42 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             throw new ArithmeticException("Please specify an augend.");
         }
 
-        BigInteger n = this.numerator.multiply(augend.denominator).add(augend.numerator.multiply(this.denominator));
-        BigInteger d = this.denominator.multiply(augend.denominator);
+        if (isCompact() && augend.isCompact()) {
+            long n;
+            long d;
+            try {
+                n = Math.addExact(Math.multiplyExact(longNumerator, augend.longDenominator), Math.multiplyExact(augend.longNumerator, longDenominator));
+                d = Math.multiplyExact(longDenominator, augend.longDenominator);
+            } catch (ArithmeticException e) {
+                return addUsingBigIntegers(augend);
+            }
+
+            return new RationalNumber(n, d);
+        }
+
+        return addUsingBigIntegers(augend);
+    }
+
+    private RationalNumber addUsingBigIntegers(RationalNumber augend) {
+        BigInteger n = this.getNumerator().multiply(augend.getDenominator()).add(augend.getNumerator().multiply(this.getDenominator()));
+        BigInteger d = this.getDenominator().multiply(augend.getDenominator());
 
         return new RationalNumber(n, d);
     }
 
     @Override
     public RationalNumber subtract(long subtrahend) {
+        if (isCompact()) {
+            long n;
+            try {
+                n = Math.subtractExact(longNumerator, Math.multiplyExact(subtrahend, longDenominator));
+            } catch (ArithmeticException e) {
+                return subtract(BigInteger.valueOf(subtrahend));
+            }
+
+            return new RationalNumber(n, longDenominator);
+        }
+
         return subtract(BigInteger.valueOf(subtrahend));
     }
 
@@ -205,14 +559,42 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             throw new ArithmeticException("Please specify a subtrahend.");
         }
 
-        BigInteger n = this.numerator.multiply(subtrahend.denominator).subtract(subtrahend.numerator.multiply(this.denominator));
-        BigInteger d = this.denominator.multiply(subtrahend.denominator);
+        if (isCompact() && subtrahend.isCompact()) {
+            long n;
+            long d;
+            try {
+                n = Math.subtractExact(Math.multiplyExact(longNumerator, subtrahend.longDenominator), Math.multiplyExact(subtrahend.longNumerator, longDenominator));
+                d = Math.multiplyExact(longDenominator, subtrahend.longDenominator);
+            } catch (ArithmeticException e) {
+                return subtractUsingBigIntegers(subtrahend);
+            }
+
+            return new RationalNumber(n, d);
+        }
+
+        return subtractUsingBigIntegers(subtrahend);
+    }
+
+    private RationalNumber subtractUsingBigIntegers(RationalNumber subtrahend) {
+        BigInteger n = this.getNumerator().multiply(subtrahend.getDenominator()).subtract(subtrahend.getNumerator().multiply(this.getDenominator()));
+        BigInteger d = this.getDenominator().multiply(subtrahend.getDenominator());
 
         return new RationalNumber(n, d);
     }
 
     @Override
     public RationalNumber multiply(long multiplicand) {
+        if (isCompact()) {
+            long n;
+            try {
+                n = Math.multiplyExact(longNumerator, multiplicand);
+            } catch (ArithmeticException e) {
+                return multiply(BigInteger.valueOf(multiplicand));
+            }
+
+            return new RationalNumber(n, longDenominator);
+        }
+
         return multiply(BigInteger.valueOf(multiplicand));
     }
 
@@ -231,14 +613,42 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             throw new ArithmeticException("Please specify a multiplicand.");
         }
 
-        BigInteger n = this.numerator.multiply(multiplicand.numerator);
-        BigInteger d = this.denominator.multiply(multiplicand.denominator);
+        if (isCompact() && multiplicand.isCompact()) {
+            long n;
+            long d;
+            try {
+                n = Math.multiplyExact(longNumerator, multiplicand.longNumerator);
+                d = Math.multiplyExact(longDenominator, multiplicand.longDenominator);
+            } catch (ArithmeticException e) {
+                return multiplyUsingBigIntegers(multiplicand);
+            }
+
+            return new RationalNumber(n, d);
+        }
+
+        return multiplyUsingBigIntegers(multiplicand);
+    }
+
+    private RationalNumber multiplyUsingBigIntegers(RationalNumber multiplicand) {
+        BigInteger n = this.getNumerator().multiply(multiplicand.getNumerator());
+        BigInteger d = this.getDenominator().multiply(multiplicand.getDenominator());
 
         return new RationalNumber(n, d);
     }
 
     @Override
     public RationalNumber divide(long divisor) {
+        if (isCompact()) {
+            long d;
+            try {
+                d = Math.multiplyExact(longDenominator, divisor);
+            } catch (ArithmeticException e) {
+                return divide(BigInteger.valueOf(divisor));
+            }
+
+            return new RationalNumber(longNumerator, d);
+        }
+
         return divide(BigInteger.valueOf(divisor));
     }
 
@@ -257,20 +667,331 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             throw new ArithmeticException("Please specify a divisor.");
         }
 
-        BigInteger n = this.numerator.multiply(divisor.denominator);
-        BigInteger d = this.denominator.multiply(divisor.numerator);
+        if (isCompact() && divisor.isCompact()) {
+            long n;
+            long d;
+            try {
+                n = Math.multiplyExact(longNumerator, divisor.longDenominator);
+                d = Math.multiplyExact(longDenominator, divisor.longNumerator);
+            } catch (ArithmeticException e) {
+                return divideUsingBigIntegers(divisor);
+            }
+
+            return new RationalNumber(n, d);
+        }
+
+        return divideUsingBigIntegers(divisor);
+    }
+
+    private RationalNumber divideUsingBigIntegers(RationalNumber divisor) {
+        BigInteger n = this.getNumerator().multiply(divisor.getDenominator());
+        BigInteger d = this.getDenominator().multiply(divisor.getNumerator());
+
+        return new RationalNumber(n, d);
+    }
+
+    @Override
+    public RationalNumber multiplyAdd(RationalNumber multiplicand, RationalNumber augend) {
+        if (multiplicand == null) {
+            throw new ArithmeticException("Please specify a multiplicand.");
+        }
+
+        if (augend == null) {
+            throw new ArithmeticException("Please specify an augend.");
+        }
+
+        if (isCompact() && multiplicand.isCompact() && augend.isCompact()) {
+            long n;
+            long d;
+            try {
+                long productNumerator = Math.multiplyExact(longNumerator, multiplicand.longNumerator);
+                long productDenominator = Math.multiplyExact(longDenominator, multiplicand.longDenominator);
+                if (productDenominator == augend.longDenominator) {
+                    n = Math.addExact(productNumerator, augend.longNumerator);
+                    d = productDenominator;
+                } else {
+                    n = Math.addExact(Math.multiplyExact(productNumerator, augend.longDenominator), Math.multiplyExact(augend.longNumerator, productDenominator));
+                    d = Math.multiplyExact(productDenominator, augend.longDenominator);
+                }
+            } catch (ArithmeticException e) {
+                return multiplyAddUsingBigIntegers(multiplicand, augend);
+            }
+
+            return new RationalNumber(n, d);
+        }
+
+        return multiplyAddUsingBigIntegers(multiplicand, augend);
+    }
+
+    private RationalNumber multiplyAddUsingBigIntegers(RationalNumber multiplicand, RationalNumber augend) {
+        BigInteger productNumerator = this.getNumerator().multiply(multiplicand.getNumerator());
+        BigInteger productDenominator = this.getDenominator().multiply(multiplicand.getDenominator());
+        if (productDenominator.equals(augend.getDenominator())) {
+            return new RationalNumber(productNumerator.add(augend.getNumerator()), productDenominator);
+        }
+
+        BigInteger n = productNumerator.multiply(augend.getDenominator()).add(augend.getNumerator().multiply(productDenominator));
+        BigInteger d = productDenominator.multiply(augend.getDenominator());
 
         return new RationalNumber(n, d);
     }
 
+    @Override
+    public RationalNumber multiplyDivide(long multiplicand, long divisor) {
+        if (isCompact()) {
+            long n;
+            long d;
+            try {
+                n = Math.multiplyExact(longNumerator, multiplicand);
+                d = Math.multiplyExact(longDenominator, divisor);
+            } catch (ArithmeticException e) {
+                return new RationalNumber(getNumerator().multiply(BigInteger.valueOf(multiplicand)), getDenominator().multiply(BigInteger.valueOf(divisor)));
+            }
+
+            return new RationalNumber(n, d);
+        }
+
+        return new RationalNumber(numerator.multiply(BigInteger.valueOf(multiplicand)), denominator.multiply(BigInteger.valueOf(divisor)));
+    }
+
+    @Override
+    public RationalNumber dot(RationalNumber[] multiplicands, RationalNumber[] multiplicators) {
+        if (multiplicands == null || multiplicators == null) {
+            throw new IllegalArgumentException("Both multiplicands and multiplicators must be specified (not be null)");
+        }
+
+        if (multiplicands.length != multiplicators.length) {
+            throw new IllegalArgumentException(format("The number of multiplicands (%d) differs from the number of multiplicators (%d)", multiplicands.length, multiplicators.length));
+        }
+
+        RationalAccumulator sum = new RationalAccumulator(this);
+        for (int i = 0; i < multiplicands.length; i++) {
+            sum.addProduct(multiplicands[i], multiplicators[i]);
+        }
+
+        return sum.toRationalNumber();
+    }
+
     @Override
     public RationalNumber negate() {
-        return new RationalNumber(numerator.negate(), denominator);
+        if (isCompact() && longNumerator != Long.MIN_VALUE) {
+            return new RationalNumber(-longNumerator, longDenominator);
+        }
+
+        return new RationalNumber(getNumerator().negate(), getDenominator());
     }
 
     @Override
     public RationalNumber abs() {
-        return new RationalNumber(numerator.abs(), denominator);
+        if (isCompact() && longNumerator != Long.MIN_VALUE) {
+            return new RationalNumber(Math.abs(longNumerator), longDenominator);
+        }
+
+        return new RationalNumber(getNumerator().abs(), getDenominator());
+    }
+
+    /**
+     * Returns this^exponent. The numerator and the denominator are raised to the power using binary exponentiation ({@link BigInteger#pow(int)}).
+     *
+     * @throws ArithmeticException if this rational number is zero and the exponent is negative
+     */
+    public RationalNumber pow(int exponent) {
+        if (exponent == 0) {
+            return ONE;
+        } else if (exponent == 1) {
+            return this;
+        }
+
+        if (exponent < 0) {
+            int absoluteExponent = Math.negateExact(exponent);
+            return new RationalNumber(getDenominator().pow(absoluteExponent), getNumerator().pow(absoluteExponent));
+        }
+
+        return new RationalNumber(getNumerator().pow(exponent), getDenominator().pow(exponent));
+    }
+
+    /**
+     * Returns the simplest rational number (smallest denominator, then smallest absolute numerator) in the interval [this - maxError, this + maxError].
+     * The rational number is determined using the continued fraction expansion of the bounds of the interval.
+     * <p>
+     * Example: 3.14159 approximated using maximum error 1/100 results in 22/7.
+     */
+    public RationalNumber approximate(RationalNumber maxError) {
+        assertIsMaximumError(maxError);
+
+        if (maxError.signum() == 0) {
+            return this;
+        }
+
+        BigInteger[] components = getSimplestComponents(getNumerator(), getDenominator(), maxError);
+
+        return new RationalNumber(components[0], components[1]);
+    }
+
+    /**
+     * Returns the rational number closest to this rational number having a denominator not exceeding the specified maximum denominator.
+     * The result is either the last convergent of the continued fraction expansion of this rational number within the limit
+     * or the semiconvergent (determined using the largest possible coefficient) following it.
+     * <p>
+     * Example: 3.14159265 using maximum denominator 100 results in 311/99.
+     */
+    public RationalNumber limitDenominator(BigInteger maxDenominator) {
+        if (maxDenominator == null || maxDenominator.signum() <= 0) {
+            throw new IllegalArgumentException(format("A positive maximum denominator must be specified (%s)", maxDenominator));
+        }
+
+        if (getDenominator().compareTo(maxDenominator) <= 0) {
+            return this;
+        }
+
+        BigInteger[] components = getNormalizedComponents(getNumerator(), getDenominator());
+        if (components[1].compareTo(maxDenominator) <= 0) {
+            return new RationalNumber(components[0], components[1]);
+        }
+
+        BigInteger n = components[0].abs();
+        BigInteger d = components[1];
+
+        // Note: Convergents p0/q0 (second to last) and p1/q1 (last) within the limit
+        BigInteger p0 = BigInteger.ZERO;
+        BigInteger q0 = BigInteger.ONE;
+        BigInteger p1 = BigInteger.ONE;
+        BigInteger q1 = BigInteger.ZERO;
+        while (true) {
+            BigInteger[] divideAndRemainder = n.divideAndRemainder(d);
+            BigInteger q2 = q0.add(divideAndRemainder[0].multiply(q1));
+            if (q2.compareTo(maxDenominator) > 0) {
+                break;
+            }
+
+            BigInteger p2 = p0.add(divideAndRemainder[0].multiply(p1));
+            p0 = p1;
+            q0 = q1;
+            p1 = p2;
+            q1 = q2;
+            n = d;
+            d = divideAndRemainder[1];
+        }
+
+        BigInteger k = maxDenominator.subtract(q0).divide(q1);
+        BigInteger semiconvergentNumerator = p0.add(k.multiply(p1));
+        BigInteger semiconvergentDenominator = q0.add(k.multiply(q1));
+
+        // Note: |p/q - n/d| = |p * d - n * q| / (q * d), the distances are compared after multiplication by d * q1 * semiconvergentDenominator
+        BigInteger absoluteNumerator = components[0].abs();
+        BigInteger convergentDistance = p1.multiply(components[1]).subtract(absoluteNumerator.multiply(q1)).abs().multiply(semiconvergentDenominator);
+        BigInteger semiconvergentDistance = semiconvergentNumerator.multiply(components[1]).subtract(absoluteNumerator.multiply(semiconvergentDenominator)).abs().multiply(q1);
+
+        boolean convergent = convergentDistance.compareTo(semiconvergentDistance) <= 0;
+        BigInteger numerator = convergent ? p1 : semiconvergentNumerator;
+
+        return new RationalNumber(components[0].signum() < 0 ? numerator.negate() : numerator, convergent ? q1 : semiconvergentDenominator);
+    }
+
+    /**
+     * Returns the convergents of the continued fraction expansion of this rational number (of a negative number the negated convergents of its absolute value).
+     * The denominators of the convergents increase and their distances to this rational number decrease, the last convergent equals this rational number.
+     * <p>
+     * Example: 3.14159 results in 3, 22/7, 333/106, 355/113, 9208/2931, 9563/3044, 76149/24239, 314159/100000.
+     */
+    public List<RationalNumber> convergents() {
+        BigInteger[] components = getNormalizedComponents(getNumerator(), getDenominator());
+        BigInteger n = components[0].abs();
+        BigInteger d = components[1];
+
+        List<RationalNumber> convergents = new ArrayList<>();
+        // Note: Convergents p0/q0 (second to last) and p1/q1 (last)
+        BigInteger p0 = BigInteger.ZERO;
+        BigInteger q0 = BigInteger.ONE;
+        BigInteger p1 = BigInteger.ONE;
+        BigInteger q1 = BigInteger.ZERO;
+        while (d.signum() != 0) {
+            BigInteger[] divideAndRemainder = n.divideAndRemainder(d);
+            BigInteger p2 = p0.add(divideAndRemainder[0].multiply(p1));
+            BigInteger q2 = q0.add(divideAndRemainder[0].multiply(q1));
+            convergents.add(new RationalNumber(components[0].signum() < 0 ? p2.negate() : p2, q2));
+            p0 = p1;
+            q0 = q1;
+            p1 = p2;
+            q1 = q2;
+            n = d;
+            d = divideAndRemainder[1];
+        }
+
+        return convergents;
+    }
+
+    static void assertIsMaximumError(RationalNumber maxError) {
+        if (maxError == null) {
+            throw new IllegalArgumentException("A maximum error must be specified (not be null)");
+        }
+
+        if (maxError.signum() < 0) {
+            throw new IllegalArgumentException(format("The maximum error must not be negative (%s)", maxError.toStringComponents()));
+        }
+    }
+
+    /**
+     * Returns the components of the simplest rational number within the specified maximum error of numerator / denominator (the denominator being positive).
+     */
+    static BigInteger[] getSimplestComponents(BigInteger numerator, BigInteger denominator, RationalNumber maxError) {
+        BigInteger center = numerator.multiply(maxError.getDenominator());
+        BigInteger radius = maxError.getNumerator().multiply(denominator);
+        BigInteger commonDenominator = denominator.multiply(maxError.getDenominator());
+
+        return getSimplestComponents(center.subtract(radius), center.add(radius), commonDenominator);
+    }
+
+    /**
+     * Returns the components of the simplest rational number in the interval [lowerNumerator / denominator, upperNumerator / denominator].
+     * <pre>
+     * simplest(lower, upper) = ceil(lower)                                                     if ceil(lower) &lt;= upper
+     *                        = floor(lower) + 1 / simplest(1 / (upper - floor(lower)), 1 / (lower - floor(lower)))   otherwise
+     * </pre>
+     * The recursion is evaluated iteratively by accumulating the convergents of the continued fraction [floor(lower); ... ; ceil(...)].
+     */
+    private static BigInteger[] getSimplestComponents(BigInteger lowerNumerator, BigInteger upperNumerator, BigInteger denominator) {
+        if (lowerNumerator.signum() <= 0 && upperNumerator.signum() >= 0) {
+            return new BigInteger[]{BigInteger.ZERO, BigInteger.ONE};
+        }
+
+        if (upperNumerator.signum() < 0) {
+            BigInteger[] components = getSimplestComponents(upperNumerator.negate(), lowerNumerator.negate(), denominator);
+            components[0] = components[0].negate();
+
+            return components;
+        }
+
+        BigInteger lowerDenominator = denominator;
+        BigInteger upperDenominator = denominator;
+        // Note: Convergents p/q (last) and previousP/previousQ (second to last)
+        BigInteger p = BigInteger.ONE;
+        BigInteger q = BigInteger.ZERO;
+        BigInteger previousP = BigInteger.ZERO;
+        BigInteger previousQ = BigInteger.ONE;
+        while (true) {
+            BigInteger[] divideAndRemainder = lowerNumerator.divideAndRemainder(lowerDenominator);
+            BigInteger ceiling = divideAndRemainder[1].signum() == 0 ? divideAndRemainder[0] : divideAndRemainder[0].add(BigInteger.ONE);
+            if (ceiling.multiply(upperDenominator).compareTo(upperNumerator) <= 0) {
+                return new BigInteger[]{ceiling.multiply(p).add(previousP), ceiling.multiply(q).add(previousQ)};
+            }
+
+            BigInteger floor = divideAndRemainder[0];
+            BigInteger nextP = floor.multiply(p).add(previousP);
+            BigInteger nextQ = floor.multiply(q).add(previousQ);
+            previousP = p;
+            previousQ = q;
+            p = nextP;
+            q = nextQ;
+
+            // Note: The bounds of the remaining interval are 1 / (upper - floor) and 1 / (lower - floor)
+            BigInteger nextLowerNumerator = upperDenominator;
+            BigInteger nextLowerDenominator = upperNumerator.subtract(floor.multiply(upperDenominator));
+            upperNumerator = lowerDenominator;
+            upperDenominator = divideAndRemainder[1];
+            lowerNumerator = nextLowerNumerator;
+            lowerDenominator = nextLowerDenominator;
+        }
     }
 
     @Override
@@ -283,108 +1004,118 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             return true;
         }
 
-        RationalNumber rationalNumber = (RationalNumber) obj;
+        RationalNumber other = (RationalNumber) obj;
+        if (hash != 0 && other.hash != 0 && hash != other.hash) {
+            // Note: Hash codes are based on the normalized value so different (cached) hash codes imply different values
+            return false;
+        }
+
+        return compareTo(other) == 0;
+    }
 
-        return numerator.multiply(rationalNumber.denominator).equals(rationalNumber.numerator.multiply(denominator));
+    /**
+     * The hash code is calculated using the normalized components so equal rational numbers (i.e. 1/2 and 2/4) have equal hash codes.
+     * The hash code is calculated once and cached in the instance.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = calculateHashCode();
+            hash = h;
+        }
+
+        return h;
+    }
+
+    private int calculateHashCode() {
+        if (isCompact()) {
+            long gcd = gcd(longNumerator, longDenominator);
+
+            return 31 * Long.hashCode(longNumerator / gcd) + Long.hashCode(longDenominator / gcd);
+        }
+
+        BigInteger[] normalizedComponents = getNormalizedComponents(numerator, denominator);
+        if (isCompact(normalizedComponents)) {
+            return 31 * Long.hashCode(normalizedComponents[0].longValue()) + Long.hashCode(normalizedComponents[1].longValue());
+        }
+
+        return 31 * normalizedComponents[0].hashCode() + normalizedComponents[1].hashCode();
     }
 
     public BigInteger getNumerator() {
-        return numerator;
+        return isCompact() ? BigInteger.valueOf(longNumerator) : numerator;
     }
 
     public BigInteger getDenominator() {
-        return denominator;
+        return isCompact() ? BigInteger.valueOf(longDenominator) : denominator;
     }
 
     public static RationalNumber valueOf(String numberString) {
         return RationalNumberUtil.getRationalNumber(numberString);
     }
 
+    /**
+     * Returns the (exact) value of the specified big decimal.
+     */
+    public static RationalNumber valueOf(BigDecimal number) {
+        if (number == null) {
+            throw new IllegalArgumentException("A big decimal must be specified (not be null)");
+        }
+
+        int scale = number.scale();
+        if (scale <= 0) {
+            return new RationalNumber(number.unscaledValue().multiply(NumberUtil.powerOfTen(-scale)));
+        }
+
+        return new RationalNumber(number.unscaledValue(), NumberUtil.powerOfTen(scale));
+    }
+
     @Override
     public String toString() {
         return toString(RationalNumberOutputType.value().get());
     }
 
     public String toStringComponents() {
+        if (isCompact()) {
+            return longNumerator + "/" + longDenominator;
+        }
+
         return numerator.toString() + "/" + denominator.toString();
     }
 
     public String toStringExact() {
-        if (signum() >= 0) {
-            BigInteger[] bigIntegers = numerator.divideAndRemainder(denominator);
-
-            StringBuilder result = new StringBuilder(bigIntegers[0].toString());
-
-            BigInteger remainder = bigIntegers[1];
-            StringBuilder fractionalPart = new StringBuilder();
-            Map<BigInteger, Integer> resultDivisionAtPosition = new HashMap<>();
-            int position = 0;
-
-            while (!remainder.equals(BigInteger.ZERO)) {
-                remainder = remainder.multiply(BigInteger.TEN);
-                Integer positionStartRepetition = resultDivisionAtPosition.get(remainder);
-                if (positionStartRepetition != null) {
-                    fractionalPart.insert(positionStartRepetition, "[");
-                    fractionalPart.append("]R");
-                    remainder = BigInteger.ZERO;
-                } else {
-                    resultDivisionAtPosition.put(remainder, position);
-                    bigIntegers = remainder.divideAndRemainder(denominator);
-                    fractionalPart.append(bigIntegers[0].toString());
-                    remainder = bigIntegers[1];
-                    ++position;
-                }
-            }
-
-            if (fractionalPart.length() > 0) {
-                result.append(".");
-                result.append(fractionalPart);
-            }
+        StringBuilder exact = new StringBuilder();
+        writeDecimalExpansion(exact, null, 0);
 
-            return result.toString();
-        } else {
-            return "-" + abs().toStringExact();
-        }
+        return exact.toString();
     }
 
     public String toStringTruncated(int scale) {
-        if (signum() >= 0) {
-            BigInteger[] bigIntegers = numerator.divideAndRemainder(denominator);
-
-            StringBuilder result = new StringBuilder(bigIntegers[0].toString());
-
-            BigInteger remainder = bigIntegers[1];
-            StringBuilder fractionalPart = new StringBuilder();
-            Map<BigInteger, Integer> resultDivisionAtPosition = new HashMap<>();
-            int position = 0;
-
-            while (!remainder.equals(BigInteger.ZERO) && position < scale) {
-                remainder = remainder.multiply(BigInteger.TEN);
-                Integer positionStartRepetition = resultDivisionAtPosition.get(remainder);
-                if (positionStartRepetition != null) {
-                    int totalDecimalsToAppend = scale - fractionalPart.length();
-                    String repeatingFractionalPart = fractionalPart.substring(positionStartRepetition);
-                    fractionalPart.append(repeatingFractionalPart.repeat(Math.max(0, totalDecimalsToAppend / repeatingFractionalPart.length())));
-
-                    fractionalPart.append(repeatingFractionalPart, 0, totalDecimalsToAppend % repeatingFractionalPart.length());
-                    remainder = BigInteger.ZERO;
-                } else {
-                    resultDivisionAtPosition.put(remainder, position);
-                    bigIntegers = remainder.divideAndRemainder(denominator);
-                    fractionalPart.append(bigIntegers[0].toString());
-                    remainder = bigIntegers[1];
-                    ++position;
-                }
-            }
+        StringBuilder truncated = new StringBuilder();
+        writeDecimalExpansion(null, truncated, scale);
 
-            if (fractionalPart.length() > 0) {
-                result.append(".");
-                result.append(fractionalPart);
+        return truncated.toString();
+    }
+
+    /**
+     * Writes the exact and/or the truncated decimal representation using a single pass of the long division (see: {@link DecimalExpansion}).
+     */
+    private void writeDecimalExpansion(StringBuilder exact, StringBuilder truncated, int scale) {
+        if (signum() < 0) {
+            if (exact != null) {
+                exact.append('-');
+            }
+            if (truncated != null) {
+                truncated.append('-');
             }
+        }
 
-            return result.toString();
-        } else {
-            return "-" + abs().toStringTruncated(scale);
+        try {
+            new DecimalExpansion(getNumerator().abs(), getDenominator()).write(exact, truncated, scale);
+        } catch (IOException e) {
+            // Note: A string builder does not throw IO exceptions
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -398,11 +1129,12 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
             case COMPONENTS_AND_EXACT -> result = toStringComponents() + " ---> " + toStringExact();
             case TRUNCATED -> result = toStringTruncated(scale);
             case ALL -> {
-                String stringExact = toStringExact();
-                result = toStringComponents() + " ---> " + toStringExact();
-                String stringTruncated = toStringTruncated(scale);
-                if (!stringExact.equals(stringTruncated)) {
-                    result = result + " ~ " + stringTruncated + " (scale = " + scale + ")";
+                StringBuilder exact = new StringBuilder();
+                StringBuilder truncated = new StringBuilder();
+                writeDecimalExpansion(exact, truncated, scale);
+                result = toStringComponents() + " ---> " + exact;
+                if (!exact.toString().equals(truncated.toString())) {
+                    result = result + " ~ " + truncated + " (scale = " + scale + ")";
                 }
             }
             default -> result = format("toString(%s) is not implemented", outputPredefinedType.name());
@@ -413,7 +1145,90 @@ public class RationalNumber extends Number implements Comparable<RationalNumber>
 
     @Override
     public int compareTo(RationalNumber o) {
-        return numerator.multiply(o.denominator).compareTo(o.numerator.multiply(denominator));
+        if (this == o) {
+            return 0;
+        }
+
+        // Note: Tier 1, compare the signs
+        int signum = signum();
+        int otherSignum = o.signum();
+        if (signum != otherSignum || signum == 0) {
+            return Integer.compare(signum, otherSignum);
+        }
+
+        if (isCompact() && o.isCompact()) {
+            // Note: Tier 2, identical denominators
+            if (longDenominator == o.longDenominator) {
+                return Long.compare(longNumerator, o.longNumerator);
+            }
+
+            try {
+                return Long.compare(Math.multiplyExact(longNumerator, o.longDenominator), Math.multiplyExact(o.longNumerator, longDenominator));
+            } catch (ArithmeticException e) {
+                // Note: Fall through and compare using big integers.
+            }
+        }
+
+        BigInteger thisNumerator = getNumerator();
+        BigInteger thisDenominator = getDenominator();
+        BigInteger otherNumerator = o.getNumerator();
+        BigInteger otherDenominator = o.getDenominator();
+
+        if (thisDenominator.equals(otherDenominator)) {
+            return thisNumerator.compareTo(otherNumerator);
+        }
+
+        // Note: Tier 3, the bit length of a product of x and y is either bitLength(x) + bitLength(y) or bitLength(x) + bitLength(y) - 1
+        int bitLength = thisNumerator.bitLength() + otherDenominator.bitLength();
+        int otherBitLength = otherNumerator.bitLength() + thisDenominator.bitLength();
+        if (bitLength - 1 > otherBitLength) {
+            return signum;
+        }
+
+        if (otherBitLength - 1 > bitLength) {
+            return -signum;
+        }
+
+        // Note: Tier 4, cross multiplication
+        return thisNumerator.multiply(otherDenominator).compareTo(otherNumerator.multiply(thisDenominator));
+    }
+
+    /**
+     * Compares this rational number with the specified integer without instantiating a rational number.
+     */
+    public int compareTo(long value) {
+        int signum = signum();
+        int otherSignum = Long.signum(value);
+        if (signum != otherSignum || signum == 0) {
+            return Integer.compare(signum, otherSignum);
+        }
+
+        if (isCompact()) {
+            if (longDenominator == 1) {
+                return Long.compare(longNumerator, value);
+            }
+
+            try {
+                return Long.compare(longNumerator, Math.multiplyExact(value, longDenominator));
+            } catch (ArithmeticException e) {
+                // Note: Fall through and compare using big integers.
+            }
+        }
+
+        BigInteger thisNumerator = getNumerator();
+        BigInteger thisDenominator = getDenominator();
+        BigInteger bigValue = BigInteger.valueOf(value);
+
+        int otherBitLength = bigValue.bitLength() + thisDenominator.bitLength();
+        if (thisNumerator.bitLength() - 1 > otherBitLength) {
+            return signum;
+        }
+
+        if (otherBitLength - 1 > thisNumerator.bitLength()) {
+            return -signum;
+        }
+
+        return thisNumerator.compareTo(bigValue.multiply(thisDenominator));
     }
 
 }
@@ -1,11 +1,14 @@
 package nl.smith.mathematics.service;
 
+import nl.smith.mathematics.annotation.MathematicalFunction.Type;
 import nl.smith.mathematics.annotation.constraint.TextWithoutReservedCharacters;
+import nl.smith.mathematics.domain.ExpressionPlan;
 import nl.smith.mathematics.domain.ExpressionStack;
 import nl.smith.mathematics.domain.MathematicalFunctionMethodMapping;
 import nl.smith.mathematics.domain.RawExpression;
 import nl.smith.mathematics.annotation.constraint.TextWithoutLinesWithTrailingBlanks;
 import nl.smith.mathematics.exception.InValidExpressionStringException;
+import nl.smith.mathematics.util.StringToObjectUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +16,8 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -35,6 +40,20 @@ public class ExpressionDigestionService extends RecursiveValidatedService<Expres
 
     private static final char START_SIBLING_CHARACTER = ',';
 
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("[0-9]+(\\.[0-9]+)?");
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z][a-zA-Z0-9_]*");
+
+    private static final int MAXIMUM_NUMBER_OF_CACHED_PLANS = 1000;
+
+    /** Compiled expressions by number type and text (least recently used order). */
+    private final Map<SimpleEntry<Class<? extends Number>, String>, ExpressionPlan<? extends Number>> expressionPlans = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SimpleEntry<Class<? extends Number>, String>, ExpressionPlan<? extends Number>> eldest) {
+            return size() > MAXIMUM_NUMBER_OF_CACHED_PLANS;
+        }
+    });
+
     public ExpressionDigestionService(TextAnnotationService textAnnotationService, MethodRunnerService methodRunnerService) {
         this.textAnnotationService = textAnnotationService;
         this.methodRunnerService = methodRunnerService;
@@ -62,15 +81,185 @@ public class ExpressionDigestionService extends RecursiveValidatedService<Expres
         return new ExpressionDigestionService(textAnnotationService, methodRunnerService);
     }
 
+    /**
+     * Evaluates the expression using the specified variables.
+     * The expression is compiled once (see {@link #getExpressionPlan(Class, String)}), repeated evaluations skip tokenizing, validation and stack construction.
+     */
     public <N extends Number> N getResult(@NotNull Class<N> numberType, String text, Map<String, N> variables) {
+        return getExpressionPlan(numberType, text).evaluate(variables == null ? Collections.emptyMap() : variables);
+    }
+
+    /**
+     * Returns the compiled plan of the expression for the specified number type.
+     * Plans are cached (at most {@value #MAXIMUM_NUMBER_OF_CACHED_PLANS}, the least recently used plan is removed first).
+     */
+    public <N extends Number> ExpressionPlan<N> getExpressionPlan(@NotNull Class<N> numberType, String text) {
+        SimpleEntry<Class<? extends Number>, String> key = new SimpleEntry<>(numberType, text);
+        ExpressionPlan<N> expressionPlan = (ExpressionPlan<N>) expressionPlans.get(key);
+        if (expressionPlan == null) {
+            expressionPlan = compile(numberType, text);
+            expressionPlans.put(key, expressionPlan);
+        }
+
+        return expressionPlan;
+    }
+
+    private <N extends Number> ExpressionPlan<N> compile(Class<N> numberType, String text) {
+        if (!methodRunnerService.getNumberTypes().contains(numberType)) {
+            throw new IllegalArgumentException(format("Unsupported number type %s.", numberType.getCanonicalName()));
+        }
+
         RawExpression rawExpression = sibling.getRawExpression(text);
+        assertDimensionIsOne(rawExpression, rawExpression.getStartPosition());
+
+        Map<String, MathematicalFunctionMethodMapping<N>> unaryOperators = getOperators(methodRunnerService.getUnaryArithmeticMethodsForNumberType(numberType));
+        Map<String, MathematicalFunctionMethodMapping<N>> binaryOperators = getOperators(methodRunnerService.getBinaryArithmeticMethodsForNumberType(numberType));
+
+        return new ExpressionPlan<>(text, numberType, getExpressionStack(numberType, rawExpression, unaryOperators, binaryOperators));
+    }
+
+    private static <N extends Number> Map<String, MathematicalFunctionMethodMapping<N>> getOperators(Set<MathematicalFunctionMethodMapping> methodMappings) {
+        Map<String, MathematicalFunctionMethodMapping<N>> operators = new HashMap<>();
+        methodMappings.forEach(mm -> operators.put(mm.getName(), (MathematicalFunctionMethodMapping<N>) mm));
+
+        return operators;
+    }
+
+    /**
+     * Method to build the (closed) expression stack of a raw expression and its siblings.
+     * The content of the expression is tokenized into numbers, variables, functions (a name followed by a subexpression holding the arguments),
+     * unary operators (an operator where an operand is expected), binary operators and compound expressions (subexpressions).
+     */
+    private <N extends Number> ExpressionStack<N> getExpressionStack(Class<N> numberType,
+                                                                     RawExpression rawExpression,
+                                                                     Map<String, MathematicalFunctionMethodMapping<N>> unaryOperators,
+                                                                     Map<String, MathematicalFunctionMethodMapping<N>> binaryOperators) {
+        String text = rawExpression.getText();
+        Map<Integer, RawExpression> subExpressions = rawExpression.getSubExpressions().stream()
+                .collect(Collectors.toMap(subExpression -> subExpression.getStartPosition() - 1, subExpression -> subExpression));
+
+        ExpressionStack<N> expressionStack = new ExpressionStack<>();
+        // Note: An operand (number, variable, function or compound expression) is expected at the start and after an operator
+        boolean operandExpected = true;
+        boolean unaryOperatorAllowed = true;
+        int position = rawExpression.getStartPosition();
+        int endPosition = rawExpression.getEndPosition();
+        while (position < endPosition) {
+            char c = text.charAt(position);
+            RawExpression subExpression = subExpressions.get(position);
+            String operator = String.valueOf(c);
+
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (subExpression != null || Character.isLetterOrDigit(c)) {
+                assertOperandExpected(operandExpected, text, position);
+
+                if (subExpression != null) {
+                    assertDimensionIsOne(subExpression, position);
+                    expressionStack.addCompoundExpression(getExpressionStack(numberType, subExpression, unaryOperators, binaryOperators));
+                    position = subExpression.getLastSibling().getEndPosition() + 1;
+                } else if (Character.isDigit(c)) {
+                    Matcher matcher = NUMBER_PATTERN.matcher(text).region(position, endPosition);
+                    matcher.lookingAt();
+                    expressionStack.addNumber(getNumber(numberType, text, matcher.group(), position));
+                    position = matcher.end();
+                } else {
+                    Matcher matcher = NAME_PATTERN.matcher(text).region(position, endPosition);
+                    if (!matcher.lookingAt()) {
+                        throw new InValidExpressionStringException(format("Unexpected character '%c' at position %d.%nA name should start with a letter.", c, position), textAnnotationService.getAnnotatedText(text, position));
+                    }
+
+                    String name = matcher.group();
+                    RawExpression arguments = subExpressions.get(matcher.end());
+                    if (arguments == null) {
+                        expressionStack.addVariableName(name);
+                        position = matcher.end();
+                    } else {
+                        int numberOfArguments = arguments.getDimension();
+                        int functionPosition = position;
+                        MathematicalFunctionMethodMapping<N> function = methodRunnerService.findMathematicalFunctionMethodMapping(numberType, name, numberOfArguments)
+                                .filter(mm -> mm.getType() == Type.FUNCTION)
+                                .orElseThrow(() -> new InValidExpressionStringException(format("Unknown function %s accepting %d argument(s) of type %s at position %d.", name, numberOfArguments, numberType.getSimpleName(), functionPosition),
+                                        textAnnotationService.getAnnotatedText(text, functionPosition)));
+                        expressionStack.addMathematicalFunction(function);
+                        expressionStack.addCompoundExpression(getExpressionStackWithSiblings(numberType, arguments, unaryOperators, binaryOperators));
+                        position = arguments.getLastSibling().getEndPosition() + 1;
+                    }
+                }
+
+                operandExpected = false;
+            } else if (operandExpected && unaryOperators.containsKey(operator)) {
+                if (!unaryOperatorAllowed) {
+                    throw new InValidExpressionStringException(format("Unexpected unary operator '%c' at position %d.%nA unary operator can not follow another unary operator.", c, position), textAnnotationService.getAnnotatedText(text, position));
+                }
+
+                expressionStack.addUnaryOperator(unaryOperators.get(operator));
+                unaryOperatorAllowed = false;
+                position++;
+            } else if (!operandExpected && binaryOperators.containsKey(operator)) {
+                MathematicalFunctionMethodMapping<N> binaryOperator = binaryOperators.get(operator);
+                if (binaryOperator.getType() == Type.HIGH_PRIORITY_BINARY_OPERATION) {
+                    expressionStack.addHighPriorityBinaryOperator(binaryOperator);
+                } else {
+                    expressionStack.addBinaryOperator(binaryOperator);
+                }
+
+                operandExpected = true;
+                unaryOperatorAllowed = true;
+                position++;
+            } else if (operandExpected) {
+                throw new InValidExpressionStringException(format("Expected an operand at position %d.%nDid you forget to specify a number, variable, function or subexpression?", position), textAnnotationService.getAnnotatedText(text, position));
+            } else {
+                throw new InValidExpressionStringException(format("Expected an operator at position %d.%nDid you forget to specify a binary operator?", position), textAnnotationService.getAnnotatedText(text, position));
+            }
+        }
 
-        Set<String> unaryOperatorChars = methodRunnerService.getUnaryArithmeticMethodsForNumberType(numberType).stream().map(MathematicalFunctionMethodMapping::getName).collect(Collectors.toSet());
-        Set<String> binaryOperatorChars = methodRunnerService.getBinaryArithmeticMethodsForNumberType(numberType).stream().map(MathematicalFunctionMethodMapping::getName).collect(Collectors.toSet());
-        String numberPattern = null;
-        ExpressionStack<N> expressionStack = rawExpression.getExpressionStack(numberType, unaryOperatorChars, binaryOperatorChars, numberPattern);
-        ExpressionStack<N> digest = expressionStack.digest(variables);
-        return null;
+        if (operandExpected) {
+            throw new InValidExpressionStringException(format("Expected an operand before position %d.%nDid you forget to specify a number, variable, function or subexpression?", endPosition), textAnnotationService.getAnnotatedText(text, endPosition - 1));
+        }
+
+        return expressionStack.close();
+    }
+
+    /**
+     * Method to build the (closed) expression stacks of a raw expression and its siblings (the arguments of a function).
+     */
+    private <N extends Number> ExpressionStack<N> getExpressionStackWithSiblings(Class<N> numberType,
+                                                                                 RawExpression rawExpression,
+                                                                                 Map<String, MathematicalFunctionMethodMapping<N>> unaryOperators,
+                                                                                 Map<String, MathematicalFunctionMethodMapping<N>> binaryOperators) {
+        ExpressionStack<N> expressionStack = null;
+        for (int i = rawExpression.getDimension() - 1; i >= 0; i--) {
+            ExpressionStack<N> siblingExpressionStack = expressionStack;
+            expressionStack = getExpressionStack(numberType, rawExpression.getNthSibling(i), unaryOperators, binaryOperators);
+            if (siblingExpressionStack != null) {
+                expressionStack.setSibling(siblingExpressionStack);
+            }
+        }
+
+        return expressionStack;
+    }
+
+    private <N extends Number> N getNumber(Class<N> numberType, String text, String number, int position) {
+        try {
+            return StringToObjectUtil.valueOf(number, numberType);
+        } catch (IllegalStateException e) {
+            throw new InValidExpressionStringException(format("Can not convert %s at position %d to a number of type %s.", number, position, numberType.getSimpleName()), textAnnotationService.getAnnotatedText(text, position));
+        }
+    }
+
+    private void assertDimensionIsOne(RawExpression rawExpression, int position) {
+        if (rawExpression.getDimension() != 1) {
+            String message = format("Multiple expressions (%d) at position %d.%nOnly the arguments of a function can be separated by '%c'.", rawExpression.getDimension(), position, START_SIBLING_CHARACTER);
+            throw new InValidExpressionStringException(message, textAnnotationService.getAnnotatedText(rawExpression.getText(), position));
+        }
+    }
+
+    private void assertOperandExpected(boolean operandExpected, String text, int position) {
+        if (!operandExpected) {
+            String message = format("Expected an operator at position %d.%nDid you forget to specify a binary operator?", position);
+            throw new InValidExpressionStringException(message, textAnnotationService.getAnnotatedText(text, position));
+        }
     }
 
     /**
@@ -126,6 +126,23 @@ public class MethodRunnerService {
         return mathematicalFunctionMethodMapping.invokeWithNumbers(arguments);
     }
 
+    /**
+     * Finds a method for the specified mathematicalMethodName and numberType accepting the specified number of arguments.
+     * @return The method or an empty optional if the method (or the number type) does not exist
+     */
+    public <N extends Number> Optional<MathematicalFunctionMethodMapping<N>> findMathematicalFunctionMethodMapping(Class<N> numberType, String mathematicalMethodName, int parameterCount) {
+        List<RecursiveFunctionContainer<? extends Number, ? extends RecursiveFunctionContainer<?, ?>>> recursiveFunctionContainers = functionContainersByNumberType.get(numberType);
+        if (recursiveFunctionContainers == null) {
+            return Optional.empty();
+        }
+
+        return recursiveFunctionContainers.stream()
+                .map(c -> c.getMathematicalFunctionMethodMapping(mathematicalMethodName, parameterCount))
+                .filter(Optional::isPresent)
+                .map(mf -> (MathematicalFunctionMethodMapping<N>) mf.get())
+                .findFirst();
+    }
+
     public Set<MathematicalFunctionMethodMapping> getMathematicalMethodsForNumberTypeAndMathematicalMethodTypes(Class<? extends Number> numberType, Set<Type> types) {
         return mathematicalMethodsByNumberType.get(numberType).stream().filter(mm -> types.contains(mm.getType())).collect(Collectors.toCollection(() -> new
                 TreeSet<MathematicalFunctionMethodMapping>(Comparator.comparing(MathematicalFunctionMethodMapping::toString))));
@@ -0,0 +1,124 @@
+package nl.smith.mathematics.util;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+import static java.lang.String.format;
+
+/**
+ * Evaluates series 1 + T(1) + T(2) + ... + T(n) whose consecutive terms have a rational ratio T(k) / T(k - 1) = p(k) / q(k) (T(0) = 1).
+ * Examples are the Taylor polynomials of e^x, sin(x) and cos(x).
+ * <p>
+ * The terms of an interval [a, b) are combined into three integers (binary splitting):
+ * <pre>
+ * P(a, b) = p(a) * ... * p(b - 1)
+ * Q(a, b) = q(a) * ... * q(b - 1)
+ * T(a, b) = Q(a, b) * (T(a) + ... + T(b - 1)) / T(a - 1)
+ *
+ * Leaf:  P(a, a + 1) = p(a), Q(a, a + 1) = q(a), T(a, a + 1) = p(a)
+ * Merge: P(a, b) = P(a, m) * P(m, b), Q(a, b) = Q(a, m) * Q(m, b), T(a, b) = T(a, m) * Q(m, b) + P(a, m) * T(m, b)
+ * </pre>
+ * The series equals 1 + T(1, n + 1) / Q(1, n + 1). Operands of a merge have (about) the same size so the work is nearly linear in the size of the result
+ * (adding the terms one by one is quadratic). Large intervals are split into two halves which are evaluated in parallel using the common {@link ForkJoinPool}.
+ */
+public class BinarySplittingSeries {
+
+    /** Intervals with fewer terms are evaluated sequentially. */
+    private static final int SEQUENTIAL_THRESHOLD = 64;
+
+    private final LongFunction<BigInteger> ratioNumerator;
+
+    private final LongFunction<BigInteger> ratioDenominator;
+
+    /**
+     * @param ratioNumerator   p(k), the numerator of the ratio T(k) / T(k - 1)
+     * @param ratioDenominator q(k), the (positive) denominator of the ratio T(k) / T(k - 1)
+     */
+    public BinarySplittingSeries(LongFunction<BigInteger> ratioNumerator, LongFunction<BigInteger> ratioDenominator) {
+        if (ratioNumerator == null || ratioDenominator == null) {
+            throw new IllegalArgumentException("Both the numerator and the denominator of the ratio of consecutive terms must be specified (not be null)");
+        }
+
+        this.ratioNumerator = ratioNumerator;
+        this.ratioDenominator = ratioDenominator;
+    }
+
+    /**
+     * Returns 1 + T(1) + ... + T(n).
+     */
+    public RationalNumber sum(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(format("The number of terms must not be negative (%d)", n));
+        }
+
+        if (n == 0) {
+            return RationalNumber.ONE;
+        }
+
+        Split split = n < SEQUENTIAL_THRESHOLD ? split(1, n + 1) : ForkJoinPool.commonPool().invoke(new SplitTask(1, n + 1));
+
+        return new RationalNumber(split.q.add(split.t), split.q);
+    }
+
+    private Split split(long a, long b) {
+        if (b - a == 1) {
+            BigInteger p = ratioNumerator.apply(a);
+            return new Split(p, ratioDenominator.apply(a), p);
+        }
+
+        long m = (a + b) >>> 1;
+
+        return split(a, m).merge(split(m, b));
+    }
+
+    private static class Split {
+
+        private final BigInteger p;
+
+        private final BigInteger q;
+
+        private final BigInteger t;
+
+        private Split(BigInteger p, BigInteger q, BigInteger t) {
+            this.p = p;
+            this.q = q;
+            this.t = t;
+        }
+
+        private Split merge(Split right) {
+            return new Split(p.multiply(right.p), q.multiply(right.q), t.multiply(right.q).add(p.multiply(right.t)));
+        }
+    }
+
+    private class SplitTask extends RecursiveTask<Split> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long a;
+
+        private final long b;
+
+        private SplitTask(long a, long b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected Split compute() {
+            if (b - a < SEQUENTIAL_THRESHOLD) {
+                return split(a, b);
+            }
+
+            long m = (a + b) >>> 1;
+            SplitTask left = new SplitTask(a, m);
+            left.fork();
+            Split right = new SplitTask(m, b).compute();
+
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package nl.smith.mathematics.util;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import static java.lang.String.format;
+
+/**
+ * Compact binary format to exchange or store numbers without rendering (and parsing) decimal strings.
+ *
+ * <pre>
+ * RationalNumber: SIGN MAGNITUDE(numerator) MAGNITUDE(denominator)
+ * BigDecimal:     SIGN MAGNITUDE(unscaled value) ZIGZAG_VARINT(scale)
+ *
+ * SIGN:      one byte, 0 (zero or positive) or 1 (negative)
+ * MAGNITUDE: VARINT(number of bytes) followed by the (big endian) bytes of the absolute value without leading zero bytes
+ * VARINT:    unsigned LEB128 i.e. seven bits per byte, least significant group first, the high bit marks a continuation
+ * </pre>
+ * Values are written back to back so a buffer may contain any number of them.
+ */
+public class NumberCodec {
+
+    private static final byte POSITIVE = 0;
+
+    private static final byte NEGATIVE = 1;
+
+    private NumberCodec() {
+        throw new IllegalStateException(format("Can not instantiate %s", this.getClass().getCanonicalName()));
+    }
+
+    public static void write(RationalNumber rationalNumber, ByteBuffer buffer) {
+        if (rationalNumber == null) {
+            throw new IllegalArgumentException("A rational number must be specified (not be null)");
+        }
+
+        BigInteger numerator = rationalNumber.getNumerator();
+        buffer.put(numerator.signum() < 0 ? NEGATIVE : POSITIVE);
+        writeMagnitude(numerator, buffer);
+        writeMagnitude(rationalNumber.getDenominator(), buffer);
+    }
+
+    public static RationalNumber readRationalNumber(ByteBuffer buffer) {
+        boolean negative = readSign(buffer);
+        int numeratorLength = readVarint(buffer);
+        if (numeratorLength < Long.BYTES) {
+            long numerator = readLongMagnitude(buffer, numeratorLength);
+            int denominatorLength = readVarint(buffer);
+            if (denominatorLength < Long.BYTES) {
+                return RationalNumber.valueOf(negative ? -numerator : numerator, readLongMagnitude(buffer, denominatorLength));
+            }
+
+            return new RationalNumber(BigInteger.valueOf(negative ? -numerator : numerator), readMagnitude(buffer, denominatorLength));
+        }
+
+        BigInteger numerator = readMagnitude(buffer, numeratorLength);
+        BigInteger denominator = readMagnitude(buffer, readVarint(buffer));
+
+        return new RationalNumber(negative ? numerator.negate() : numerator, denominator);
+    }
+
+    public static void write(BigDecimal bigDecimal, ByteBuffer buffer) {
+        if (bigDecimal == null) {
+            throw new IllegalArgumentException("A big decimal must be specified (not be null)");
+        }
+
+        BigInteger unscaledValue = bigDecimal.unscaledValue();
+        buffer.put(unscaledValue.signum() < 0 ? NEGATIVE : POSITIVE);
+        writeMagnitude(unscaledValue, buffer);
+        writeVarint(zigZagEncode(bigDecimal.scale()), buffer);
+    }
+
+    public static BigDecimal readBigDecimal(ByteBuffer buffer) {
+        boolean negative = readSign(buffer);
+        BigInteger unscaledValue = readMagnitude(buffer, readVarint(buffer));
+        int scale = zigZagDecode(readVarint(buffer));
+
+        return new BigDecimal(negative ? unscaledValue.negate() : unscaledValue, scale);
+    }
+
+    /**
+     * Returns the number of bytes required to encode the specified rational number.
+     */
+    public static int getEncodedLength(RationalNumber rationalNumber) {
+        return 1 + getEncodedLength(rationalNumber.getNumerator()) + getEncodedLength(rationalNumber.getDenominator());
+    }
+
+    /**
+     * Returns the number of bytes required to encode the specified big decimal.
+     */
+    public static int getEncodedLength(BigDecimal bigDecimal) {
+        return 1 + getEncodedLength(bigDecimal.unscaledValue()) + getVarintLength(zigZagEncode(bigDecimal.scale()));
+    }
+
+    private static int getEncodedLength(BigInteger value) {
+        int magnitudeLength = getMagnitudeLength(value);
+
+        return getVarintLength(magnitudeLength) + magnitudeLength;
+    }
+
+    private static int getMagnitudeLength(BigInteger value) {
+        // Note: The bit length of a negative power of two is one less than the bit length of its absolute value
+        int bitLength = value.signum() < 0 && value.getLowestSetBit() == value.bitLength() ? value.bitLength() + 1 : value.bitLength();
+
+        return (bitLength + 7) / 8;
+    }
+
+    private static void writeMagnitude(BigInteger value, ByteBuffer buffer) {
+        int magnitudeLength = getMagnitudeLength(value);
+        writeVarint(magnitudeLength, buffer);
+        if (magnitudeLength == 0) {
+            return;
+        }
+
+        byte[] bytes = value.abs().toByteArray();
+        // Note: Skip the leading zero byte (sign bit) if present
+        buffer.put(bytes, bytes.length - magnitudeLength, magnitudeLength);
+    }
+
+    private static BigInteger readMagnitude(ByteBuffer buffer, int length) {
+        assertMagnitudeLength(buffer, length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new BigInteger(1, bytes);
+    }
+
+    private static long readLongMagnitude(ByteBuffer buffer, int length) {
+        assertMagnitudeLength(buffer, length);
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 8) | (buffer.get() & 0xFF);
+        }
+
+        return value;
+    }
+
+    private static void assertMagnitudeLength(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException(format("Can not decode number.%nIllegal magnitude length %d (%d bytes remaining)", length, buffer.remaining()));
+        }
+    }
+
+    private static boolean readSign(ByteBuffer buffer) {
+        byte sign = buffer.get();
+        if (sign != POSITIVE && sign != NEGATIVE) {
+            throw new IllegalArgumentException(format("Can not decode number.%nIllegal sign byte %d", sign));
+        }
+
+        return sign == NEGATIVE;
+    }
+
+    private static void writeVarint(int value, ByteBuffer buffer) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value = value >>> 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException(format("Can not decode number.%nMalformed variable length integer"));
+    }
+
+    private static int getVarintLength(int value) {
+        int length = 1;
+        while ((value & ~0x7F) != 0) {
+            value = value >>> 7;
+            length++;
+        }
+
+        return length;
+    }
+
+    private static int zigZagEncode(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int zigZagDecode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
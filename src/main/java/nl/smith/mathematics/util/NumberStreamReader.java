@@ -0,0 +1,433 @@
+package nl.smith.mathematics.util;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.BooleanSupplier;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Streams numbers (syntax as specified by {@link RationalNumberUtil#NUMBER_PATTERN}) directly from bytes.
+ * <p>
+ * Numbers are separated by a newline, carriage return or comma. Empty entries (for instance caused by a trailing newline) are ignored.
+ * The bytes of a number are scanned in place (using {@link RationalNumberUtil#getRationalNumber(CharSequence, int, int)} or
+ * {@link RationalNumberUtil#getBigDecimal(CharSequence, int, int)}) so no intermediate strings are created.
+ * <p>
+ * A non-blocking channel without available bytes is read again after a (growing) back off.
+ * <p>
+ * All streams are sequential. Streams of a file are memory mapped and can be made parallel ({@link Stream#parallel()}),
+ * the file is then split (at separators) so the numbers are parsed using multiple cores.
+ * <p>
+ * The threads traversing the parts of a parallel file stream use a copy of the configuration (see {@link ThreadContext}) of the thread that created the stream,
+ * so parsing and the operations applied to the numbers of a part use the settings (scale, normalization, rounding, ...) of the caller.
+ * Note: The combining steps of a parallel reduction are not part of the traversal and use the configuration of the executing thread.
+ */
+public class NumberStreamReader {
+
+    /** Initial size of the buffer used to read from a channel. */
+    private static final int CHANNEL_BUFFER_SIZE = 1 << 16;
+
+    /** Initial and maximum time (in nanoseconds) to wait before reading again from a (non-blocking) channel that has no bytes available. */
+    private static final long MIN_BACK_OFF_NANOS = 1_000;
+
+    private static final long MAX_BACK_OFF_NANOS = 1_000_000;
+
+    /** Maximum size of a memory mapped segment of a file. */
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+    /** Parts of a mapped file smaller than this size are not split any further. */
+    private static final int MIN_SPLIT_SIZE = 1 << 16;
+
+    private NumberStreamReader() {
+        throw new IllegalStateException(format("Can not instantiate %s", this.getClass().getCanonicalName()));
+    }
+
+    public static Stream<RationalNumber> rationalNumbers(ReadableByteChannel channel) {
+        return StreamSupport.stream(new ChannelSpliterator<>(channel, RationalNumberUtil::getRationalNumber), false);
+    }
+
+    public static Stream<BigDecimal> bigDecimals(ReadableByteChannel channel) {
+        return StreamSupport.stream(new ChannelSpliterator<>(channel, RationalNumberUtil::getBigDecimal), false);
+    }
+
+    public static Stream<RationalNumber> rationalNumbers(Path path) throws IOException {
+        return StreamSupport.stream(new MappedSpliterator<>(map(path), RationalNumberUtil::getRationalNumber), false);
+    }
+
+    public static Stream<BigDecimal> bigDecimals(Path path) throws IOException {
+        return StreamSupport.stream(new MappedSpliterator<>(map(path), RationalNumberUtil::getBigDecimal), false);
+    }
+
+    /**
+     * Maps the file in segments of at most {@link #MAX_SEGMENT_SIZE} bytes. All segments (except the last) end with a separator.
+     * Note: The mapped segments remain valid after closing the file channel.
+     */
+    private static MappedSegment[] map(Path path) throws IOException {
+        List<MappedSegment> segments = new ArrayList<>();
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = fileChannel.size();
+            long offset = 0;
+            while (offset < size) {
+                ByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(MAX_SEGMENT_SIZE, size - offset));
+                int limit = buffer.limit();
+                if (offset + limit < size) {
+                    while (limit > 0 && !isSeparator(buffer.get(limit - 1))) {
+                        limit--;
+                    }
+
+                    if (limit == 0) {
+                        throw new IllegalArgumentException(format("Can not read numbers from %s.%nNo separator found in %d bytes following position %d", path, buffer.limit(), offset));
+                    }
+                    buffer.limit(limit);
+                }
+
+                segments.add(new MappedSegment(buffer, offset));
+                offset += limit;
+            }
+        }
+
+        return segments.toArray(new MappedSegment[0]);
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == '\n' || b == '\r' || b == ',';
+    }
+
+    /**
+     * Parses a number from the characters start (inclusive) to end (exclusive).
+     * An {@link IllegalArgumentException} is rethrown containing the position of the number.
+     */
+    private static <T extends Number> T parse(NumberParser<T> parser, CharSequence characters, int start, int end, long offset) {
+        try {
+            return parser.parse(characters, start, end);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(format("Can not read the number at position %d.%s", offset + start, e.getMessage()), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NumberParser<T extends Number> {
+        T parse(CharSequence characters, int start, int end);
+    }
+
+    /**
+     * ASCII view on the bytes of a buffer (absolute indexing, the position of the buffer is ignored).
+     */
+    private static class ByteCharSequence implements CharSequence {
+
+        private final ByteBuffer buffer;
+
+        private ByteCharSequence(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int length() {
+            return buffer.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            StringBuilder characters = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                characters.append(charAt(i));
+            }
+
+            return characters;
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+
+    /**
+     * Sequentially reads the channel using a buffer. A number exceeding the buffer enlarges the buffer.
+     */
+    private static class ChannelSpliterator<T extends Number> implements Spliterator<T> {
+
+        private final ReadableByteChannel channel;
+
+        private final NumberParser<T> parser;
+
+        /** Unprocessed bytes are found between the position and the limit of the buffer. */
+        private ByteBuffer buffer = ByteBuffer.allocate(CHANNEL_BUFFER_SIZE).flip();
+
+        private CharSequence characters = new ByteCharSequence(buffer);
+
+        /** Position in the channel of the first byte in the buffer. */
+        private long offset;
+
+        private boolean endOfChannel;
+
+        private ChannelSpliterator(ReadableByteChannel channel, NumberParser<T> parser) {
+            if (channel == null) {
+                throw new IllegalArgumentException("A channel must be specified (not be null)");
+            }
+
+            this.channel = channel;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (true) {
+                int position = buffer.position();
+                int limit = buffer.limit();
+                while (position < limit && isSeparator(buffer.get(position))) {
+                    position++;
+                }
+
+                int end = position;
+                while (end < limit && !isSeparator(buffer.get(end))) {
+                    end++;
+                }
+
+                if (end < limit || (endOfChannel && position < end)) {
+                    buffer.position(end);
+                    action.accept(parse(parser, characters, position, end, offset));
+                    return true;
+                }
+
+                buffer.position(position);
+                if (endOfChannel) {
+                    return false;
+                }
+
+                fill();
+            }
+        }
+
+        private void fill() {
+            offset += buffer.position();
+            buffer.compact();
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate(2 * buffer.capacity()).put(buffer.flip());
+                characters = new ByteCharSequence(buffer);
+            }
+
+            try {
+                int count;
+                long backOff = MIN_BACK_OFF_NANOS;
+                // Note: Since the buffer has remaining space only a non-blocking channel reads no bytes
+                while ((count = channel.read(buffer)) == 0) {
+                    LockSupport.parkNanos(backOff);
+                    backOff = Math.min(2 * backOff, MAX_BACK_OFF_NANOS);
+                }
+
+                endOfChannel = count < 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                buffer.flip();
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    private static class MappedSegment {
+
+        private final ByteBuffer buffer;
+
+        private final CharSequence characters;
+
+        /** Position in the file of the first byte in the buffer. */
+        private final long offset;
+
+        private MappedSegment(ByteBuffer buffer, long offset) {
+            this.buffer = buffer;
+            this.characters = new ByteCharSequence(buffer);
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Traverses the bytes start (inclusive) to end (exclusive) of the segments firstSegment (inclusive) to lastSegment (inclusive).
+     * Splitting first divides the segments, a single segment is divided at the first separator following its middle.
+     * A copy of the thread context of the creating thread (taken on creation) is installed while traversing on another thread.
+     */
+    private static class MappedSpliterator<T extends Number> implements Spliterator<T> {
+
+        private final MappedSegment[] segments;
+
+        private final NumberParser<T> parser;
+
+        private final Thread creatingThread;
+
+        /** Copy of the thread context of the creating thread. */
+        private final Map<String, Object> threadContext;
+
+        private int firstSegment;
+
+        private final int lastSegment;
+
+        /** Position in the first segment. */
+        private int start;
+
+        /** End in the last segment. */
+        private final int end;
+
+        private MappedSpliterator(MappedSegment[] segments, NumberParser<T> parser) {
+            this(segments, parser, Thread.currentThread(), new HashMap<>(ThreadContext.getValues()),
+                    0, segments.length - 1, 0, segments.length == 0 ? 0 : segments[segments.length - 1].buffer.limit());
+        }
+
+        private MappedSpliterator(MappedSegment[] segments, NumberParser<T> parser, Thread creatingThread, Map<String, Object> threadContext,
+                                  int firstSegment, int lastSegment, int start, int end) {
+            this.segments = segments;
+            this.parser = parser;
+            this.creatingThread = creatingThread;
+            this.threadContext = threadContext;
+            this.firstSegment = firstSegment;
+            this.lastSegment = lastSegment;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return traverse(() -> advance(action));
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            traverse(() -> {
+                while (advance(action)) {
+                }
+
+                return false;
+            });
+        }
+
+        /**
+         * Performs the traversal using the thread context of the creating thread.
+         */
+        private boolean traverse(BooleanSupplier traversal) {
+            if (Thread.currentThread() == creatingThread) {
+                return traversal.getAsBoolean();
+            }
+
+            Map<String, Object> values = ThreadContext.getValues();
+            // Note: Each traversal uses its own copy since the action can modify the thread context
+            ThreadContext.setValues(new HashMap<>(threadContext));
+            try {
+                return traversal.getAsBoolean();
+            } finally {
+                ThreadContext.setValues(values);
+            }
+        }
+
+        private boolean advance(Consumer<? super T> action) {
+            while (firstSegment <= lastSegment) {
+                MappedSegment segment = segments[firstSegment];
+                int limit = firstSegment == lastSegment ? end : segment.buffer.limit();
+                while (start < limit && isSeparator(segment.buffer.get(start))) {
+                    start++;
+                }
+
+                if (start < limit) {
+                    int position = start;
+                    while (start < limit && !isSeparator(segment.buffer.get(start))) {
+                        start++;
+                    }
+
+                    action.accept(parse(parser, segment.characters, position, start, segment.offset));
+                    return true;
+                }
+
+                firstSegment++;
+                start = 0;
+            }
+
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (firstSegment < lastSegment) {
+                int middleSegment = (firstSegment + lastSegment) >>> 1;
+                MappedSpliterator<T> prefix = new MappedSpliterator<>(segments, parser, creatingThread, threadContext, firstSegment, middleSegment, start, segments[middleSegment].buffer.limit());
+                firstSegment = middleSegment + 1;
+                start = 0;
+
+                return prefix;
+            }
+
+            if (firstSegment > lastSegment || end - start < MIN_SPLIT_SIZE) {
+                return null;
+            }
+
+            ByteBuffer buffer = segments[firstSegment].buffer;
+            int middle = (start + end) >>> 1;
+            while (middle < end && !isSeparator(buffer.get(middle))) {
+                middle++;
+            }
+
+            if (middle == end) {
+                return null;
+            }
+
+            MappedSpliterator<T> prefix = new MappedSpliterator<>(segments, parser, creatingThread, threadContext, firstSegment, firstSegment, start, middle);
+            start = middle;
+
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (firstSegment > lastSegment) {
+                return 0;
+            }
+
+            // Note: The number of bytes is an upper bound of the number of numbers
+            long size = (firstSegment == lastSegment ? end : segments[firstSegment].buffer.limit()) - start;
+            for (int i = firstSegment + 1; i <= lastSegment; i++) {
+                size += i == lastSegment ? end : segments[i].buffer.limit();
+            }
+
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package nl.smith.mathematics.util;
 
+import java.math.BigInteger;
+import java.util.Arrays;
+
 import static java.lang.String.format;
 
 public class NumberUtil {
 
     private static final String NUMBER_FACTORY_METHOD_NAME = "valueOf";
 
+    /** Powers of ten 10^n with n ≤ {@value} are cached. */
+    private static final int CACHED_POWERS_OF_TEN_LIMIT = 1024;
+
+    /** Cached powers of ten. The array is replaced by a larger copy if a higher power is requested. */
+    private static volatile BigInteger[] powersOfTen = initialPowersOfTen();
+
     private NumberUtil() {
         throw new IllegalStateException(format("Can not instantiate %s", this.getClass().getCanonicalName()));
     }
@@ -37,4 +46,90 @@ public class NumberUtil {
 
     }
 
+    /**
+     * Returns 10^exponent. Powers up to 10^{@value #CACHED_POWERS_OF_TEN_LIMIT} are cached.
+     *
+     * @throws IllegalArgumentException if the specified exponent is negative
+     */
+    public static BigInteger powerOfTen(int exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException(format("Can not determine power of ten.%nThe specified exponent %d is negative", exponent));
+        }
+
+        BigInteger[] cachedPowersOfTen = powersOfTen;
+        if (exponent < cachedPowersOfTen.length) {
+            return cachedPowersOfTen[exponent];
+        }
+
+        if (exponent > CACHED_POWERS_OF_TEN_LIMIT) {
+            return cachedPowersOfTen[cachedPowersOfTen.length - 1].multiply(BigInteger.TEN.pow(exponent - cachedPowersOfTen.length + 1));
+        }
+
+        return extendPowersOfTen(exponent)[exponent];
+    }
+
+    /**
+     * Returns the integer n-th root of a non negative number, i.e. the largest integer r such that r^n &lt;= number.
+     * Square roots are determined using {@link BigInteger#sqrt()}, other roots using Newton's method.
+     *
+     * @throws IllegalArgumentException if the specified number is negative or the specified degree is not positive
+     */
+    public static BigInteger root(BigInteger number, int n) {
+        if (number == null || number.signum() < 0) {
+            throw new IllegalArgumentException(format("Can not determine root.%nThe specified number %s is null or negative", number));
+        }
+
+        if (n < 1) {
+            throw new IllegalArgumentException(format("Can not determine root.%nThe specified degree %d is not positive", n));
+        }
+
+        if (n == 1 || number.signum() == 0) {
+            return number;
+        }
+
+        if (n == 2) {
+            return number.sqrt();
+        }
+
+        // Note: Starting above the root the iterates decrease until the integer root is reached
+        BigInteger degree = BigInteger.valueOf(n);
+        BigInteger degreeMinusOne = BigInteger.valueOf(n - 1);
+        BigInteger root = BigInteger.ONE.shiftLeft((number.bitLength() + n - 1) / n);
+        while (true) {
+            BigInteger next = degreeMinusOne.multiply(root).add(number.divide(root.pow(n - 1))).divide(degree);
+            if (next.compareTo(root) >= 0) {
+                return root;
+            }
+
+            root = next;
+        }
+    }
+
+    private static synchronized BigInteger[] extendPowersOfTen(int exponent) {
+        BigInteger[] cachedPowersOfTen = powersOfTen;
+        if (exponent < cachedPowersOfTen.length) {
+            return cachedPowersOfTen;
+        }
+
+        int length = Math.min(Math.max(2 * cachedPowersOfTen.length, exponent + 1), CACHED_POWERS_OF_TEN_LIMIT + 1);
+        BigInteger[] extendedPowersOfTen = Arrays.copyOf(cachedPowersOfTen, length);
+        for (int i = cachedPowersOfTen.length; i < length; i++) {
+            extendedPowersOfTen[i] = extendedPowersOfTen[i - 1].multiply(BigInteger.TEN);
+        }
+
+        powersOfTen = extendedPowersOfTen;
+
+        return extendedPowersOfTen;
+    }
+
+    private static BigInteger[] initialPowersOfTen() {
+        BigInteger[] initialPowersOfTen = new BigInteger[64];
+        initialPowersOfTen[0] = BigInteger.ONE;
+        for (int i = 1; i < initialPowersOfTen.length; i++) {
+            initialPowersOfTen[i] = initialPowersOfTen[i - 1].multiply(BigInteger.TEN);
+        }
+
+        return initialPowersOfTen;
+    }
+
 }
@@ -4,6 +4,7 @@ import nl.smith.mathematics.numbertype.RationalNumber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -43,56 +44,330 @@ public class RationalNumberUtil {
         POSITIVE_EXPONENTIAL_PART
     }
 
-    public static final Pattern NUMBER_PATTERN = Pattern.compile("((-)?([1-9]\\d*)(\\.(\\d*)(([1-9])|(\\[(\\d*[1-9]\\d*)]R)))?(E\\[(-)?(\\d{2})])?)" +
-            "|(0)|((-)?0(\\.(\\d*)(([1-9])|(\\[(\\d*[1-9]\\d*)]R)))(E\\[(-)?(\\d{2})])?)");
+    public static final Pattern NUMBER_PATTERN = Pattern.compile("((-)?([1-9]\\d*)(\\.(\\d*)(([1-9])|(\\[(\\d*[1-9]\\d*)]R)))?(E\\[(-)?(\\d{2,})])?)" +
+            "|(0)|((-)?0(\\.(\\d*)(([1-9])|(\\[(\\d*[1-9]\\d*)]R)))(E\\[(-)?(\\d{2,})])?)");
+
+    /** Maximum number of decimal digits accumulated in a long. */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Maximum absolute value of an exponent.
+     * Larger exponents are rejected since the numerator or denominator (a power of ten) would not fit in memory in a reasonable time.
+     */
+    public static final int MAX_EXPONENT = 10_000;
+
+    public static final String EXPONENT_OUT_OF_RANGE_MESSAGE = format("Exponent out of range (the absolute value of the exponent may not exceed %d).", MAX_EXPONENT);
+
+    private static final long[] LONG_POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        LONG_POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_LONG_DIGITS; i++) {
+            LONG_POWERS_OF_TEN[i] = 10 * LONG_POWERS_OF_TEN[i - 1];
+        }
+    }
 
     private RationalNumberUtil() {
         throw new IllegalStateException(format("Can not instantiate %s", this.getClass().getCanonicalName()));
     }
 
     public static void assertIsNumber(String numberString) {
-        if (numberString == null || numberString.isEmpty() || !NUMBER_PATTERN.matcher(numberString).matches()) {
+        if (numberString == null) {
             throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
         }
+
+        scan(numberString, 0, numberString.length(), Construction.NONE);
     }
 
     public static RationalNumber getRationalNumber(String numberString) {
-        Map<NumberComponent, String> numberComponents = getNumberComponents(numberString);
+        if (numberString == null) {
+            throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+        }
+
+        return (RationalNumber) scan(numberString, 0, numberString.length(), Construction.RATIONAL_NUMBER);
+    }
+
+    /**
+     * Transforms the characters start (inclusive) to end (exclusive) of the specified character sequence into a rational number.
+     * Note: No (sub)strings are created so the specified character sequence may be a view on a (byte) buffer.
+     */
+    public static RationalNumber getRationalNumber(CharSequence characters, int start, int end) {
+        if (characters == null || start < 0 || end > characters.length() || start > end) {
+            throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+        }
+
+        return (RationalNumber) scan(characters, start, end, Construction.RATIONAL_NUMBER);
+    }
+
+    public static BigDecimal getBigDecimal(String numberString) {
+        if (numberString == null) {
+            throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+        }
 
-        BigInteger numerator;
-        BigInteger denominator;
+        return (BigDecimal) scan(numberString, 0, numberString.length(), Construction.BIG_DECIMAL);
+    }
+
+    /**
+     * Transforms the characters start (inclusive) to end (exclusive) of the specified character sequence into a big decimal.
+     * Note: No (sub)strings are created so the specified character sequence may be a view on a (byte) buffer.
+     *
+     * @throws ArithmeticException If the number has a repeating fractional part
+     */
+    public static BigDecimal getBigDecimal(CharSequence characters, int start, int end) {
+        if (characters == null || start < 0 || end > characters.length() || start > end) {
+            throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+        }
+
+        return (BigDecimal) scan(characters, start, end, Construction.BIG_DECIMAL);
+    }
 
-        if (numberComponents.get(NumberComponent.REPEATING_FRACTIONAL_PART) == null) {
-            numerator = new BigInteger(numberComponents.getOrDefault(NumberComponent.POSITIVE_INTEGER_PART, "")
-                    .concat(numberComponents.getOrDefault(NumberComponent.CONSTANT_FRACTIONAL_PART, "")));
-            denominator = BigInteger.TEN.pow(numberComponents.getOrDefault(NumberComponent.CONSTANT_FRACTIONAL_PART, "").length());
+    /**
+     * Validates the characters in a single pass (accepting the same language as {@link #NUMBER_PATTERN})
+     * and, if required, constructs the numerator and denominator while scanning.
+     * <pre>
+     * numerator   = IC * (10^r - 1) + R   (IC: digits of the integer and constant fractional part, R: repeating digits)
+     * denominator = 10^c * (10^r - 1)     (c: number of constant fractional digits, r: number of repeating digits)
+     * </pre>
+     * Without a repeating part the numerator equals IC and the denominator equals 10^c.
+     * A big decimal is constructed using IC as unscaled value and c minus the exponent as scale.
+     *
+     * @return The constructed number or null if construction was not required
+     */
+    private static Number scan(CharSequence characters, int start, int end, Construction construction) {
+        boolean construct = construction != Construction.NONE;
+        int position = start;
+        if (position == end) {
+            throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+        }
+
+        boolean negative = characters.charAt(position) == '-';
+        if (negative && ++position == end) {
+            throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+        }
+
+        DigitAccumulator digits = construct ? new DigitAccumulator() : null;
+        char character = characters.charAt(position++);
+        if (character == '0') {
+            if (position == end) {
+                if (negative) {
+                    throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+                }
+                return construction == Construction.RATIONAL_NUMBER ? RationalNumber.ZERO : construct ? BigDecimal.ZERO : null;
+            }
+
+            // Note: A zero integer part must be followed by a fractional part
+            if (characters.charAt(position) != '.') {
+                throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+            }
+        } else if (isNonZeroDigit(character)) {
+            appendDigit(digits, character);
+            while (position < end && isDigit(character = characters.charAt(position))) {
+                appendDigit(digits, character);
+                position++;
+            }
         } else {
-            numerator = (new BigInteger(numberComponents.getOrDefault(NumberComponent.POSITIVE_INTEGER_PART, "")
-                    .concat(numberComponents.getOrDefault(NumberComponent.CONSTANT_FRACTIONAL_PART, ""))
-                    .concat(numberComponents.getOrDefault(NumberComponent.REPEATING_FRACTIONAL_PART, ""))))
-                    .subtract(new BigInteger(numberComponents.getOrDefault(NumberComponent.POSITIVE_INTEGER_PART, "")
-                            .concat(numberComponents.getOrDefault(NumberComponent.CONSTANT_FRACTIONAL_PART, ""))));
+            throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+        }
 
-            denominator = BigInteger.TEN.pow(numberComponents.getOrDefault(NumberComponent.CONSTANT_FRACTIONAL_PART, "").length()
-                    + numberComponents.getOrDefault(NumberComponent.REPEATING_FRACTIONAL_PART, "").length())
-                    .subtract(BigInteger.TEN.pow(numberComponents.getOrDefault(NumberComponent.CONSTANT_FRACTIONAL_PART, "").length()));
+        int constantLength = 0;
+        DigitAccumulator repeatingDigits = null;
+        int repeatingLength = 0;
+        if (position < end && characters.charAt(position) == '.') {
+            position++;
+            char lastDigit = '0';
+            while (position < end && isDigit(character = characters.charAt(position))) {
+                appendDigit(digits, character);
+                lastDigit = character;
+                constantLength++;
+                position++;
+            }
+
+            if (position < end && characters.charAt(position) == '[') {
+                position++;
+                repeatingDigits = construct ? new DigitAccumulator() : null;
+                boolean nonZero = false;
+                while (position < end && isDigit(character = characters.charAt(position))) {
+                    appendDigit(repeatingDigits, character);
+                    nonZero |= character != '0';
+                    repeatingLength++;
+                    position++;
+                }
+
+                if (!nonZero || end - position < 2 || characters.charAt(position) != ']' || characters.charAt(position + 1) != 'R') {
+                    throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+                }
+                position += 2;
+            } else if (lastDigit == '0') {
+                // Note: Empty constant fractional part or trailing zero
+                throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+            }
         }
 
-        if (numberComponents.get(NumberComponent.POSITIVE_EXPONENTIAL_PART) != null) {
-            BigInteger exponent = BigInteger.TEN.pow(Integer.parseInt(numberComponents.get(NumberComponent.POSITIVE_EXPONENTIAL_PART)));
-            if (numberComponents.get(NumberComponent.SIGN_EXPONENTIAL_PART) == null) {
-                numerator = numerator.multiply(exponent);
-            } else {
-                denominator = denominator.multiply(exponent);
+        int exponent = 0;
+        if (position < end) {
+            if (end - position < 2 || characters.charAt(position) != 'E' || characters.charAt(position + 1) != '[') {
+                throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+            }
+            position += 2;
+
+            boolean negativeExponent = position < end && characters.charAt(position) == '-';
+            if (negativeExponent) {
+                position++;
+            }
+
+            int exponentLength = 0;
+            boolean exponentOutOfRange = false;
+            while (position < end && isDigit(character = characters.charAt(position))) {
+                // Note: Since accumulation stops once the exponent exceeds the maximum the accumulated value does not overflow
+                if (!exponentOutOfRange) {
+                    exponent = 10 * exponent + (character - '0');
+                    exponentOutOfRange = exponent > MAX_EXPONENT;
+                }
+                exponentLength++;
+                position++;
             }
+
+            if (exponentLength < 2 || position != end - 1 || characters.charAt(position) != ']') {
+                throw new IllegalArgumentException(NOT_A_NUMBER_MESSAGE);
+            }
+
+            if (exponentOutOfRange) {
+                throw new IllegalArgumentException(EXPONENT_OUT_OF_RANGE_MESSAGE);
+            }
+
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        if (!construct) {
+            return null;
+        }
+
+        if (construction == Construction.BIG_DECIMAL) {
+            if (repeatingDigits != null) {
+                throw new ArithmeticException(format("Can not transform %s into a big decimal.%nThe number has a repeating fractional part.", characters.subSequence(start, end)));
+            }
+
+            int scale = Math.subtractExact(constantLength, exponent);
+            if (digits.isLong()) {
+                return BigDecimal.valueOf(negative ? -digits.longValue() : digits.longValue(), scale);
+            }
+
+            BigInteger unscaledValue = digits.bigIntegerValue();
+            return new BigDecimal(negative ? unscaledValue.negate() : unscaledValue, scale);
         }
 
-        if (numberComponents.get(NumberComponent.SIGN_PART) != null) {
-            numerator = numerator.negate();
+        if (digits.isLong() && (repeatingDigits == null || repeatingDigits.isLong())
+                && constantLength + repeatingLength <= MAX_LONG_DIGITS && Math.abs(exponent) <= MAX_LONG_DIGITS) {
+            RationalNumber rationalNumber = getRationalNumber(negative, digits.longValue(), constantLength,
+                    repeatingDigits == null ? 0 : repeatingDigits.longValue(), repeatingLength, exponent);
+            if (rationalNumber != null) {
+                return rationalNumber;
+            }
         }
 
-        return new RationalNumber(numerator, denominator);
+        BigInteger numerator = digits.bigIntegerValue();
+        BigInteger denominator = NumberUtil.powerOfTen(constantLength);
+        if (repeatingDigits != null) {
+            BigInteger repeatingDenominator = NumberUtil.powerOfTen(repeatingLength).subtract(BigInteger.ONE);
+            numerator = numerator.multiply(repeatingDenominator).add(repeatingDigits.bigIntegerValue());
+            denominator = denominator.multiply(repeatingDenominator);
+        }
 
+        if (exponent > 0) {
+            numerator = numerator.multiply(NumberUtil.powerOfTen(exponent));
+        } else if (exponent < 0) {
+            denominator = denominator.multiply(NumberUtil.powerOfTen(-exponent));
+        }
+
+        return new RationalNumber(negative ? numerator.negate() : numerator, denominator);
+    }
+
+    /**
+     * Constructs the rational number using long arithmetic.
+     *
+     * @return The rational number or null if an intermediate result overflows
+     */
+    private static RationalNumber getRationalNumber(boolean negative, long digits, int constantLength, long repeatingDigits, int repeatingLength, int exponent) {
+        try {
+            long numerator = digits;
+            long denominator = LONG_POWERS_OF_TEN[constantLength];
+            if (repeatingLength > 0) {
+                long repeatingDenominator = LONG_POWERS_OF_TEN[repeatingLength] - 1;
+                numerator = Math.addExact(Math.multiplyExact(numerator, repeatingDenominator), repeatingDigits);
+                denominator = Math.multiplyExact(denominator, repeatingDenominator);
+            }
+
+            if (exponent > 0) {
+                numerator = Math.multiplyExact(numerator, LONG_POWERS_OF_TEN[exponent]);
+            } else if (exponent < 0) {
+                denominator = Math.multiplyExact(denominator, LONG_POWERS_OF_TEN[-exponent]);
+            }
+
+            return new RationalNumber(negative ? -numerator : numerator, denominator);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private enum Construction {
+        NONE,
+        RATIONAL_NUMBER,
+        BIG_DECIMAL
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isNonZeroDigit(char character) {
+        return character >= '1' && character <= '9';
+    }
+
+    private static void appendDigit(DigitAccumulator digits, char digit) {
+        if (digits != null) {
+            digits.append(digit - '0');
+        }
+    }
+
+    /**
+     * Accumulates decimal digits in chunks of {@link #MAX_LONG_DIGITS} digits (long arithmetic),
+     * only chunks are combined using {@link BigInteger} arithmetic.
+     */
+    private static class DigitAccumulator {
+
+        private long chunk;
+
+        private int chunkLength;
+
+        /** Value of the completed chunks (null if there are none). */
+        private BigInteger value;
+
+        void append(int digit) {
+            if (chunkLength == MAX_LONG_DIGITS) {
+                value = bigIntegerValue();
+                chunk = 0;
+                chunkLength = 0;
+            }
+
+            chunk = 10 * chunk + digit;
+            chunkLength++;
+        }
+
+        boolean isLong() {
+            return value == null;
+        }
+
+        long longValue() {
+            return chunk;
+        }
+
+        BigInteger bigIntegerValue() {
+            BigInteger chunkValue = BigInteger.valueOf(chunk);
+
+            return value == null ? chunkValue : value.multiply(NumberUtil.powerOfTen(chunkLength)).add(chunkValue);
+        }
     }
 
     public static Map<NumberComponent, String> getNumberComponents(String numberString) {
@@ -147,8 +422,10 @@ public class RationalNumberUtil {
                 }
             }
 
-            LOGGER.debug("Inspected number {}", numberString);
-            numberComponents.forEach((key, value) -> LOGGER.debug(format("%s ---> %s", key.name(), value)));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Inspected number {}", numberString);
+                numberComponents.forEach((key, value) -> LOGGER.debug("{} ---> {}", key.name(), value));
+            }
             return numberComponents;
         }
 
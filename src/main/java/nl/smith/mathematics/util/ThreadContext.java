@@ -42,7 +42,7 @@ public class ThreadContext {
 
     public static <T> Optional<T> getValue(String propertyName, Class<T> clazz) {
         Optional<Object> value = getValue(propertyName);
-        if (!value.isPresent() || clazz.isAssignableFrom(value.getClass())) {
+        if (!value.isPresent() || clazz.isAssignableFrom(value.get().getClass())) {
             return (Optional<T>) value;
         }
 
@@ -1,9 +1,11 @@
 package nl.smith.mathematics.configuration.constant;
 
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberApproximation;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberOutputType;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination;
 import org.junit.jupiter.api.BeforeEach;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +21,8 @@ public abstract class AbstractConstantConfigurationTest {
     public void setUp() {
         System.setProperty(AngleType.class.getCanonicalName(), "RAD");
         System.setProperty(RationalNumberNormalize.class.getCanonicalName(), "YES");
+        System.setProperty(RationalNumberApproximation.class.getCanonicalName(), "NO");
+        System.setProperty(TaylorTermination.class.getCanonicalName(), "FIXED");
         System.setProperty(RationalNumberOutputType.class.getCanonicalName(), "COMPONENTS");
         System.setProperty(RoundingMode.class.getCanonicalName(), "HALF_UP");
 
@@ -30,6 +34,14 @@ public abstract class AbstractConstantConfigurationTest {
                 RationalNumberNormalize.value().name(),
                 RationalNumberNormalize.value().get(),
                 RationalNumberNormalize.value().constantDescription());
+        logger.info("{}}: {}\n{}",
+                RationalNumberApproximation.value().name(),
+                RationalNumberApproximation.value().get(),
+                RationalNumberApproximation.value().constantDescription());
+        logger.info("{}}: {}\n{}",
+                TaylorTermination.value().name(),
+                TaylorTermination.value().get(),
+                TaylorTermination.value().constantDescription());
         logger.info("{}}: {}\n{}",
                 RationalNumberOutputType.value().name(),
                 RationalNumberOutputType.value().get(),
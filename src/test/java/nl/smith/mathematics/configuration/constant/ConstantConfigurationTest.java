@@ -1,9 +1,11 @@
 package nl.smith.mathematics.configuration.constant;
 
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberApproximation;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberOutputType;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination;
 import org.junit.jupiter.api.Test;
 
 import java.util.Set;
@@ -17,9 +19,11 @@ public class ConstantConfigurationTest extends AbstractConstantConfigurationTest
     @Test
     public void getEnumConstantInstances() {
         Set<? extends Class<? extends EnumConstantConfiguration>> enumConstantClasses = ConstantConfiguration.getEnumConstantInstances().stream().map(inst -> inst.getClass()).collect(Collectors.toSet());
-        assertEquals(4, enumConstantClasses.size());
+        assertEquals(6, enumConstantClasses.size());
         assertTrue(enumConstantClasses.contains(AngleType.class));
         assertTrue(enumConstantClasses.contains(RationalNumberNormalize.class));
+        assertTrue(enumConstantClasses.contains(RationalNumberApproximation.class));
+        assertTrue(enumConstantClasses.contains(TaylorTermination.class));
         assertTrue(enumConstantClasses.contains(RationalNumberOutputType.class));
         assertTrue(enumConstantClasses.contains(RoundingMode.class));
     }
@@ -1,8 +1,10 @@
 package nl.smith.mathematics.configuration.constant;
 
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberApproximation;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize;
 import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberOutputType;
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination;
 import nl.smith.mathematics.exception.StringToConstantConfigurationException;
 import org.junit.jupiter.api.Test;
 
@@ -35,11 +37,35 @@ class EnumConstantConfigurationTest {
     public void rationalNumberNormalize() throws StringToConstantConfigurationException {
         assertEquals("Normalisation", RationalNumberNormalize.value().name());
         assertEquals("Specification whether rational numbers are normalized.", RationalNumberNormalize.value().constantDescription());
-        assertEquals(Set.of("NO", "YES"), RationalNumberNormalize.value().valuesAsString());
+        assertEquals(Set.of("ADAPTIVE", "NO", "YES"), RationalNumberNormalize.value().valuesAsString());
         RationalNumberNormalize.value().set(YES);
         assertEquals(YES, RationalNumberNormalize.value().get());
         RationalNumberNormalize.value().set("NO");
         assertEquals(NO, RationalNumberNormalize.value().get());
+        RationalNumberNormalize.value().set("ADAPTIVE");
+        assertEquals(ADAPTIVE, RationalNumberNormalize.value().get());
+    }
+
+    @Test
+    public void rationalNumberApproximation() throws StringToConstantConfigurationException {
+        assertEquals("Approximation", RationalNumberApproximation.value().name());
+        assertEquals("Specification whether intermediate results of Taylor polynomials are approximated.", RationalNumberApproximation.value().constantDescription());
+        assertEquals(Set.of("NO", "YES"), RationalNumberApproximation.value().valuesAsString());
+        RationalNumberApproximation.value().set(RationalNumberApproximation.PredefinedType.YES);
+        assertEquals(RationalNumberApproximation.PredefinedType.YES, RationalNumberApproximation.value().get());
+        RationalNumberApproximation.value().set("NO");
+        assertEquals(RationalNumberApproximation.PredefinedType.NO, RationalNumberApproximation.value().get());
+    }
+
+    @Test
+    public void taylorTermination() throws StringToConstantConfigurationException {
+        assertEquals("Termination", TaylorTermination.value().name());
+        assertEquals("Specification of the degree of Taylor polynomials.", TaylorTermination.value().constantDescription());
+        assertEquals(Set.of("FIXED", "CONVERGENCE"), TaylorTermination.value().valuesAsString());
+        TaylorTermination.value().set(TaylorTermination.PredefinedType.CONVERGENCE);
+        assertEquals(TaylorTermination.PredefinedType.CONVERGENCE, TaylorTermination.value().get());
+        TaylorTermination.value().set("FIXED");
+        assertEquals(TaylorTermination.PredefinedType.FIXED, TaylorTermination.value().get());
     }
 
     @Test
@@ -0,0 +1,80 @@
+package nl.smith.mathematics.configuration.constant;
+
+import nl.smith.mathematics.configuration.constant.NumberConstant.RationalValueOf;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.configuration.constant.NumberConstant}
+ */
+public class NumberConstantTest {
+
+    @AfterEach
+    public void tearDown() {
+        RationalValueOf.Pi.value().set(RationalValueOf.Pi.value().getDefaultValue());
+        RationalValueOf.MaximumError.value().set(RationalValueOf.MaximumError.value().getDefaultValue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("approximatedValues")
+    void approximatedValue(RationalValueOf constant, RationalNumber maxError, RationalNumber expectedValue) {
+        RationalNumber approximatedValue = constant.approximatedValue(maxError);
+
+        assertEquals(expectedValue, approximatedValue);
+        assertEquals(expectedValue.getNormalized().getDenominator(), approximatedValue.getDenominator());
+        assertTrue(approximatedValue.subtract(constant.value().get()).abs().compareTo(maxError) <= 0);
+    }
+
+    @Test
+    void approximatedValueUsingMaximumError() {
+        RationalValueOf.MaximumError.value().set(new RationalNumber(1, 100));
+
+        assertEquals("22/7", RationalValueOf.Pi.approximatedValue().toStringComponents());
+    }
+
+    @Test
+    void approximatedValueUsingThreadValue() {
+        RationalValueOf.Pi.value().set(RationalNumber.valueOf("3.14"));
+
+        assertEquals("22/7", RationalValueOf.Pi.approximatedValue(new RationalNumber(1, 100)).toStringComponents());
+        assertEquals("157/50", RationalValueOf.Pi.approximatedValue(new RationalNumber(1, 10000)).toStringComponents());
+    }
+
+    @Test
+    void approximatedValueUsingEqualThreadValue() {
+        RationalValueOf.Pi.value().set(RationalNumber.valueOf("3.14"));
+        RationalNumber approximatedValue = RationalValueOf.Pi.approximatedValue(new RationalNumber(1, 100));
+
+        // Note: The convergents of an equal value are not recomputed
+        RationalValueOf.Pi.value().set(RationalNumber.valueOf("3.14"));
+        assertSame(approximatedValue, RationalValueOf.Pi.approximatedValue(new RationalNumber(1, 100)));
+    }
+
+    @Test
+    void approximatedValueUsingIllegalMaximumError() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> RationalValueOf.Pi.approximatedValue(null));
+        assertEquals("A maximum error must be specified (not be null)", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> RationalValueOf.Pi.approximatedValue(new RationalNumber(-1, 2)));
+        assertEquals("The maximum error must not be negative (-1/2)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> approximatedValues() {
+        return Stream.of(
+                Arguments.of(RationalValueOf.Pi, new RationalNumber(1, 5), new RationalNumber(3)),
+                Arguments.of(RationalValueOf.Pi, new RationalNumber(1, 10), new RationalNumber(22, 7)),
+                Arguments.of(RationalValueOf.Pi, new RationalNumber(1, 1000), new RationalNumber(333, 106)),
+                Arguments.of(RationalValueOf.Pi, new RationalNumber(1, 1000000), new RationalNumber(355, 113)),
+                Arguments.of(RationalValueOf.Euler, new RationalNumber(1, 1000000), new RationalNumber(2721, 1001)),
+                Arguments.of(RationalValueOf.Pi, RationalNumber.ZERO, RationalValueOf.Pi.value().getDefaultValue())
+        );
+    }
+}
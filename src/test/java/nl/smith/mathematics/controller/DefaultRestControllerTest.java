@@ -0,0 +1,83 @@
+package nl.smith.mathematics.controller;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.NumberCodec;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * System under test: {@link nl.smith.mathematics.controller.DefaultRestController} (binary endpoints)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DefaultRestControllerTest {
+
+    private final MockMvc mockMvc;
+
+    @Autowired
+    public DefaultRestControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    void invoke() throws Exception {
+        byte[] result = mockMvc.perform(post("/function/faculty")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .content(encode(new RationalNumber(3))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(encode(new RationalNumber(6)), result);
+    }
+
+    @Test
+    void invoke_usingTrailingBytes() throws Exception {
+        mockMvc.perform(post("/function/faculty")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .content(encode(new RationalNumber(3), new RationalNumber(5))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void invokeForAll() throws Exception {
+        byte[] result = mockMvc.perform(post("/function/faculty/batch")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .content(encode(new RationalNumber(3), new RationalNumber(5), RationalNumber.ZERO)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(encode(new RationalNumber(6), new RationalNumber(120), RationalNumber.ONE), result);
+    }
+
+    @Test
+    void invokeForAll_usingTruncatedBody() throws Exception {
+        byte[] body = encode(new RationalNumber(3), new RationalNumber(5));
+
+        mockMvc.perform(post("/function/faculty/batch")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_OCTET_STREAM)
+                .content(Arrays.copyOf(body, body.length - 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static byte[] encode(RationalNumber... rationalNumbers) {
+        ByteBuffer buffer = ByteBuffer.allocate(Arrays.stream(rationalNumbers).mapToInt(NumberCodec::getEncodedLength).sum());
+        Arrays.stream(rationalNumbers).forEach(rationalNumber -> NumberCodec.write(rationalNumber, buffer));
+
+        return buffer.array();
+    }
+}
@@ -0,0 +1,138 @@
+package nl.smith.mathematics.domain;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
+import nl.smith.mathematics.mathematicalfunctions.RecursiveFunctionContainer;
+import nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree;
+import nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal.BigDecimalArithmeticFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberArithmeticFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberLogarithmicFunctions;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import nl.smith.mathematics.util.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.Scale;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * System under test: {@link nl.smith.mathematics.domain.CompiledExpression}
+ */
+class CompiledExpressionTest {
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> MINUS = getMethodMapping(new RationalNumberArithmeticFunctions(), "-", 1);
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> ADD = getMethodMapping(new RationalNumberArithmeticFunctions(), "+", 2);
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> MULTIPLY = getMethodMapping(new RationalNumberArithmeticFunctions(), "*", 2);
+
+    @BeforeEach
+    void setConfiguration() {
+        RoundingMode.value().set(RoundingMode.PredefinedType.CEILING);
+        Scale.value().set(2);
+    }
+
+    @AfterEach
+    void resetConfiguration() {
+        ThreadContext.clear();
+    }
+
+    @Test
+    public void evaluate_usingCommonSubexpressions() {
+        // (x + 1) * (x + 1) + -(x + 1)
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>()
+                .addCompoundExpression(getSum("x", RationalNumber.ONE)).addHighPriorityBinaryOperator(MULTIPLY).addCompoundExpression(getSum("x", RationalNumber.ONE))
+                .addBinaryOperator(ADD).addUnaryOperator(MINUS).addCompoundExpression(getSum("x", RationalNumber.ONE)).close();
+
+        CompiledExpression<RationalNumber> compiledExpression = CompiledExpression.compile(expressionStack);
+
+        // Note: x + 1, (x + 1) * (x + 1), -(x + 1) and the sum
+        assertEquals(4, compiledExpression.getNumberOfOperations());
+        assertEquals(new RationalNumber(12), compiledExpression.evaluate(Collections.singletonMap("x", new RationalNumber(3))));
+        assertEquals(new RationalNumber(0), compiledExpression.evaluate(Collections.singletonMap("x", new RationalNumber(-1))));
+    }
+
+    @Test
+    public void evaluate_usingConstantSubexpressions() {
+        MathematicalFunctionMethodMapping<BigDecimal> divide = getMethodMapping(new BigDecimalArithmeticFunctions(), "/", 2);
+        MathematicalFunctionMethodMapping<BigDecimal> add = getMethodMapping(new BigDecimalArithmeticFunctions(), "+", 2);
+        // 1 / 3 + x
+        ExpressionStack<BigDecimal> expressionStack = new ExpressionStack<BigDecimal>()
+                .addNumber(BigDecimal.ONE).addHighPriorityBinaryOperator(divide).addNumber(new BigDecimal(3)).addBinaryOperator(add).addVariableName("x").close();
+        Map<String, BigDecimal> variables = Collections.singletonMap("x", BigDecimal.ONE);
+
+        CompiledExpression<BigDecimal> compiledExpression = CompiledExpression.compile(expressionStack);
+
+        assertEquals(new BigDecimal("1.34"), compiledExpression.evaluate(variables));
+
+        // Note: The folded constant 1 / 3 depends on the configuration
+        Scale.value().set(5);
+        assertEquals(new BigDecimal("1.33334"), compiledExpression.evaluate(variables));
+    }
+
+    @Test
+    public void evaluate_usingFunctionReportingTaylorDegree() {
+        RationalNumberLogarithmicFunctions logarithmicFunctions = new RationalNumberLogarithmicFunctions();
+        MathematicalFunctionMethodMapping<RationalNumber> exp = getMethodMapping(logarithmicFunctions, "exp", 1);
+        // exp(1/2) + exp(x)
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>()
+                .addMathematicalFunction(exp).addCompoundExpression(new ExpressionStack<RationalNumber>().addNumber(new RationalNumber(1, 2)).close())
+                .addBinaryOperator(ADD)
+                .addMathematicalFunction(exp).addCompoundExpression(new ExpressionStack<RationalNumber>().addVariableName("x").close()).close();
+        RationalNumber expectedValue = logarithmicFunctions.exp(new RationalNumber(1, 2)).add(logarithmicFunctions.exp(new RationalNumber(1, 3)));
+
+        CompiledExpression<RationalNumber> compiledExpression = CompiledExpression.compile(expressionStack);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expectedValue, compiledExpression.evaluate(Collections.singletonMap("x", new RationalNumber(1, 3))));
+        }
+
+        // Note: Each evaluation of exp(x) reports the degree of its Taylor polynomial, which does not change the configuration
+        assertTrue(TaylorDegree.getLast().isPresent());
+        assertEquals(1, compiledExpression.getNumberOfFoldings());
+
+        Scale.value().set(5);
+        compiledExpression.evaluate(Collections.singletonMap("x", new RationalNumber(1, 3)));
+        assertEquals(2, compiledExpression.getNumberOfFoldings());
+    }
+
+    @Test
+    public void evaluate_usingManyTerms() {
+        // x + 1 + 2 + ... + 100000
+        int numberOfTerms = 100_000;
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>().addVariableName("x");
+        for (int i = 1; i <= numberOfTerms; i++) {
+            expressionStack.addBinaryOperator(ADD).addNumber(new RationalNumber(i));
+        }
+
+        CompiledExpression<RationalNumber> compiledExpression = CompiledExpression.compile(expressionStack.close());
+
+        // Note: The depth of the tree equals the number of terms
+        assertEquals(numberOfTerms, compiledExpression.getNumberOfOperations());
+        assertEquals(new RationalNumber(5_000_050_001L), compiledExpression.evaluate(Collections.singletonMap("x", RationalNumber.ONE)));
+    }
+
+    @Test
+    public void compile_usingAppendableExpressionStack() {
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> CompiledExpression.compile(expressionStack));
+        assertEquals("Can not compile an expression stack with state APPENDABLE and dimension 1.", exception.getMessage());
+    }
+
+    private static ExpressionStack<RationalNumber> getSum(String variableName, RationalNumber number) {
+        return new ExpressionStack<RationalNumber>().addVariableName(variableName).addBinaryOperator(ADD).addNumber(number).close();
+    }
+
+    private static <N extends Number, C extends RecursiveFunctionContainer<N, C>> MathematicalFunctionMethodMapping<N> getMethodMapping(C container, String name, int parameterCount) {
+        container.setSibling(container);
+
+        return container.getMathematicalFunctionMethodMapping(name, parameterCount).orElseThrow();
+    }
+}
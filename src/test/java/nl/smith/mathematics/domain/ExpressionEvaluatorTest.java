@@ -0,0 +1,106 @@
+package nl.smith.mathematics.domain;
+
+import nl.smith.mathematics.mathematicalfunctions.RecursiveFunctionContainer;
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberArithmeticFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberStatisticalFunctions;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.of;
+
+/**
+ * System under test: {@link nl.smith.mathematics.domain.ExpressionEvaluator}
+ */
+class ExpressionEvaluatorTest {
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> MINUS = getMethodMapping(new RationalNumberArithmeticFunctions(), "-", 1);
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> ADD = getMethodMapping(new RationalNumberArithmeticFunctions(), "+", 2);
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> SUBTRACT = getMethodMapping(new RationalNumberArithmeticFunctions(), "-", 2);
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> MULTIPLY = getMethodMapping(new RationalNumberArithmeticFunctions(), "*", 2);
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> DIVIDE = getMethodMapping(new RationalNumberArithmeticFunctions(), "/", 2);
+
+    private static final MathematicalFunctionMethodMapping<RationalNumber> SUM = getMethodMapping(new RationalNumberStatisticalFunctions(), "sum", 3);
+
+    @ParameterizedTest
+    @MethodSource
+    public void evaluate(ExpressionStack<RationalNumber> expressionStack, RationalNumber expectedResult) {
+        Map<String, RationalNumber> variables = new HashMap<>();
+        variables.put("x", new RationalNumber(3));
+
+        ExpressionEvaluator<RationalNumber> expressionEvaluator = new ExpressionEvaluator<>(expressionStack);
+
+        assertEquals(expectedResult, expressionEvaluator.evaluate(variables));
+        assertEquals(expectedResult, expressionStack.digest(variables).stackElements.peek().getValue());
+    }
+
+    @Test
+    public void evaluate_usingUnknownVariables() {
+        // 1 / 0 + a * b
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).addHighPriorityBinaryOperator(DIVIDE).addNumber(RationalNumber.ZERO)
+                .addBinaryOperator(ADD).addVariableName("a").addHighPriorityBinaryOperator(MULTIPLY).addVariableName("b").close();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new ExpressionEvaluator<>(expressionStack).evaluate(Collections.emptyMap()));
+        assertEquals("Unknown variable(s) 'a', 'b'.", exception.getMessage());
+    }
+
+    @Test
+    public void constructor_usingAppendableExpressionStack() {
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new ExpressionEvaluator<>(expressionStack));
+        assertEquals("Can not evaluate an expression stack when it is in state APPENDABLE.", exception.getMessage());
+    }
+
+    private static Stream<Arguments> evaluate() {
+        RationalNumber two = new RationalNumber(2);
+        RationalNumber three = new RationalNumber(3);
+
+        return Stream.of(
+                // 1 + 2 * 3
+                of(new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).addBinaryOperator(ADD).addNumber(two).addHighPriorityBinaryOperator(MULTIPLY).addNumber(three).close(), new RationalNumber(7)),
+                // 1 - 2 - 3
+                of(new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).addBinaryOperator(SUBTRACT).addNumber(two).addBinaryOperator(SUBTRACT).addNumber(three).close(), new RationalNumber(-4)),
+                // 2 / 3 / 2
+                of(new ExpressionStack<RationalNumber>().addNumber(two).addHighPriorityBinaryOperator(DIVIDE).addNumber(three).addHighPriorityBinaryOperator(DIVIDE).addNumber(two).close(), new RationalNumber(1, 3)),
+                // -x * 2 - -1
+                of(new ExpressionStack<RationalNumber>().addUnaryOperator(MINUS).addVariableName("x").addHighPriorityBinaryOperator(MULTIPLY).addNumber(two).addBinaryOperator(SUBTRACT).addUnaryOperator(MINUS).addNumber(RationalNumber.ONE).close(), new RationalNumber(-5)),
+                // 2 * (1 + x)
+                of(new ExpressionStack<RationalNumber>().addNumber(two).addHighPriorityBinaryOperator(MULTIPLY).addCompoundExpression(new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).addBinaryOperator(ADD).addVariableName("x").close()).close(), new RationalNumber(8)),
+                // 1 + sum(3, 2, 3)
+                of(new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).addBinaryOperator(ADD).addMathematicalFunction(SUM).addCompoundExpression(getArguments(new RationalNumber(3), two, three)).close(), new RationalNumber(9))
+        );
+    }
+
+    private static ExpressionStack<RationalNumber> getArguments(RationalNumber... arguments) {
+        ExpressionStack<RationalNumber> expressionStack = null;
+        for (int i = arguments.length - 1; i >= 0; i--) {
+            ExpressionStack<RationalNumber> sibling = expressionStack;
+            expressionStack = new ExpressionStack<RationalNumber>().addNumber(arguments[i]).close();
+            if (sibling != null) {
+                expressionStack.setSibling(sibling);
+            }
+        }
+
+        return expressionStack;
+    }
+
+    private static <C extends RecursiveFunctionContainer<RationalNumber, C>> MathematicalFunctionMethodMapping<RationalNumber> getMethodMapping(C container, String name, int parameterCount) {
+        container.setSibling(container);
+
+        return container.getMathematicalFunctionMethodMapping(name, parameterCount).orElseThrow();
+    }
+}
@@ -0,0 +1,109 @@
+package nl.smith.mathematics.domain;
+
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberArithmeticFunctions;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.CompilationThreshold;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.of;
+
+/**
+ * System under test: {@link nl.smith.mathematics.domain.ExpressionPlan}
+ */
+class ExpressionPlanTest {
+
+    @AfterEach
+    public void tearDown() {
+        CompilationThreshold.value().set(null);
+    }
+
+    @Test
+    public void evaluate() {
+        ExpressionPlan<RationalNumber> expressionPlan = new ExpressionPlan<>("x", RationalNumber.class, new ExpressionStack<RationalNumber>().addVariableName("x").close());
+
+        assertEquals(RationalNumber.ONE, expressionPlan.evaluate(Collections.singletonMap("x", RationalNumber.ONE)));
+        assertEquals(RationalNumber.TEN, expressionPlan.evaluate(Collections.singletonMap("x", RationalNumber.TEN)));
+        assertEquals("x (RationalNumber)", expressionPlan.toString());
+    }
+
+    @Test
+    public void evaluate_usingUnknownVariable() {
+        ExpressionPlan<RationalNumber> expressionPlan = new ExpressionPlan<>("x", RationalNumber.class, new ExpressionStack<RationalNumber>().addVariableName("x").close());
+
+        Map<String, RationalNumber> variables = Collections.emptyMap();
+        assertThrows(IllegalStateException.class, () -> expressionPlan.evaluate(variables));
+    }
+
+    @Test
+    public void evaluate_usingCompiledExpression() {
+        CompilationThreshold.value().set(2);
+        ExpressionPlan<RationalNumber> expressionPlan = new ExpressionPlan<>("x", RationalNumber.class, new ExpressionStack<RationalNumber>().addVariableName("x").close());
+
+        assertEquals(RationalNumber.ONE, expressionPlan.evaluate(Collections.singletonMap("x", RationalNumber.ONE)));
+        assertFalse(expressionPlan.isCompiled());
+        assertEquals(RationalNumber.TEN, expressionPlan.evaluate(Collections.singletonMap("x", RationalNumber.TEN)));
+        assertTrue(expressionPlan.isCompiled());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> expressionPlan.evaluate(Collections.emptyMap()));
+        assertEquals("Unknown variable(s) 'x'.", exception.getMessage());
+    }
+
+    @Test
+    public void evaluate_usingManyTerms() {
+        CompilationThreshold.value().set(2);
+        RationalNumberArithmeticFunctions arithmeticFunctions = new RationalNumberArithmeticFunctions();
+        arithmeticFunctions.setSibling(arithmeticFunctions);
+        MathematicalFunctionMethodMapping<RationalNumber> add = arithmeticFunctions.getMathematicalFunctionMethodMapping("+", 2).orElseThrow();
+        // x + 1 + 2 + ... + 50000
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>().addVariableName("x");
+        for (int i = 1; i <= 50_000; i++) {
+            expressionStack.addBinaryOperator(add).addNumber(new RationalNumber(i));
+        }
+
+        ExpressionPlan<RationalNumber> expressionPlan = new ExpressionPlan<>("x + 1 + 2 + ... + 50000", RationalNumber.class, expressionStack.close());
+
+        assertEquals(new RationalNumber(1_250_025_001L), expressionPlan.evaluate(Collections.singletonMap("x", RationalNumber.ONE)));
+        assertFalse(expressionPlan.isCompiled());
+        assertEquals(new RationalNumber(1_250_025_010L), expressionPlan.evaluate(Collections.singletonMap("x", RationalNumber.TEN)));
+        assertTrue(expressionPlan.isCompiled());
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void illegalArguments(String text, Class<RationalNumber> numberType, ExpressionStack<RationalNumber> expressionStack, Exception expectedException) {
+        Exception exception = assertThrows(expectedException.getClass(), () -> new ExpressionPlan<>(text, numberType, expressionStack));
+
+        assertEquals(expectedException.getMessage(), exception.getMessage());
+    }
+
+    private static Stream<Arguments> illegalArguments() {
+        ExpressionStack<RationalNumber> closedExpressionStack = new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).close();
+
+        return Stream.of(
+                of(null, RationalNumber.class, closedExpressionStack, new IllegalArgumentException("Please specify a text, a number type and an expression stack.")),
+                of("1", null, closedExpressionStack, new IllegalArgumentException("Please specify a text, a number type and an expression stack.")),
+                of("1", RationalNumber.class, null, new IllegalArgumentException("Please specify a text, a number type and an expression stack.")),
+                of("1", RationalNumber.class, new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE),
+                        new IllegalStateException(format("Can not create a plan using an expression stack with state APPENDABLE and dimension 1.%nThe state should be CLOSED and the dimension should be 1."))),
+                of("1, 1", RationalNumber.class, getExpressionStackWithSibling(),
+                        new IllegalStateException(format("Can not create a plan using an expression stack with state CLOSED and dimension 2.%nThe state should be CLOSED and the dimension should be 1.")))
+        );
+    }
+
+    private static ExpressionStack<RationalNumber> getExpressionStackWithSibling() {
+        ExpressionStack<RationalNumber> expressionStack = new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).close();
+        expressionStack.setSibling(new ExpressionStack<RationalNumber>().addNumber(RationalNumber.ONE).close());
+
+        return expressionStack;
+    }
+}
@@ -1,8 +1,12 @@
 package nl.smith.mathematics.domain;
 
+import nl.smith.mathematics.mathematicalfunctions.RecursiveFunctionContainer;
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberArithmeticFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberStatisticalFunctions;
 import nl.smith.mathematics.numbertype.RationalNumber;
 import org.junit.jupiter.api.Test;
 
+import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -14,5 +18,44 @@ class MathematicalFunctionMethodMappingTest {
         assertEquals("Please specify a container and a method.", actualException.getMessage());
     }
 
+    @Test
+    public void invokeWithNumbers() {
+        MathematicalFunctionMethodMapping<RationalNumber> methodMapping = getMethodMapping(new RationalNumberArithmeticFunctions(), "+", 2);
+
+        assertEquals(new RationalNumber(3), methodMapping.invokeWithNumbers(RationalNumber.ONE, new RationalNumber(2)));
+        assertEquals(new RationalNumber(3), methodMapping.asBinaryOperator().apply(RationalNumber.ONE, new RationalNumber(2)));
+        assertEquals(new RationalNumber(3), methodMapping.asFunction(2).apply(new RationalNumber[]{RationalNumber.ONE, new RationalNumber(2)}));
+    }
+
+    @Test
+    public void invokeWithNumbers_usingVarArgs() {
+        MathematicalFunctionMethodMapping<RationalNumber> methodMapping = getMethodMapping(new RationalNumberStatisticalFunctions(), "sum", 3);
+
+        assertEquals(new RationalNumber(6), methodMapping.invokeWithNumbers(RationalNumber.ONE, new RationalNumber(2), new RationalNumber(3)));
+        assertEquals(new RationalNumber(1), methodMapping.asUnaryOperator().apply(RationalNumber.ONE));
+        assertEquals(new RationalNumber(3), methodMapping.asBinaryOperator().apply(RationalNumber.ONE, new RationalNumber(2)));
+        assertEquals(new RationalNumber(6), methodMapping.asFunction(3).apply(new RationalNumber[]{RationalNumber.ONE, new RationalNumber(2), new RationalNumber(3)}));
+    }
+
+    @Test
+    public void invokeWithNumbers_withoutSibling() {
+        MathematicalFunctionMethodMapping<RationalNumber> methodMapping = new RationalNumberArithmeticFunctions().getMathematicalFunctionMethodMapping("+", 2).orElseThrow();
 
-}
\ No newline at end of file
+        IllegalStateException actualException = assertThrows(IllegalStateException.class, () -> methodMapping.invokeWithNumbers(RationalNumber.ONE, RationalNumber.ONE));
+        assertEquals(format("Can not invoke method +(N, N). The sibling of the container %s has not been set.", RationalNumberArithmeticFunctions.class.getCanonicalName()), actualException.getMessage());
+    }
+
+    @Test
+    public void asUnaryOperator_usingBinaryOperation() {
+        MathematicalFunctionMethodMapping<RationalNumber> methodMapping = getMethodMapping(new RationalNumberArithmeticFunctions(), "+", 2);
+
+        IllegalStateException actualException = assertThrows(IllegalStateException.class, methodMapping::asUnaryOperator);
+        assertEquals("The method +(N, N) does not accept 1 argument(s).", actualException.getMessage());
+    }
+
+    private static <C extends RecursiveFunctionContainer<RationalNumber, C>> MathematicalFunctionMethodMapping<RationalNumber> getMethodMapping(C container, String name, int parameterCount) {
+        container.setSibling(container);
+
+        return container.getMathematicalFunctionMethodMapping(name, parameterCount).orElseThrow();
+    }
+}
@@ -0,0 +1,78 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType.PredefinedType.DEG;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType.PredefinedType.GRAD;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.AngleType.PredefinedType.RAD;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.mathematicalfunctions.implementation.AngleReduction}
+ */
+public class AngleReductionTest {
+
+    private static final double DELTA = 1E-12;
+
+    @ParameterizedTest
+    @MethodSource("reductions")
+    void reduce(AngleType.PredefinedType angleType, boolean cosine, String angle, double expectedRadians, boolean expectedCosine, boolean expectedNegative) {
+        AngleType.value().set(angleType);
+
+        AngleReduction reduction = cosine ? AngleReduction.ofCos(RationalNumber.valueOf(angle)) : AngleReduction.ofSin(RationalNumber.valueOf(angle));
+
+        assertEquals(expectedRadians, reduction.getAngle().doubleValue(), DELTA);
+        assertEquals(expectedCosine, reduction.isCosine());
+        assertEquals(expectedNegative, reduction.isNegative());
+    }
+
+    @Test
+    void reduceUsingSmallAngle() {
+        AngleType.value().set(RAD);
+        RationalNumber angle = RationalNumber.valueOf(1, 2);
+
+        assertEquals(angle, AngleReduction.ofSin(angle).getAngle());
+        assertEquals(angle, AngleReduction.ofCos(angle).getAngle());
+    }
+
+    @Test
+    void reduceUsingLargeAngle() {
+        AngleType.value().set(RAD);
+        AngleReduction reduction = AngleReduction.ofSin(RationalNumber.valueOf(1000));
+
+        // Note: 1000 = 159 * 2π + 0.97353... (quadrant 0, complement π/2 - 0.97353...)
+        double expectedRadians = Math.PI / 2 - (1000 - 318 * Math.PI);
+        assertEquals(expectedRadians, reduction.getAngle().doubleValue(), 1E-9);
+        assertTrue(reduction.isCosine());
+        assertFalse(reduction.isNegative());
+    }
+
+    @Test
+    void reduceUsingNull() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> AngleReduction.ofSin(null));
+        assertEquals("An angle must be specified (not be null)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> reductions() {
+        return Stream.of(
+                Arguments.of(DEG, false, "30", Math.PI / 6, false, false),
+                Arguments.of(DEG, false, "60", Math.PI / 6, true, false),
+                Arguments.of(DEG, false, "-210", Math.PI / 6, false, false),
+                Arguments.of(DEG, false, "1110", Math.PI / 6, false, false),
+                Arguments.of(DEG, true, "135", Math.PI / 4, false, true),
+                Arguments.of(DEG, true, "300", Math.PI / 6, false, false),
+                Arguments.of(DEG, true, "-240", Math.PI / 6, false, true),
+                Arguments.of(GRAD, false, "150", Math.PI / 4, true, false),
+                Arguments.of(GRAD, true, "-350", Math.PI / 4, false, false),
+                Arguments.of(RAD, false, "3", Math.PI - 3, false, false),
+                Arguments.of(RAD, true, "-4", 3 * Math.PI / 2 - 4, false, true)
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.EULER;
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.LN_2;
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.PI;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant}
+ */
+public class MathematicalConstantTest {
+
+    private static final String PI_VALUE = "3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211706798214808651";
+
+    private static final String EULER_VALUE = "2.71828182845904523536028747135266249775724709369995957496696762772407663035354759457138217852516642742746639193";
+
+    private static final String LN_2_VALUE = "0.69314718055994530941723212145817656807550013436025525412068000949339362196969471560586332699641868754200148102";
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void valueOf(MathematicalConstant constant, String value, int digits) {
+        RationalNumber maxError = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(digits));
+
+        RationalNumber approximation = constant.valueOf(maxError);
+
+        assertTrue(approximation.subtract(RationalNumber.valueOf(new BigDecimal(value))).abs().compareTo(maxError) <= 0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("roundedValues")
+    void valueOfUsingScale(MathematicalConstant constant, int scale, String expectedValue) {
+        assertEquals(new BigDecimal(expectedValue), constant.valueOf(scale));
+    }
+
+    @Test
+    void valueOfUsingCachedValue() {
+        RationalNumber pi = PI.valueOf(new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(10)));
+
+        assertSame(pi, PI.valueOf(new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(15))));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"0", "-0.001"})
+    void valueOfUsingIllegalMaximumError(String maxError) {
+        RationalNumber error = maxError == null ? null : RationalNumber.valueOf(maxError);
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> LN_2.valueOf(error));
+        assertEquals(String.format("The maximum error must be positive (%s)", error), exception.getMessage());
+    }
+
+    private static Stream<Arguments> values() {
+        return Stream.of(
+                Arguments.of(PI, PI_VALUE, 1),
+                Arguments.of(PI, PI_VALUE, 14),
+                Arguments.of(PI, PI_VALUE, 100),
+                Arguments.of(EULER, EULER_VALUE, 1),
+                Arguments.of(EULER, EULER_VALUE, 30),
+                Arguments.of(EULER, EULER_VALUE, 100),
+                Arguments.of(LN_2, LN_2_VALUE, 1),
+                Arguments.of(LN_2, LN_2_VALUE, 50),
+                Arguments.of(LN_2, LN_2_VALUE, 100)
+        );
+    }
+
+    private static Stream<Arguments> roundedValues() {
+        return Stream.of(
+                Arguments.of(PI, 0, "3"),
+                Arguments.of(PI, 20, "3.14159265358979323846"),
+                Arguments.of(EULER, 20, "2.71828182845904523536"),
+                Arguments.of(LN_2, 20, "0.69314718055994530942")
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination.PredefinedType.CONVERGENCE;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.TaylorTermination.PredefinedType.FIXED;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.TaylorDegreeOfPolynom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.mathematicalfunctions.implementation.TaylorDegree}
+ */
+public class TaylorDegreeTest {
+
+    private static final RationalNumber MAX_ERROR = RationalNumber.valueOf(1, 1000);
+
+    @BeforeEach
+    public void setUp() {
+        TaylorDegreeOfPolynom.value().set(20);
+    }
+
+    @ParameterizedTest
+    @MethodSource("factorialSeries")
+    void ofFactorialSeries(TaylorTermination.PredefinedType termination, RationalNumber x, int expectedDegree, boolean expectedConverged) {
+        TaylorTermination.value().set(termination);
+
+        TaylorDegree taylorDegree = TaylorDegree.ofFactorialSeries("exp", x, MAX_ERROR);
+
+        assertEquals("exp", taylorDegree.getFunction());
+        assertEquals(expectedDegree, taylorDegree.getDegree());
+        assertEquals(expectedConverged, taylorDegree.isConverged());
+    }
+
+    @ParameterizedTest
+    @MethodSource("logarithmicSeries")
+    void ofLogarithmicSeries(TaylorTermination.PredefinedType termination, RationalNumber s, int expectedDegree, boolean expectedConverged) {
+        TaylorTermination.value().set(termination);
+
+        TaylorDegree taylorDegree = TaylorDegree.ofLogarithmicSeries("ln", s, MAX_ERROR);
+
+        assertEquals(expectedDegree, taylorDegree.getDegree());
+        assertEquals(expectedConverged, taylorDegree.isConverged());
+    }
+
+    @Test
+    void getLast() {
+        TaylorTermination.value().set(CONVERGENCE);
+
+        TaylorDegree taylorDegree = TaylorDegree.report("sin", 7, true);
+
+        assertSame(taylorDegree, TaylorDegree.getLast().orElseThrow());
+        assertEquals("sin: degree 7 (converged)", taylorDegree.toString());
+    }
+
+    private static Stream<Arguments> factorialSeries() {
+        return Stream.of(
+                Arguments.of(CONVERGENCE, RationalNumber.ZERO, 0, true),
+                Arguments.of(CONVERGENCE, RationalNumber.valueOf(1, 2), 5, true),
+                Arguments.of(CONVERGENCE, RationalNumber.valueOf(-1, 2), 5, true),
+                Arguments.of(CONVERGENCE, RationalNumber.valueOf(10), 20, false),
+                Arguments.of(FIXED, RationalNumber.valueOf(1, 2), 20, true),
+                Arguments.of(FIXED, RationalNumber.valueOf(10), 20, false)
+        );
+    }
+
+    private static Stream<Arguments> logarithmicSeries() {
+        return Stream.of(
+                Arguments.of(CONVERGENCE, RationalNumber.ZERO, 0, true),
+                Arguments.of(CONVERGENCE, RationalNumber.valueOf(1, 2), 4, true),
+                Arguments.of(CONVERGENCE, RationalNumber.valueOf(-1, 2), 4, true),
+                Arguments.of(CONVERGENCE, RationalNumber.ONE, 20, false),
+                Arguments.of(FIXED, RationalNumber.valueOf(1, 2), 20, true)
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RoundingMode;
+import nl.smith.mathematics.util.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.Scale;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal.BigDecimalLogarithmicFunctions} (sqrt and root)
+ */
+public class BigDecimalLogarithmicFunctionsTest {
+
+    private final BigDecimalLogarithmicFunctions logarithmicFunctions = new BigDecimalLogarithmicFunctions();
+
+    @BeforeEach
+    void setRoundingMode() {
+        RoundingMode.value().set(RoundingMode.PredefinedType.CEILING);
+    }
+
+    @AfterEach
+    void resetConfiguration() {
+        ThreadContext.clear();
+    }
+
+    @ParameterizedTest
+    @MethodSource("squareRoots")
+    void sqrt(String number, int scale, String expectedRoot) {
+        Scale.value().set(scale);
+
+        BigDecimal root = logarithmicFunctions.sqrt(new BigDecimal(number));
+
+        assertEquals(new BigDecimal(expectedRoot), root);
+        assertRoundedUp(new BigDecimal(number), 2, root);
+    }
+
+    @ParameterizedTest
+    @MethodSource("roots")
+    void root(String number, int n, int scale, String expectedRoot) {
+        Scale.value().set(scale);
+
+        BigDecimal root = logarithmicFunctions.root(new BigDecimal(number), BigDecimal.valueOf(n));
+
+        assertEquals(new BigDecimal(expectedRoot), root);
+        if (n > 1) {
+            assertRoundedUp(new BigDecimal(number), n, root);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("precision")
+    void rootUsingLargeScale(String number, int n) {
+        Scale.value().set(200);
+
+        BigDecimal root = logarithmicFunctions.root(new BigDecimal(number), BigDecimal.valueOf(n));
+
+        assertEquals(200, root.scale());
+        assertRoundedUp(new BigDecimal(number), n, root);
+    }
+
+    @Test
+    void rootUsingIllegalArguments() {
+        Exception exception = assertThrows(ArithmeticException.class, () -> logarithmicFunctions.root(new BigDecimal(-4), BigDecimal.valueOf(2)));
+        assertEquals("Can not determine the root of degree 2 of a negative number (-4)", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> logarithmicFunctions.root(new BigDecimal(4), BigDecimal.ZERO));
+        assertEquals("The degree of a root must be positive (0)", exception.getMessage());
+    }
+
+    /**
+     * Asserts the root is the smallest number (using the scale of the root) for which root^n &gt;= number (rounding mode CEILING).
+     */
+    private static void assertRoundedUp(BigDecimal number, int n, BigDecimal root) {
+        if (number.signum() == 0) {
+            assertEquals(0, root.signum());
+            return;
+        }
+
+        assertTrue(root.pow(n).compareTo(number) >= 0);
+        assertTrue(root.subtract(root.ulp()).pow(n).compareTo(number) < 0);
+    }
+
+    private static Stream<Arguments> squareRoots() {
+        return Stream.of(
+                Arguments.of("0", 5, "0.00000"),
+                Arguments.of("2", 0, "2"),
+                Arguments.of("2", 10, "1.4142135624"),
+                Arguments.of("2", 50, "1.41421356237309504880168872420969807856967187537695"),
+                Arguments.of("2.25", 2, "1.50"),
+                Arguments.of("2.25", 20, "1.50000000000000000000"),
+                Arguments.of("0.0000007", 20, "0.00083666002653407555"),
+                Arguments.of("123456789012345678901234567890", 10, "351364182882014.4253111223")
+        );
+    }
+
+    private static Stream<Arguments> roots() {
+        return Stream.of(
+                Arguments.of("3", 1, 4, "3.0000"),
+                Arguments.of("-8", 3, 3, "-2.000"),
+                Arguments.of("-0.125", 3, 5, "-0.50000"),
+                // Note: Rounding mode CEILING rounds a negative root towards zero
+                Arguments.of("-2", 3, 10, "-1.2599210498"),
+                Arguments.of("0.001", 3, 10, "0.1000000000"),
+                Arguments.of("0.5", 5, 30, "0.870550563296124139136270017480"),
+                Arguments.of("1024", 10, 8, "2.00000000"),
+                Arguments.of("1E100", 7, 5, "193069772888325.01671"),
+                Arguments.of("1E-30", 3, 40, "0.0000000001000000000000000000000000000000")
+        );
+    }
+
+    private static Stream<Arguments> precision() {
+        return Stream.of(
+                Arguments.of("2", 2),
+                Arguments.of("0.3", 2),
+                Arguments.of("-7E-20", 5),
+                Arguments.of("1000000.000001", 3),
+                Arguments.of("123456789.123456789", 17)
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.stream.Stream;
+
+import static nl.smith.mathematics.mathematicalfunctions.implementation.MathematicalConstant.EULER;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.mathematicalfunctions.implementation.bigdecimal.EulerPowers}
+ */
+public class EulerPowersTest {
+
+    @ParameterizedTest
+    @MethodSource("powers")
+    void pow(int exponent, int precision, String expectedPower) {
+        BigDecimal power = EulerPowers.pow(exponent, precision);
+
+        assertEquals(new BigDecimal(expectedPower), power);
+    }
+
+    @Test
+    void powUsingLargeExponent() {
+        BigDecimal power = EulerPowers.pow(1000, 100);
+
+        assertEquals(EULER.valueOf(120).pow(1000, new MathContext(120)).round(new MathContext(100)), power);
+    }
+
+    @Test
+    void powUsingNegativeExponent() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> EulerPowers.pow(-1, 10));
+        assertEquals("The exponent must not be negative (-1)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> powers() {
+        return Stream.of(
+                Arguments.of(0, 10, "1"),
+                Arguments.of(1, 20, "2.7182818284590452354"),
+                Arguments.of(2, 30, "7.38905609893065022723042746058"),
+                Arguments.of(10, 30, "22026.4657948067165169579006453"),
+                Arguments.of(100, 50, "26881171418161354484126255515800135873611118.773742")
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.NewtonRoot}
+ */
+public class NewtonRootTest {
+
+    private static final RationalNumber MAX_ERROR = RationalNumber.valueOf(1, 1000);
+
+    @ParameterizedTest
+    @MethodSource("roots")
+    void root(RationalNumber number, int n, RationalNumber expectedRoot) {
+        RationalNumber root = NewtonRoot.root(number, n, MAX_ERROR);
+
+        assertEquals(expectedRoot, root);
+    }
+
+    @ParameterizedTest
+    @MethodSource("precision")
+    void rootUsingSmallMaximumError(RationalNumber number, int n) {
+        RationalNumber maxError = new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(100));
+
+        RationalNumber root = NewtonRoot.root(number, n, maxError);
+
+        // Note: |root^n - number| is about n root^(n - 1) times the error of the root
+        RationalNumber bound = maxError.multiply(n).multiply(root.abs().add(RationalNumber.ONE).pow(n - 1));
+        assertTrue(root.pow(n).subtract(number).abs().compareTo(bound) <= 0);
+    }
+
+    @Test
+    void rootUsingIllegalArguments() {
+        Exception exception = assertThrows(ArithmeticException.class, () -> NewtonRoot.root(RationalNumber.valueOf(-4), 2, MAX_ERROR));
+        // Note: The number is formatted according to the configured output type
+        assertEquals(String.format("Can not determine the root of degree 2 of a negative number (%s)", RationalNumber.valueOf(-4)), exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> NewtonRoot.root(RationalNumber.valueOf(4), 0, MAX_ERROR));
+        assertEquals("The degree of a root must be positive (0)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> roots() {
+        return Stream.of(
+                Arguments.of(RationalNumber.ZERO, 2, RationalNumber.ZERO),
+                Arguments.of(RationalNumber.valueOf(5), 1, RationalNumber.valueOf(5)),
+                Arguments.of(RationalNumber.valueOf(9, 4), 2, RationalNumber.valueOf(3, 2)),
+                Arguments.of(RationalNumber.valueOf(-27, 8), 3, RationalNumber.valueOf(-3, 2)),
+                Arguments.of(new RationalNumber(BigInteger.valueOf(3).pow(100), BigInteger.TWO.pow(100)), 4, new RationalNumber(BigInteger.valueOf(3).pow(25), BigInteger.TWO.pow(25))),
+                Arguments.of(RationalNumber.valueOf(2), 2, RationalNumber.valueOf(41, 29)),
+                Arguments.of(RationalNumber.valueOf(1, 2), 2, RationalNumber.valueOf(29, 41)),
+                Arguments.of(RationalNumber.valueOf(1, 3), 2, RationalNumber.valueOf(15, 26)),
+                Arguments.of(RationalNumber.valueOf(-2), 3, RationalNumber.valueOf(-29, 23))
+        );
+    }
+
+    private static Stream<Arguments> precision() {
+        return Stream.of(
+                Arguments.of(RationalNumber.valueOf(2), 2),
+                Arguments.of(RationalNumber.valueOf(1, 3), 2),
+                Arguments.of(RationalNumber.valueOf(1000000), 3),
+                Arguments.of(RationalNumber.valueOf(-7, 10000), 5),
+                Arguments.of(RationalNumber.valueOf(123456789, 1000), 17)
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberStatisticalFunctions}
+ */
+public class RationalNumberStatisticalFunctionsTest {
+
+    private final RationalNumberStatisticalFunctions statisticalFunctions = new RationalNumberStatisticalFunctions();
+
+    @Test
+    void averageAndDeviationUsingStream() {
+        assertEquals(new RationalNumber(13, 8), statisticalFunctions.average(numbers()));
+        assertEquals(new RationalNumber(59, 64), statisticalFunctions.deviation(numbers()));
+        assertEquals(new RationalNumber(59, 64), statisticalFunctions.deviation(numbers().parallel()));
+    }
+
+    @Test
+    void averageAndDeviationUsingNoNumbers() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> statisticalFunctions.average(Stream.empty()));
+        assertEquals("At least one number must be specified", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> statisticalFunctions.deviation(Stream.empty()));
+        assertEquals("At least one number must be specified", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> statisticalFunctions.average(new RationalNumber[0]));
+        assertEquals("At least one number must be specified", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> statisticalFunctions.deviation(new RationalNumber[0]));
+        assertEquals("At least one number must be specified", exception.getMessage());
+    }
+
+    private static Stream<RationalNumber> numbers() {
+        return Stream.of(new RationalNumber(1), new RationalNumber(2), new RationalNumber(3), new RationalNumber(1, 2));
+    }
+}
@@ -0,0 +1,88 @@
+package nl.smith.mathematics.numbertype;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.numbertype.DecimalExpansion}
+ */
+public class DecimalExpansionTest {
+
+    @ParameterizedTest
+    @MethodSource("decimalExpansion")
+    void decimalExpansion(long numerator, long denominator, int expectedPreperiodLength, long expectedPeriodLength, String expectedExact, String expectedTruncated) throws IOException {
+        DecimalExpansion decimalExpansion = new DecimalExpansion(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+
+        assertEquals(expectedPreperiodLength, decimalExpansion.getPreperiodLength());
+        assertEquals(expectedPeriodLength, decimalExpansion.getPeriodLength());
+        assertEquals(expectedPeriodLength == 0, decimalExpansion.isTerminating());
+
+        StringBuilder exact = new StringBuilder();
+        StringBuilder truncated = new StringBuilder();
+        decimalExpansion.write(exact, truncated, 10);
+
+        assertEquals(expectedExact, exact.toString());
+        assertEquals(expectedTruncated, truncated.toString());
+    }
+
+    @Test
+    void decimalExpansionUsingLargeDenominator() throws IOException {
+        // Note: The period of 1/(10^150 + 7) is far too long to be determined by storing remainders
+        BigInteger denominator = BigInteger.TEN.pow(150).add(BigInteger.valueOf(7));
+        DecimalExpansion decimalExpansion = new DecimalExpansion(BigInteger.ONE, denominator);
+
+        StringBuilder truncated = new StringBuilder();
+        decimalExpansion.write(null, truncated, 160);
+
+        assertEquals(0, decimalExpansion.getPreperiodLength());
+        assertEquals("0." + "0".repeat(150) + "9999999999", truncated.toString());
+    }
+
+    @Test
+    void decimalExpansionUsingBigIntegerDenominator() throws IOException {
+        BigInteger denominator = BigInteger.TWO.pow(70).multiply(BigInteger.valueOf(21));
+        DecimalExpansion decimalExpansion = new DecimalExpansion(BigInteger.valueOf(5), denominator);
+
+        StringBuilder exact = new StringBuilder();
+        decimalExpansion.write(exact, null, 0);
+
+        assertEquals(70, decimalExpansion.getPreperiodLength());
+        assertEquals(6, decimalExpansion.getPeriodLength());
+        assertEquals(new RationalNumber(BigInteger.valueOf(5), denominator).toStringExact(), exact.toString());
+        assertEquals(decimalExpansion.getPeriodLength() + decimalExpansion.getPreperiodLength() + "0.[]R".length(), exact.length());
+    }
+
+    @Test
+    void constructorUsingIllegalArguments() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new DecimalExpansion(BigInteger.ONE, null));
+        assertEquals("Both numerator and denominator must be specified (not be null)", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> new DecimalExpansion(BigInteger.ONE.negate(), BigInteger.TWO));
+        assertEquals("A non negative numerator and a positive denominator must be specified (-1/2)", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> new DecimalExpansion(BigInteger.ONE, BigInteger.ZERO));
+        assertEquals("A non negative numerator and a positive denominator must be specified (1/0)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> decimalExpansion() {
+        return Stream.of(
+                Arguments.of(0, 3, 0, 0, "0", "0"),
+                Arguments.of(4, 2, 0, 0, "2", "2"),
+                Arguments.of(1, 8, 3, 0, "0.125", "0.125"),
+                Arguments.of(1, 3, 0, 1, "0.[3]R", "0.3333333333"),
+                Arguments.of(2, 12, 1, 1, "0.1[6]R", "0.1666666666"),
+                Arguments.of(22, 7, 0, 6, "3.[142857]R", "3.1428571428"),
+                Arguments.of(1, 98, 1, 42, "0.0[102040816326530612244897959183673469387755]R", "0.0102040816"),
+                Arguments.of(1, 1024, 10, 0, "0.0009765625", "0.0009765625"),
+                Arguments.of(1, 2048, 11, 0, "0.00048828125", "0.0004882812")
+        );
+    }
+}
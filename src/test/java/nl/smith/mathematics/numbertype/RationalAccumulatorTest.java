@@ -0,0 +1,155 @@
+package nl.smith.mathematics.numbertype;
+
+import nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.NO;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.YES;
+import static nl.smith.mathematics.numbertype.RationalNumber.ONE;
+import static nl.smith.mathematics.numbertype.RationalNumber.ZERO;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.numbertype.RationalAccumulator}
+ */
+public class RationalAccumulatorTest {
+
+    @ParameterizedTest
+    @MethodSource("operationsUsingRationalNumbers")
+    void operationsUsingRationalNumbers(RationalNumber initialValue, RationalNumber operand) {
+        RationalNumberNormalize.value().set(NO);
+
+        assertEquals(initialValue.add(operand), new RationalAccumulator(initialValue).add(operand).toRationalNumber());
+        assertEquals(initialValue.subtract(operand), new RationalAccumulator(initialValue).subtract(operand).toRationalNumber());
+        assertEquals(initialValue.multiply(operand), new RationalAccumulator(initialValue).multiply(operand).toRationalNumber());
+        assertEquals(initialValue.divide(operand), new RationalAccumulator(initialValue).divide(operand).toRationalNumber());
+        assertEquals(initialValue.negate(), new RationalAccumulator(initialValue).negate().toRationalNumber());
+        assertEquals(initialValue.multiply(operand).add(initialValue), new RationalAccumulator(initialValue).multiplyAdd(operand, initialValue).toRationalNumber());
+        assertEquals(initialValue.multiply(initialValue).add(operand), new RationalAccumulator(initialValue).multiplyAdd(initialValue, operand).toRationalNumber());
+    }
+
+    @Test
+    void operationsUsingRationalAccumulators() {
+        RationalNumberNormalize.value().set(NO);
+        RationalAccumulator accumulator = new RationalAccumulator(new RationalNumber(1, 3));
+
+        accumulator.add(accumulator).multiply(accumulator).subtract(new RationalAccumulator(ONE)).divide(new RationalAccumulator(new RationalNumber(-1, 9)));
+
+        assertEquals(new RationalNumber(5), accumulator.toRationalNumber());
+        assertEquals(1, accumulator.signum());
+    }
+
+    @Test
+    void fusedOperations() {
+        RationalNumberNormalize.value().set(NO);
+        RationalAccumulator accumulator = new RationalAccumulator(new RationalNumber(1, 2));
+
+        accumulator.multiplyAdd(new RationalNumber(2, 3), new RationalNumber(1, 6));
+        assertEquals(new RationalNumber(1, 2), accumulator.toRationalNumber());
+
+        accumulator.multiplyDivide(-3, 4);
+        assertEquals(new RationalNumber(-3, 8), accumulator.toRationalNumber());
+
+        accumulator.addProduct(new RationalNumber(3, 4), new RationalNumber(1, 2));
+        assertEquals(ZERO, accumulator.toRationalNumber());
+
+        accumulator.addSquare(new RationalAccumulator(new RationalNumber(-2, 3)));
+        assertEquals(new RationalNumber(4, 9), accumulator.toRationalNumber());
+    }
+
+    @Test
+    void sumExceedingLongRange() {
+        RationalNumberNormalize.value().set(NO);
+        RationalAccumulator accumulator = new RationalAccumulator();
+        RationalNumber expected = ZERO;
+        for (int i = 0; i < 10; i++) {
+            accumulator.add(Long.MAX_VALUE);
+            expected = expected.add(Long.MAX_VALUE);
+        }
+
+        assertEquals(expected, accumulator.toRationalNumber());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN), accumulator.getNumerator());
+    }
+
+    @Test
+    void deferredReduction() {
+        RationalNumberNormalize.value().set(NO);
+        RationalAccumulator accumulator = new RationalAccumulator(ONE, -1);
+        for (int i = 0; i < 100; i++) {
+            accumulator.multiply(new RationalNumber(2, 2));
+        }
+
+        assertEquals(BigInteger.TWO.pow(100), accumulator.getDenominator());
+
+        accumulator.reduce();
+        assertEquals(BigInteger.ONE, accumulator.getDenominator());
+    }
+
+    @Test
+    void reductionThreshold() {
+        RationalNumberNormalize.value().set(NO);
+        RationalAccumulator accumulator = new RationalAccumulator(ONE, 128);
+        for (int i = 0; i < 100; i++) {
+            accumulator.multiply(new RationalNumber(2, 2));
+        }
+
+        assertTrue(accumulator.getNumerator().bitLength() + accumulator.getDenominator().bitLength() <= 128);
+        assertEquals(ONE, accumulator.toRationalNumber());
+    }
+
+    @Test
+    void approximate() {
+        RationalNumberNormalize.value().set(NO);
+        RationalAccumulator accumulator = new RationalAccumulator(new RationalNumber(314159, 100000));
+
+        accumulator.approximate(new RationalNumber(1, 100));
+
+        assertEquals(BigInteger.valueOf(22), accumulator.getNumerator());
+        assertEquals(BigInteger.valueOf(7), accumulator.getDenominator());
+    }
+
+    @Test
+    void toRationalNumberUsingNormalization() {
+        RationalNumberNormalize.value().set(YES);
+        RationalNumber rationalNumber = new RationalAccumulator(new RationalNumber(1, 2)).add(new RationalNumber(1, 6)).toRationalNumber();
+        RationalNumberNormalize.value().set(NO);
+
+        assertEquals(BigInteger.TWO, rationalNumber.getNumerator());
+        assertEquals(BigInteger.valueOf(3), rationalNumber.getDenominator());
+    }
+
+    @Test
+    void divideByZero() {
+        Exception exception = assertThrows(ArithmeticException.class, () -> new RationalAccumulator(ONE).divide(0));
+        assertEquals("Division by zero", exception.getMessage());
+
+        exception = assertThrows(ArithmeticException.class, () -> new RationalAccumulator(ONE).divide(ZERO));
+        assertEquals("Division by zero", exception.getMessage());
+    }
+
+    @Test
+    void setUsingNull() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new RationalAccumulator(null));
+        assertEquals("A rational number must be specified (not be null)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> operationsUsingRationalNumbers() {
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).pow(2);
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(1, 2), new RationalNumber(1, 3)),
+                Arguments.of(new RationalNumber(1, 2), new RationalNumber(-5, 2)),
+                Arguments.of(new RationalNumber(-7), new RationalNumber(3)),
+                Arguments.of(new RationalNumber(Long.MAX_VALUE, 3), new RationalNumber(Long.MAX_VALUE, 5)),
+                Arguments.of(new RationalNumber(Long.MIN_VALUE), new RationalNumber(-1)),
+                Arguments.of(new RationalNumber(big, BigInteger.valueOf(7)), new RationalNumber(3, 4)),
+                Arguments.of(new RationalNumber(2, 3), new RationalNumber(big.negate(), big.add(BigInteger.ONE)))
+        );
+    }
+}
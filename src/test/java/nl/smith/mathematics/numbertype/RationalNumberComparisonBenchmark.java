@@ -0,0 +1,85 @@
+package nl.smith.mathematics.numbertype;
+
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberAuxiliaryFunctions;
+import nl.smith.mathematics.mathematicalfunctions.implementation.rationalnumber.RationalNumberLogarithmicFunctions;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Micro benchmark (not a unit test) comparing the tiered {@link RationalNumber#compareTo(RationalNumber)} with plain cross multiplication
+ * and timing the function containers which compare in their loops.
+ * <p>
+ * Run using: java -cp target/classes:target/test-classes nl.smith.mathematics.numbertype.RationalNumberComparisonBenchmark
+ */
+public class RationalNumberComparisonBenchmark {
+
+    private static final int WARM_UP_ROUNDS = 5;
+
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        RationalNumber[] numbers = getRandomRationalNumbers(10_000);
+
+        benchmark("compareTo (cross multiplication)", () -> {
+            int result = 0;
+            for (int i = 1; i < numbers.length; i++) {
+                RationalNumber x = numbers[i - 1];
+                RationalNumber y = numbers[i];
+                result += x.getNumerator().multiply(y.getDenominator()).compareTo(y.getNumerator().multiply(x.getDenominator()));
+            }
+            return result;
+        });
+
+        benchmark("compareTo (tiered)", () -> {
+            int result = 0;
+            for (int i = 1; i < numbers.length; i++) {
+                result += numbers[i - 1].compareTo(numbers[i]);
+            }
+            return result;
+        });
+
+        benchmark("compareTo(long)", () -> {
+            int result = 0;
+            for (RationalNumber number : numbers) {
+                result += number.compareTo(1);
+            }
+            return result;
+        });
+
+        RationalNumberAuxiliaryFunctions auxiliaryFunctions = new RationalNumberAuxiliaryFunctions();
+        benchmark("faculty(500)", () -> auxiliaryFunctions.faculty(new RationalNumber(500)));
+
+        RationalNumberLogarithmicFunctions logarithmicFunctions = new RationalNumberLogarithmicFunctions();
+        benchmark("power(3/2, 40)", () -> logarithmicFunctions.power(new RationalNumber(3, 2), new RationalNumber(40)));
+        benchmark("ln(12345/7)", () -> logarithmicFunctions.ln(new RationalNumber(12345, 7)));
+    }
+
+    private static RationalNumber[] getRandomRationalNumbers(int size) {
+        Random random = new Random(1);
+        RationalNumber[] numbers = new RationalNumber[size];
+        for (int i = 0; i < size; i++) {
+            BigInteger numerator = new BigInteger(64 + random.nextInt(512), random);
+            BigInteger denominator = new BigInteger(64 + random.nextInt(512), random).add(BigInteger.ONE);
+            numbers[i] = new RationalNumber(random.nextBoolean() ? numerator : numerator.negate(), denominator);
+        }
+
+        return numbers;
+    }
+
+    private static void benchmark(String description, Supplier<Object> task) {
+        Object blackHole = null;
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            blackHole = task.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            blackHole = task.get();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%-40s %12.3f ms/round (%s)%n", description, elapsed / 1e6 / MEASURED_ROUNDS, blackHole.hashCode());
+    }
+}
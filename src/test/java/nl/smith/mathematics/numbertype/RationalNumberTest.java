@@ -9,10 +9,16 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.ADAPTIVE;
 import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.NO;
+import static nl.smith.mathematics.configuration.constant.EnumConstantConfiguration.RationalNumberNormalize.PredefinedType.YES;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.NormalizationThreshold;
 import static nl.smith.mathematics.numbertype.RationalNumber.ONE;
 import static nl.smith.mathematics.numbertype.RationalNumber.ZERO;
 import static org.junit.jupiter.api.Assertions.*;
@@ -91,6 +97,27 @@ public class RationalNumberTest {
         }
     }
 
+    @Test
+    void constructorUsingAdaptiveNormalization() {
+        RationalNumberNormalize.value().set(ADAPTIVE);
+        NormalizationThreshold.value().set(16);
+
+        RationalNumber rationalNumber = new RationalNumber(2, 10);
+        assertEquals(BigInteger.valueOf(2), rationalNumber.getNumerator());
+        assertEquals(BigInteger.TEN, rationalNumber.getDenominator());
+
+        rationalNumber = new RationalNumber(1 << 20, 3 << 20);
+        assertEquals(BigInteger.ONE, rationalNumber.getNumerator());
+        assertEquals(BigInteger.valueOf(3), rationalNumber.getDenominator());
+
+        rationalNumber = new RationalNumber(BigInteger.TWO.pow(100), BigInteger.TWO.pow(101).negate());
+        assertEquals(BigInteger.ONE.negate(), rationalNumber.getNumerator());
+        assertEquals(BigInteger.TWO, rationalNumber.getDenominator());
+
+        NormalizationThreshold.value().set(null);
+        RationalNumberNormalize.value().set(NO);
+    }
+
     @Test
     void constructorUsingBigIntegersDenominatorZero() {
         Exception exception = assertThrows(ArithmeticException.class, () -> new RationalNumber(BigInteger.valueOf(2), BigInteger.valueOf(0)));
@@ -274,6 +301,20 @@ public class RationalNumberTest {
         assertEquals(expectedResult, result);
     }
 
+    @ParameterizedTest
+    @MethodSource("pow")
+    void pow(RationalNumber rationalNumber, int exponent, RationalNumber expectedResult) {
+        RationalNumber result = rationalNumber.pow(exponent);
+
+        assertEquals(expectedResult, result);
+    }
+
+    @Test
+    void powUsingZeroAndNegativeExponent() {
+        Exception exception = assertThrows(ArithmeticException.class, () -> ZERO.pow(-1));
+        assertEquals("Division by zero", exception.getMessage());
+    }
+
     @Test
     void equalsCompareWithNull() {
         RationalNumber rationalNumber = new RationalNumber(2, 3);
@@ -296,6 +337,119 @@ public class RationalNumberTest {
         assertEquals(rationalNumber, otherRationalNumber);
     }
 
+    @ParameterizedTest
+    @MethodSource("fusedOperations")
+    void fusedOperations(RationalNumber rationalNumber, RationalNumber multiplicand, RationalNumber augend) {
+        RationalNumberNormalize.value().set(NO);
+
+        assertEquals(rationalNumber.multiply(multiplicand).add(augend), rationalNumber.multiplyAdd(multiplicand, augend));
+        assertEquals(rationalNumber.multiply(Long.MAX_VALUE).divide(-3), rationalNumber.multiplyDivide(Long.MAX_VALUE, -3));
+        assertEquals(rationalNumber.add(multiplicand.multiply(augend)).add(augend.multiply(augend)),
+                rationalNumber.dot(new RationalNumber[]{multiplicand, augend}, new RationalNumber[]{augend, augend}));
+    }
+
+    @Test
+    void fusedOperationsUsingIllegalArguments() {
+        Exception exception = assertThrows(ArithmeticException.class, () -> ONE.multiplyDivide(1, 0));
+        assertEquals("Division by zero", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> ONE.dot(new RationalNumber[]{ONE}, new RationalNumber[0]));
+        assertEquals("The number of multiplicands (1) differs from the number of multiplicators (0)", exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @MethodSource("floatingPointValues")
+    void floatingPointValues(RationalNumber rationalNumber) {
+        BigDecimal reference = new BigDecimal(rationalNumber.getNumerator()).divide(new BigDecimal(rationalNumber.getDenominator()), new MathContext(1200));
+
+        assertEquals(reference.doubleValue(), rationalNumber.doubleValue());
+        assertEquals(reference.floatValue(), rationalNumber.floatValue());
+    }
+
+    @Test
+    void floatingPointValuesUsingExtremes() {
+        BigInteger two = BigInteger.TWO;
+
+        assertEquals(Double.MIN_VALUE, new RationalNumber(BigInteger.ONE, two.pow(1074)).doubleValue());
+        assertEquals(Double.MIN_VALUE, new RationalNumber(BigInteger.valueOf(3), two.pow(1076)).doubleValue());
+        assertEquals(0.0, new RationalNumber(BigInteger.ONE, two.pow(1075)).doubleValue());
+        assertEquals(-0.0, new RationalNumber(BigInteger.ONE.negate(), two.pow(1076)).doubleValue());
+        assertEquals(Double.POSITIVE_INFINITY, new RationalNumber(two.pow(1024)).doubleValue());
+        assertEquals(Float.MIN_VALUE, new RationalNumber(BigInteger.ONE, two.pow(149)).floatValue());
+        assertEquals(Float.NEGATIVE_INFINITY, new RationalNumber(two.pow(128).negate()).floatValue());
+        assertEquals(0.0, ZERO.doubleValue());
+    }
+
+    @Test
+    void toBigDecimal() {
+        assertEquals(new BigDecimal("0.33333"), new RationalNumber(1, 3).toBigDecimal(new MathContext(5)));
+        assertEquals(new BigDecimal("-0.6667"), new RationalNumber(-2, 3).toBigDecimal(new MathContext(4, java.math.RoundingMode.HALF_EVEN)));
+        assertEquals(new BigDecimal("0.125"), new RationalNumber(1, 8).toBigDecimal(MathContext.UNLIMITED));
+        assertEquals(new BigDecimal("3.333333333333333E-31"), new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(30).multiply(BigInteger.valueOf(3))).toBigDecimal(MathContext.DECIMAL64));
+
+        assertThrows(ArithmeticException.class, () -> new RationalNumber(1, 3).toBigDecimal(MathContext.UNLIMITED));
+    }
+
+    @ParameterizedTest
+    @MethodSource("compareTo")
+    void compareTo(RationalNumber rationalNumber, RationalNumber other, int expectedResult) {
+        assertEquals(expectedResult, rationalNumber.compareTo(other));
+        assertEquals(-expectedResult, other.compareTo(rationalNumber));
+        assertEquals(expectedResult == 0, rationalNumber.equals(other));
+    }
+
+    @ParameterizedTest
+    @MethodSource("compareToUsingLong")
+    void compareToUsingLong(RationalNumber rationalNumber, long value, int expectedResult) {
+        assertEquals(expectedResult, rationalNumber.compareTo(value));
+        assertEquals(expectedResult, rationalNumber.compareTo(new RationalNumber(value)));
+    }
+
+    @Test
+    void hashCodeUsingEqualRationalNumbers() {
+        RationalNumberNormalize.value().set(NO);
+        RationalNumber rationalNumber = new RationalNumber(2, 3);
+
+        assertEquals(rationalNumber.hashCode(), new RationalNumber(20, 30).hashCode());
+        assertEquals(rationalNumber.hashCode(), new RationalNumber(-20, -30).hashCode());
+        assertEquals(rationalNumber.hashCode(), new RationalNumber(BigInteger.TWO.multiply(BigInteger.TEN.pow(30)), BigInteger.valueOf(3).multiply(BigInteger.TEN.pow(30))).hashCode());
+        assertEquals(ZERO.hashCode(), new RationalNumber(0, 7).hashCode());
+        assertNotEquals(rationalNumber.hashCode(), rationalNumber.negate().hashCode());
+    }
+
+    @Test
+    void valueOfUsingLongs() {
+        RationalNumberNormalize.value().set(NO);
+
+        assertSame(ONE, RationalNumber.valueOf(1));
+        assertSame(ZERO, RationalNumber.valueOf(0));
+        assertSame(RationalNumber.valueOf(-1024), RationalNumber.valueOf(1024, -1));
+        assertSame(RationalNumber.valueOf(1, 2), RationalNumber.valueOf(-1, -2));
+        assertEquals(BigInteger.valueOf(2), RationalNumber.valueOf(2, 4).getNumerator());
+        assertEquals(BigInteger.valueOf(4), RationalNumber.valueOf(2, 4).getDenominator());
+        assertEquals(new RationalNumber(1025, 3), RationalNumber.valueOf(1025, 3));
+        assertEquals(new RationalNumber(Long.MIN_VALUE, -1), RationalNumber.valueOf(Long.MIN_VALUE, -1));
+
+        RationalNumberNormalize.value().set(YES);
+        assertSame(RationalNumber.valueOf(1, 2), RationalNumber.valueOf(2, 4));
+        assertSame(RationalNumber.valueOf(3), RationalNumber.valueOf(-6, -2));
+        RationalNumberNormalize.value().set(NO);
+
+        Exception exception = assertThrows(ArithmeticException.class, () -> RationalNumber.valueOf(1, 0));
+        assertEquals("Division by zero", exception.getMessage());
+    }
+
+    @Test
+    void valueOfUsingBigDecimal() {
+        assertEquals(new RationalNumber(-5, 4), RationalNumber.valueOf(new BigDecimal("-1.25")));
+        assertEquals(new RationalNumber(1200), RationalNumber.valueOf(new BigDecimal("1.2E3")));
+        assertEquals(ZERO, RationalNumber.valueOf(BigDecimal.ZERO));
+        assertEquals(new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(40)), RationalNumber.valueOf(new BigDecimal("1E-40")));
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> RationalNumber.valueOf((BigDecimal) null));
+        assertEquals("A big decimal must be specified (not be null)", exception.getMessage());
+    }
+
     @ParameterizedTest
     @MethodSource("divideAndRemainder")
     void divideAndRemainder(RationalNumber number, RationalNumber divisor, RationalNumber integerValue, RationalNumber remainder) {
@@ -304,6 +458,179 @@ public class RationalNumberTest {
         assertEquals(remainder, divideAndRemainder[1]);
     }
 
+    @ParameterizedTest
+    @MethodSource("arithmeticExceedingLongRange")
+    void arithmeticExceedingLongRange(RationalNumber result, BigInteger expectedNumerator, BigInteger expectedDenominator) {
+        assertEquals(new RationalNumber(expectedNumerator, expectedDenominator), result);
+        assertEquals(expectedNumerator.multiply(result.getDenominator()), result.getNumerator().multiply(expectedDenominator));
+    }
+
+    @Test
+    void constructorUsingLongsWithMinimalLongDenominator() {
+        RationalNumberNormalize.value().set(NO);
+        RationalNumber rationalNumber = new RationalNumber(1, Long.MIN_VALUE);
+
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE).negate(), rationalNumber.getDenominator());
+        assertEquals(BigInteger.ONE.negate(), rationalNumber.getNumerator());
+    }
+
+    @ParameterizedTest
+    @MethodSource("approximate")
+    void approximate(RationalNumber rationalNumber, RationalNumber maxError, RationalNumber expectedRationalNumber) {
+        RationalNumber approximation = rationalNumber.approximate(maxError);
+
+        assertEquals(expectedRationalNumber, approximation);
+        assertEquals(expectedRationalNumber.getNormalized().getDenominator(), approximation.getDenominator());
+        assertTrue(approximation.subtract(rationalNumber).abs().compareTo(maxError) <= 0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("limitDenominator")
+    void limitDenominator(RationalNumber rationalNumber, long maxDenominator, RationalNumber expectedRationalNumber) {
+        RationalNumber limitedRationalNumber = rationalNumber.limitDenominator(BigInteger.valueOf(maxDenominator));
+
+        assertEquals(expectedRationalNumber, limitedRationalNumber);
+        assertTrue(limitedRationalNumber.getDenominator().compareTo(BigInteger.valueOf(maxDenominator)) <= 0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("convergents")
+    void convergents(RationalNumber rationalNumber, List<RationalNumber> expectedConvergents) {
+        assertEquals(expectedConvergents, rationalNumber.convergents());
+    }
+
+    @Test
+    void approximationUsingIllegalArguments() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> ONE.approximate(null));
+        assertEquals("A maximum error must be specified (not be null)", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> ONE.approximate(new RationalNumber(-1, 2)));
+        assertEquals("The maximum error must not be negative (-1/2)", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> ONE.limitDenominator(BigInteger.ZERO));
+        assertEquals("A positive maximum denominator must be specified (0)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> compareTo() {
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).pow(3);
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(1, 3), new RationalNumber(-1, 3), 1),
+                Arguments.of(ZERO, new RationalNumber(0, 5), 0),
+                Arguments.of(new RationalNumber(2, 7), new RationalNumber(3, 7), -1),
+                Arguments.of(new RationalNumber(1, 3), new RationalNumber(2, 6), 0),
+                Arguments.of(new RationalNumber(Long.MAX_VALUE, 3), new RationalNumber(Long.MAX_VALUE - 1, 3), 1),
+                Arguments.of(new RationalNumber(Long.MAX_VALUE, Long.MAX_VALUE - 1), new RationalNumber(Long.MAX_VALUE - 1, Long.MAX_VALUE - 2), -1),
+                Arguments.of(new RationalNumber(big, BigInteger.TEN), new RationalNumber(big.add(BigInteger.ONE), BigInteger.TEN), -1),
+                Arguments.of(new RationalNumber(big, BigInteger.TWO), new RationalNumber(BigInteger.ONE, big), 1),
+                Arguments.of(new RationalNumber(big.negate(), BigInteger.TWO), new RationalNumber(BigInteger.ONE.negate(), big), -1),
+                Arguments.of(new RationalNumber(big, big.add(BigInteger.ONE)), new RationalNumber(big.subtract(BigInteger.ONE), big), 1),
+                Arguments.of(new RationalNumber(big.multiply(BigInteger.TWO), big.multiply(BigInteger.valueOf(6))), new RationalNumber(1, 3), 0)
+        );
+    }
+
+    private static Stream<Arguments> approximate() {
+        RationalNumber pi = new RationalNumber(BigInteger.valueOf(3141592653589793L), BigInteger.TEN.pow(15));
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(1, 3), ZERO, new RationalNumber(1, 3)),
+                Arguments.of(new RationalNumber(314159, 100000), new RationalNumber(1, 100), new RationalNumber(22, 7)),
+                Arguments.of(new RationalNumber(-314159, 100000), new RationalNumber(1, 100), new RationalNumber(-22, 7)),
+                Arguments.of(new RationalNumber(7, 10), new RationalNumber(1, 5), new RationalNumber(1, 2)),
+                Arguments.of(new RationalNumber(1, 10), new RationalNumber(1, 5), ZERO),
+                Arguments.of(new RationalNumber(5, 2), new RationalNumber(1, 2), new RationalNumber(2)),
+                Arguments.of(pi, new RationalNumber(BigInteger.ONE, BigInteger.TEN.pow(6)), new RationalNumber(355, 113))
+        );
+    }
+
+    private static Stream<Arguments> limitDenominator() {
+        RationalNumber pi = new RationalNumber(314159265, 100000000);
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(1, 3), 10, new RationalNumber(1, 3)),
+                Arguments.of(new RationalNumber(3, 7), 2, new RationalNumber(1, 2)),
+                Arguments.of(pi, 100, new RationalNumber(311, 99)),
+                Arguments.of(pi, 1000, new RationalNumber(355, 113)),
+                Arguments.of(pi.negate(), 7, new RationalNumber(-22, 7))
+        );
+    }
+
+    private static Stream<Arguments> convergents() {
+        return Stream.of(
+                Arguments.of(ZERO, List.of(ZERO)),
+                Arguments.of(new RationalNumber(10, 2), List.of(new RationalNumber(5))),
+                Arguments.of(new RationalNumber(6, 4), List.of(ONE, new RationalNumber(3, 2))),
+                Arguments.of(new RationalNumber(314159, 100000), List.of(new RationalNumber(3), new RationalNumber(22, 7), new RationalNumber(333, 106),
+                        new RationalNumber(355, 113), new RationalNumber(9208, 2931), new RationalNumber(9563, 3044), new RationalNumber(76149, 24239), new RationalNumber(314159, 100000))),
+                Arguments.of(new RationalNumber(-7, 5), List.of(new RationalNumber(-1), new RationalNumber(-3, 2), new RationalNumber(-7, 5)))
+        );
+    }
+
+    private static Stream<Arguments> compareToUsingLong() {
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).pow(3);
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(1, 3), 0L, 1),
+                Arguments.of(new RationalNumber(-1, 3), 0L, -1),
+                Arguments.of(ZERO, 0L, 0),
+                Arguments.of(new RationalNumber(4, 2), 2L, 0),
+                Arguments.of(new RationalNumber(5, 2), 2L, 1),
+                Arguments.of(new RationalNumber(-5, 2), -2L, -1),
+                Arguments.of(new RationalNumber(Long.MAX_VALUE, 2), Long.MAX_VALUE, -1),
+                Arguments.of(new RationalNumber(Long.MIN_VALUE), Long.MIN_VALUE, 0),
+                Arguments.of(new RationalNumber(big, BigInteger.TWO), Long.MAX_VALUE, 1),
+                Arguments.of(new RationalNumber(big.negate(), BigInteger.TWO), Long.MIN_VALUE, -1),
+                Arguments.of(new RationalNumber(BigInteger.ONE, big), 1L, -1)
+        );
+    }
+
+    private static Stream<Arguments> floatingPointValues() {
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).pow(3);
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(1, 3)),
+                Arguments.of(new RationalNumber(-2, 3)),
+                Arguments.of(new RationalNumber(1, 10)),
+                Arguments.of(new RationalNumber(Long.MAX_VALUE, 3)),
+                Arguments.of(new RationalNumber(Long.MIN_VALUE, Long.MAX_VALUE)),
+                Arguments.of(new RationalNumber(big, BigInteger.valueOf(7))),
+                Arguments.of(new RationalNumber(BigInteger.valueOf(-7), big)),
+                Arguments.of(new RationalNumber(big.add(BigInteger.ONE), big))
+        );
+    }
+
+    private static Stream<Arguments> fusedOperations() {
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).pow(2);
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(1, 2), new RationalNumber(2, 3), new RationalNumber(1, 3)),
+                Arguments.of(new RationalNumber(-1, 2), new RationalNumber(1, 7), new RationalNumber(5, 14)),
+                Arguments.of(new RationalNumber(Long.MAX_VALUE, 3), new RationalNumber(Long.MAX_VALUE, 5), new RationalNumber(1, Long.MAX_VALUE)),
+                Arguments.of(new RationalNumber(big, BigInteger.TEN), new RationalNumber(3, 4), new RationalNumber(-7))
+        );
+    }
+
+    private static Stream<Arguments> arithmeticExceedingLongRange() {
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        RationalNumber maxRationalNumber = new RationalNumber(Long.MAX_VALUE);
+        RationalNumber minRationalNumber = new RationalNumber(Long.MIN_VALUE);
+
+        return Stream.of(
+                Arguments.of(maxRationalNumber.add(1), max.add(BigInteger.ONE), BigInteger.ONE),
+                Arguments.of(maxRationalNumber.add(maxRationalNumber), max.add(max), BigInteger.ONE),
+                Arguments.of(minRationalNumber.subtract(1), min.subtract(BigInteger.ONE), BigInteger.ONE),
+                Arguments.of(minRationalNumber.negate(), min.negate(), BigInteger.ONE),
+                Arguments.of(minRationalNumber.abs(), min.negate(), BigInteger.ONE),
+                Arguments.of(maxRationalNumber.multiply(maxRationalNumber), max.multiply(max), BigInteger.ONE),
+                Arguments.of(maxRationalNumber.multiply(3), max.multiply(BigInteger.valueOf(3)), BigInteger.ONE),
+                Arguments.of(ONE.divide(maxRationalNumber).divide(2), BigInteger.ONE, max.multiply(BigInteger.TWO)),
+                Arguments.of(new RationalNumber(1, Long.MAX_VALUE).add(new RationalNumber(1, Long.MAX_VALUE - 1)),
+                        max.add(max.subtract(BigInteger.ONE)), max.multiply(max.subtract(BigInteger.ONE))),
+                Arguments.of(maxRationalNumber.add(1).subtract(1), max, BigInteger.ONE)
+        );
+    }
+
     private static Stream<Arguments> constructorUsingNullBigIntegers() {
         return Stream.of(
                 Arguments.of(null, null),
@@ -544,6 +871,21 @@ public class RationalNumberTest {
         );
     }
 
+    private static Stream<Arguments> pow() {
+        return Stream.of(
+                Arguments.of(ZERO, 0, ONE),
+                Arguments.of(ZERO, 3, ZERO),
+                Arguments.of(new RationalNumber(-3, 4), 0, ONE),
+                Arguments.of(new RationalNumber(-3, 4), 1, new RationalNumber(-3, 4)),
+                Arguments.of(new RationalNumber(-3, 4), 2, new RationalNumber(9, 16)),
+                Arguments.of(new RationalNumber(-3, 4), 3, new RationalNumber(-27, 64)),
+                Arguments.of(new RationalNumber(-3, 4), -3, new RationalNumber(-64, 27)),
+                Arguments.of(new RationalNumber(2), 100, new RationalNumber(BigInteger.TWO.pow(100))),
+                Arguments.of(new RationalNumber(1, 2), -100, new RationalNumber(BigInteger.TWO.pow(100))),
+                Arguments.of(new RationalNumber(2, 3), 40, new RationalNumber(BigInteger.TWO.pow(40), BigInteger.valueOf(3).pow(40)))
+        );
+    }
+
     private static Stream<Arguments> numberString() {
         return Stream.of(
                 Arguments.of("1", new RationalNumber(1)),
@@ -1,7 +1,10 @@
 package nl.smith.mathematics.service;
 
+import nl.smith.mathematics.domain.ExpressionPlan;
 import nl.smith.mathematics.domain.RawExpression;
 import nl.smith.mathematics.exception.InValidExpressionStringException;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -12,14 +15,19 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
+import java.math.BigDecimal;
 import java.util.AbstractMap;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.CompilationThreshold;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -32,6 +40,11 @@ public class ExpressionDigestionServiceTest {
         this.expressionDigestionService = expressionDigestionService;
     }
 
+    @AfterEach
+    public void tearDown() {
+        CompilationThreshold.value().set(null);
+    }
+
     @Test
     public void exists() {
         assertNotNull(expressionDigestionService);
@@ -107,6 +120,64 @@ public class ExpressionDigestionServiceTest {
         assertEquals(length, rawExpression.getLengthWithSiblings());
     }
 
+    @ParameterizedTest
+    @MethodSource("getResult")
+    public void getResult(String text, String expectedResult) {
+        Map<String, RationalNumber> variables = new HashMap<>();
+        variables.put("x", RationalNumber.valueOf("3"));
+        variables.put("y2", RationalNumber.valueOf("0.5"));
+
+        assertEquals(RationalNumber.valueOf(expectedResult), expressionDigestionService.getResult(RationalNumber.class, text, variables));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getResult")
+    public void getResult_usingCompiledExpressionPlan(String text, String expectedResult) {
+        Map<String, RationalNumber> variables = new HashMap<>();
+        variables.put("x", RationalNumber.valueOf("3"));
+        variables.put("y2", RationalNumber.valueOf("0.5"));
+        CompilationThreshold.value().set(1);
+
+        ExpressionPlan<RationalNumber> expressionPlan = expressionDigestionService.getExpressionPlan(RationalNumber.class, text);
+        assertEquals(RationalNumber.valueOf(expectedResult), expressionPlan.evaluate(variables));
+        assertTrue(expressionPlan.isCompiled());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getResult_invalidExpression")
+    public void getResult_invalidExpression(String text, String expectedMessage) {
+        InValidExpressionStringException exception = assertThrows(InValidExpressionStringException.class, () -> expressionDigestionService.getResult(RationalNumber.class, text, null));
+
+        assertEquals(expectedMessage, exception.getSimpleMessage());
+    }
+
+    @Test
+    public void getExpressionPlan() {
+        ExpressionPlan<RationalNumber> expressionPlan = expressionDigestionService.getExpressionPlan(RationalNumber.class, "power(2, 10) + 1");
+
+        assertEquals(RationalNumber.valueOf("1025"), expressionPlan.evaluate(Collections.emptyMap()));
+        assertSame(expressionPlan, expressionDigestionService.getExpressionPlan(RationalNumber.class, "power(2, 10) + 1"));
+        assertNotSame(expressionPlan, expressionDigestionService.getExpressionPlan(BigDecimal.class, "power(2, 10) + 1"));
+    }
+
+    @Test
+    public void getExpressionPlan_usingManyTerms() {
+        Map<String, RationalNumber> variables = new HashMap<>();
+        variables.put("x", RationalNumber.valueOf("3"));
+        variables.put("y2", RationalNumber.valueOf("0.5"));
+        CompilationThreshold.value().set(2);
+        // 1 + 2 * x - y2 / 2 + (x - 1) + 2 * x - y2 / 2 + ... (5001 terms)
+        String text = IntStream.range(0, 5000).mapToObj(i -> i % 3 == 0 ? " + 2 * x" : i % 3 == 1 ? " - y2 / 2" : " + (x - 1)").collect(Collectors.joining("", "1", ""));
+
+        ExpressionPlan<RationalNumber> expressionPlan = expressionDigestionService.getExpressionPlan(RationalNumber.class, text);
+
+        // Note: 1 + 1667 * 6 - 1667 * 0.25 + 1666 * 2
+        assertEquals(RationalNumber.valueOf("12918.25"), expressionPlan.evaluate(variables));
+        assertFalse(expressionPlan.isCompiled());
+        assertEquals(RationalNumber.valueOf("12918.25"), expressionPlan.evaluate(variables));
+        assertTrue(expressionPlan.isCompiled());
+    }
+
     private static Stream<Arguments> getMatchingOpenToken() {
         return Stream.of(
                 Arguments.of(')', '(', null),
@@ -235,4 +306,36 @@ public class ExpressionDigestionServiceTest {
                 Arguments.of("(1 + 2) * (1 + 3) * {6 - 4 / (2 - 4)}, 1 + 2, 3 + 4", 51)
         );
     }
+
+    private static Stream<Arguments> getResult() {
+        return Stream.of(
+                Arguments.of("1 + 2 * 3", "7"),
+                Arguments.of("-(1 + 2) * 3", "-9"),
+                Arguments.of("{1 + 2} * (3 - 1)", "6"),
+                Arguments.of("1 - -2", "3"),
+                Arguments.of("1 - 2 - 3", "-4"),
+                Arguments.of("10 / 4 / 5", "0.5"),
+                Arguments.of("0.5 * 4", "2"),
+                Arguments.of("2 * x + y2", "6.5"),
+                Arguments.of("2 * -x", "-6"),
+                Arguments.of("power(2, 10)", "1024"),
+                Arguments.of("power(1 + 1, 2 * (1 + 1)) + 1", "17"),
+                Arguments.of("sum(1, 7, 3)", "11"),
+                Arguments.of("faculty(4) / 2", "12"),
+                Arguments.of("average(2, x * 2)", "4")
+        );
+    }
+
+    private static Stream<Arguments> getResult_invalidExpression() {
+        return Stream.of(
+                Arguments.of("1 +", format("Expected an operand before position 3.%nDid you forget to specify a number, variable, function or subexpression?")),
+                Arguments.of("* 2", format("Expected an operand at position 0.%nDid you forget to specify a number, variable, function or subexpression?")),
+                Arguments.of("1 2", format("Expected an operator at position 2.%nDid you forget to specify a binary operator?")),
+                Arguments.of("--1", format("Unexpected unary operator '-' at position 1.%nA unary operator can not follow another unary operator.")),
+                Arguments.of("foo(1)", "Unknown function foo accepting 1 argument(s) of type RationalNumber at position 0."),
+                Arguments.of("power(2)", "Unknown function power accepting 1 argument(s) of type RationalNumber at position 0."),
+                Arguments.of("1, 2", format("Multiple expressions (2) at position 0.%nOnly the arguments of a function can be separated by ','.")),
+                Arguments.of("(1, 2) + 1", format("Multiple expressions (2) at position 0.%nOnly the arguments of a function can be separated by ','."))
+        );
+    }
 }
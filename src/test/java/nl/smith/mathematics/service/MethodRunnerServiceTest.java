@@ -176,6 +176,7 @@ public class MethodRunnerServiceTest {
                 Arguments.of("nl.smith.mathematics.mathematicalfunctions.definition.LogarithmicFunctions.ln                             ---> ln(N)               FUNCTION                           (The natural logarithm of a number)"),
                 Arguments.of("nl.smith.mathematics.mathematicalfunctions.definition.GoniometricFunctions.cos                            ---> cos(N)              FUNCTION                           (The cosines of an angle)"),
                 Arguments.of("nl.smith.mathematics.mathematicalfunctions.definition.StatisticalFunctions.keyNumber                      ---> keyNumber(N, N[])   FUNCTION                           (Standard deviation of a set of numbers)"),
+                Arguments.of("nl.smith.mathematics.mathematicalfunctions.definition.LogarithmicFunctions.root                           ---> root(N, N)          FUNCTION                           (The nth root of a number)"),
                 Arguments.of("nl.smith.mathematics.mathematicalfunctions.definition.LogarithmicFunctions.sqrt                           ---> sqrt(N)             FUNCTION                           (The square root of a number)"),
                 Arguments.of("nl.smith.mathematics.mathematicalfunctions.definition.StatisticalFunctions.average                        ---> average(N[])        FUNCTION                           (Average of a set of numbers)")
         );
@@ -0,0 +1,70 @@
+package nl.smith.mathematics.util;
+
+import nl.smith.mathematics.numbertype.RationalAccumulator;
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * System under test: {@link nl.smith.mathematics.util.BinarySplittingSeries}
+ */
+public class BinarySplittingSeriesTest {
+
+    /** Series of e: T(k) = T(k - 1) / k */
+    private static final BinarySplittingSeries EULER = new BinarySplittingSeries(k -> BigInteger.ONE, BigInteger::valueOf);
+
+    /** Geometric series: T(k) = T(k - 1) * -1 / 2 */
+    private static final BinarySplittingSeries GEOMETRIC = new BinarySplittingSeries(k -> BigInteger.ONE.negate(), k -> BigInteger.TWO);
+
+    @ParameterizedTest
+    @MethodSource("sums")
+    void sum(BinarySplittingSeries series, long n, RationalNumber expectedSum) {
+        assertEquals(expectedSum, series.sum(n));
+    }
+
+    @Test
+    void sumUsingParallelEvaluation() {
+        // Note: The number of terms exceeds the sequential threshold
+        int n = 200;
+        RationalAccumulator term = new RationalAccumulator(RationalNumber.ONE);
+        RationalAccumulator expectedSum = new RationalAccumulator(RationalNumber.ONE);
+        for (int k = 1; k <= n; k++) {
+            term.divide(k);
+            expectedSum.add(term);
+        }
+
+        assertEquals(expectedSum.toRationalNumber(), EULER.sum(n));
+    }
+
+    @Test
+    void sumUsingNegativeNumberOfTerms() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> EULER.sum(-1));
+        assertEquals("The number of terms must not be negative (-1)", exception.getMessage());
+    }
+
+    @Test
+    void newBinarySplittingSeriesUsingNull() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> new BinarySplittingSeries(null, BigInteger::valueOf));
+        assertEquals("Both the numerator and the denominator of the ratio of consecutive terms must be specified (not be null)", exception.getMessage());
+    }
+
+    private static Stream<Arguments> sums() {
+        return Stream.of(
+                Arguments.of(EULER, 0, RationalNumber.ONE),
+                Arguments.of(EULER, 1, new RationalNumber(2)),
+                Arguments.of(EULER, 2, new RationalNumber(5, 2)),
+                Arguments.of(EULER, 5, new RationalNumber(163, 60)),
+                Arguments.of(GEOMETRIC, 1, new RationalNumber(1, 2)),
+                Arguments.of(GEOMETRIC, 3, new RationalNumber(5, 8)),
+                Arguments.of(GEOMETRIC, 10, new RationalNumber(683, 1024))
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package nl.smith.mathematics.util;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.util.NumberCodec}
+ */
+class NumberCodecTest {
+
+    @ParameterizedTest
+    @MethodSource("rationalNumbers")
+    void rationalNumber(RationalNumber rationalNumber) {
+        ByteBuffer buffer = ByteBuffer.allocate(NumberCodec.getEncodedLength(rationalNumber));
+        NumberCodec.write(rationalNumber, buffer);
+        assertFalse(buffer.hasRemaining());
+
+        buffer.flip();
+        RationalNumber decodedRationalNumber = NumberCodec.readRationalNumber(buffer);
+
+        assertEquals(rationalNumber.getNumerator(), decodedRationalNumber.getNumerator());
+        assertEquals(rationalNumber.getDenominator(), decodedRationalNumber.getDenominator());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @ParameterizedTest
+    @MethodSource("bigDecimals")
+    void bigDecimal(BigDecimal bigDecimal) {
+        ByteBuffer buffer = ByteBuffer.allocate(NumberCodec.getEncodedLength(bigDecimal));
+        NumberCodec.write(bigDecimal, buffer);
+        assertFalse(buffer.hasRemaining());
+
+        buffer.flip();
+
+        assertEquals(bigDecimal, NumberCodec.readBigDecimal(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void encoding() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        NumberCodec.write(new RationalNumber(-1, 3), buffer);
+        NumberCodec.write(new RationalNumber(300), buffer);
+        NumberCodec.write(new BigDecimal("-1.25"), buffer);
+
+        assertArrayEquals(new byte[]{1, 1, 1, 1, 3, 0, 2, 1, 44, 1, 1, 1, 1, 125, 4}, Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    @Test
+    void readUsingIllegalInput() {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> NumberCodec.readRationalNumber(ByteBuffer.wrap(new byte[]{2, 0, 1, 1})));
+        assertEquals(format("Can not decode number.%nIllegal sign byte 2"), exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> NumberCodec.readRationalNumber(ByteBuffer.wrap(new byte[]{0, 5, 1})));
+        assertEquals(format("Can not decode number.%nIllegal magnitude length 5 (1 bytes remaining)"), exception.getMessage());
+
+        exception = assertThrows(ArithmeticException.class, () -> NumberCodec.readRationalNumber(ByteBuffer.wrap(new byte[]{0, 1, 1, 0})));
+        assertEquals("Division by zero", exception.getMessage());
+    }
+
+    private static Stream<Arguments> rationalNumbers() {
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE).pow(3);
+
+        return Stream.of(
+                Arguments.of(new RationalNumber(0)),
+                Arguments.of(new RationalNumber(-1, 3)),
+                Arguments.of(new RationalNumber(127, 128)),
+                Arguments.of(new RationalNumber(Long.MAX_VALUE, Long.MAX_VALUE - 1)),
+                Arguments.of(new RationalNumber(Long.MIN_VALUE, 7)),
+                Arguments.of(new RationalNumber(big.negate(), BigInteger.TEN)),
+                Arguments.of(new RationalNumber(BigInteger.valueOf(3), big)),
+                Arguments.of(new RationalNumber(BigInteger.TWO.pow(200).negate(), BigInteger.TWO.pow(100).add(BigInteger.ONE)))
+        );
+    }
+
+    private static Stream<Arguments> bigDecimals() {
+        return Stream.of(
+                Arguments.of(BigDecimal.ZERO),
+                Arguments.of(new BigDecimal("-1.25")),
+                Arguments.of(new BigDecimal("1E+300")),
+                Arguments.of(new BigDecimal("-128")),
+                Arguments.of(new BigDecimal(BigInteger.TWO.pow(300).negate(), Integer.MIN_VALUE)),
+                Arguments.of(new BigDecimal(BigInteger.TEN.pow(100).add(BigInteger.ONE), Integer.MAX_VALUE))
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package nl.smith.mathematics.util;
+
+import nl.smith.mathematics.numbertype.RationalNumber;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static nl.smith.mathematics.configuration.constant.NumberConstant.IntegerValueOf.Scale;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * System under test: {@link nl.smith.mathematics.util.NumberStreamReader}
+ */
+public class NumberStreamReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @MethodSource("numbers")
+    void rationalNumbers(String content, List<RationalNumber> expectedRationalNumbers) throws IOException {
+        assertEquals(expectedRationalNumbers, NumberStreamReader.rationalNumbers(getChannel(content)).collect(Collectors.toList()));
+        assertEquals(expectedRationalNumbers, NumberStreamReader.rationalNumbers(getFile(content)).collect(Collectors.toList()));
+    }
+
+    @Test
+    void bigDecimals() throws IOException {
+        String content = "1.5,-2E[-03]\n0.25,3E[02]\n";
+        List<BigDecimal> expectedBigDecimals = List.of(new BigDecimal("1.5"), new BigDecimal("-0.002"), new BigDecimal("0.25"), new BigDecimal("3E2"));
+
+        assertEquals(expectedBigDecimals, NumberStreamReader.bigDecimals(getChannel(content)).collect(Collectors.toList()));
+        assertEquals(expectedBigDecimals, NumberStreamReader.bigDecimals(getFile(content)).collect(Collectors.toList()));
+    }
+
+    @Test
+    void bigDecimalsUsingRepeatingFractionalPart() throws IOException {
+        Path file = getFile("1.5\n0.[3]R");
+
+        Exception exception = assertThrows(ArithmeticException.class, () -> NumberStreamReader.bigDecimals(file).count());
+        assertEquals(String.format("Can not transform 0.[3]R into a big decimal.%nThe number has a repeating fractional part."), exception.getMessage());
+    }
+
+    @Test
+    void rationalNumbersUsingInvalidNumber() throws IOException {
+        Path file = getFile("1.5\n 2\n");
+
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> NumberStreamReader.rationalNumbers(file).count());
+        assertEquals("Can not read the number at position 4." + RationalNumberUtil.NOT_A_NUMBER_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    void rationalNumbersUsingNumberExceedingBuffer() {
+        String number = "1".repeat(100_000) + ".5";
+
+        List<RationalNumber> rationalNumbers = NumberStreamReader.rationalNumbers(getChannel("1\n" + number + "\n2")).collect(Collectors.toList());
+
+        assertEquals(List.of(new RationalNumber(1), RationalNumberUtil.getRationalNumber(number), new RationalNumber(2)), rationalNumbers);
+    }
+
+    @Test
+    void rationalNumbersUsingChannelWithoutAvailableBytes() {
+        ReadableByteChannel channel = getChannel("1\n2,3");
+        AtomicInteger reads = new AtomicInteger();
+        // Note: Simulates a non-blocking channel, every other read no bytes are available
+        ReadableByteChannel nonBlockingChannel = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer buffer) throws IOException {
+                return reads.incrementAndGet() % 2 == 1 ? 0 : channel.read(buffer);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return channel.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                channel.close();
+            }
+        };
+
+        assertEquals(List.of(new RationalNumber(1), new RationalNumber(2), new RationalNumber(3)), NumberStreamReader.rationalNumbers(nonBlockingChannel).collect(Collectors.toList()));
+        assertEquals(4, reads.get());
+    }
+
+    @Test
+    void rationalNumbersUsingParallelStream() throws IOException {
+        String content = IntStream.rangeClosed(1, 20_000).mapToObj(i -> i + ".[3]R").collect(Collectors.joining("\n"));
+        Path file = getFile(content);
+
+        assertFalse(NumberStreamReader.rationalNumbers(file).isParallel());
+        assertNotNull(NumberStreamReader.rationalNumbers(file).spliterator().trySplit());
+        // Note: The sum of i + 1/3 for i = 1 ... n equals n * (n + 1) / 2 + n / 3
+        RationalNumber expectedSum = new RationalNumber(BigInteger.valueOf(200_010_000L * 3 + 20_000), BigInteger.valueOf(3));
+        assertEquals(expectedSum, NumberStreamReader.rationalNumbers(file).parallel().reduce(RationalNumber.ZERO, RationalNumber::add));
+        assertEquals(20_000, NumberStreamReader.rationalNumbers(file).parallel().count());
+    }
+
+    @Test
+    void rationalNumbersUsingParallelStreamAndThreadContext() throws IOException {
+        String content = IntStream.rangeClosed(1, 20_000).mapToObj(i -> i + ".[3]R").collect(Collectors.joining("\n"));
+        Path file = getFile(content);
+
+        Scale.value().set(7);
+        try {
+            // Note: The configuration of the creating thread is used by all threads traversing the stream
+            assertEquals(Set.of(7), NumberStreamReader.rationalNumbers(file).parallel().map(rationalNumber -> Scale.value().get()).collect(Collectors.toSet()));
+        } finally {
+            Scale.value().set(null);
+        }
+    }
+
+    private ReadableByteChannel getChannel(String content) {
+        return Channels.newChannel(new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private Path getFile(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(directory, "numbers", ".txt"), content, StandardCharsets.US_ASCII);
+    }
+
+    private static Stream<Arguments> numbers() {
+        return Stream.of(
+                Arguments.of("", List.of()),
+                Arguments.of("\n", List.of()),
+                Arguments.of("0", List.of(RationalNumber.ZERO)),
+                Arguments.of("1,2,3", List.of(new RationalNumber(1), new RationalNumber(2), new RationalNumber(3))),
+                Arguments.of("-1.5\r\n0.[3]R\r\n", List.of(new RationalNumber(-3, 2), new RationalNumber(1, 3))),
+                Arguments.of("2E[-03],,\n\n12.345[6789]R", List.of(new RationalNumber(2, 1000), new RationalNumber(10287037, 833250)))
+        );
+    }
+}
@@ -2,6 +2,7 @@ package nl.smith.mathematics.util;
 
 import nl.smith.mathematics.numbertype.RationalNumber;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -26,6 +27,42 @@ class NumberUtilTest {
         }
     }
 
+    @Test
+    void powerOfTen() {
+        for (int exponent = 0; exponent <= 1100; exponent++) {
+            assertEquals(BigInteger.TEN.pow(exponent), NumberUtil.powerOfTen(exponent));
+        }
+
+        assertSame(NumberUtil.powerOfTen(100), NumberUtil.powerOfTen(100));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> NumberUtil.powerOfTen(-1));
+        assertEquals(String.format("Can not determine power of ten.%nThe specified exponent -1 is negative"), exception.getMessage());
+    }
+
+    @Test
+    void root() {
+        for (int n = 1; n <= 7; n++) {
+            for (int r = 0; r <= 50; r++) {
+                BigInteger power = BigInteger.valueOf(r).pow(n);
+                assertEquals(BigInteger.valueOf(r), NumberUtil.root(power, n));
+                if (r > 0) {
+                    assertEquals(BigInteger.valueOf(r - 1), NumberUtil.root(power.subtract(BigInteger.ONE), n));
+                }
+            }
+        }
+
+        BigInteger root = BigInteger.TWO.pow(100).add(BigInteger.ONE);
+        assertEquals(root, NumberUtil.root(root.pow(5), 5));
+        assertEquals(root, NumberUtil.root(root.pow(5).add(root), 5));
+        assertEquals(root.subtract(BigInteger.ONE), NumberUtil.root(root.pow(5).subtract(BigInteger.ONE), 5));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> NumberUtil.root(BigInteger.valueOf(-1), 2));
+        assertEquals(String.format("Can not determine root.%nThe specified number -1 is null or negative"), exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> NumberUtil.root(BigInteger.ONE, 0));
+        assertEquals(String.format("Can not determine root.%nThe specified degree 0 is not positive"), exception.getMessage());
+    }
+
     private static Stream<Arguments> numberStrings() {
         return Stream.of(
                 Arguments.of("1", byte.class, Byte.valueOf("1"), null),
@@ -2,11 +2,14 @@ package nl.smith.mathematics.util;
 
 import nl.smith.mathematics.numbertype.RationalNumber;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -57,6 +60,14 @@ public class RationalNumberUtilTest {
         assertEquals(RationalNumberUtil.NOT_A_NUMBER_MESSAGE, exception.getMessage());
     }
 
+    @DisplayName("Testing numbers with an exponent out of range")
+    @ParameterizedTest(name = "{index}: {0} should have an exponent out of range")
+    @MethodSource("exponentsOutOfRange")
+    void assertIsNumber_exponentsOutOfRange(String numberString) {
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> RationalNumberUtil.assertIsNumber(numberString));
+        assertEquals(RationalNumberUtil.EXPONENT_OUT_OF_RANGE_MESSAGE, exception.getMessage());
+    }
+
     @DisplayName("Testing retrieval of number components")
     @ParameterizedTest
     @MethodSource("numberComponents")
@@ -80,6 +91,36 @@ public class RationalNumberUtilTest {
         }
     }
 
+    @DisplayName("Creating rational number from a part of a character sequence")
+    @ParameterizedTest
+    @MethodSource("numberStrings")
+    void getRationalNumberUsingCharacterSequence(String numberString, RationalNumber expectedRationalNumber, Exception expectedException) {
+        if (numberString == null) {
+            return;
+        }
+
+        StringBuilder characters = new StringBuilder("1,").append(numberString).append(",2");
+        if (expectedException == null) {
+            assertEquals(expectedRationalNumber, RationalNumberUtil.getRationalNumber(characters, 2, characters.length() - 2));
+        } else {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> RationalNumberUtil.getRationalNumber(characters, 2, characters.length() - 2));
+            assertEquals(expectedException.getMessage(), exception.getMessage());
+        }
+    }
+
+    @DisplayName("Creating big decimal from string")
+    @ParameterizedTest
+    @MethodSource("bigDecimalStrings")
+    void getBigDecimal(String numberString, BigDecimal expectedBigDecimal) {
+        assertEquals(expectedBigDecimal, RationalNumberUtil.getBigDecimal(numberString));
+    }
+
+    @Test
+    void getBigDecimalUsingRepeatingFractionalPart() {
+        Exception exception = assertThrows(ArithmeticException.class, () -> RationalNumberUtil.getBigDecimal("0.[3]R"));
+        assertEquals(String.format("Can not transform 0.[3]R into a big decimal.%nThe number has a repeating fractional part."), exception.getMessage());
+    }
+
     //TODO Move to RationalNumberTest
     @DisplayName("Retrieving integer part of rational number")
     @ParameterizedTest
@@ -104,8 +145,12 @@ public class RationalNumberUtilTest {
         Stream<Arguments> s4 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat("E[-00]")).map(Arguments::of);
         Stream<Arguments> s5 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat("E[-10]")).map(Arguments::of);
         Stream<Arguments> s6 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat("E[-01]")).map(Arguments::of);
+        Stream<Arguments> s7 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat("E[123]")).map(Arguments::of);
+        Stream<Arguments> s8 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat("E[-0123]")).map(Arguments::of);
+        Stream<Arguments> s9 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat(String.format("E[%d]", RationalNumberUtil.MAX_EXPONENT))).map(Arguments::of);
+        Stream<Arguments> s10 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat(String.format("E[-%d]", RationalNumberUtil.MAX_EXPONENT))).map(Arguments::of);
 
-        return Stream.of(s0, s1, s2, s3, s4, s5, s6).flatMap(i -> i);
+        return Stream.of(s0, s1, s2, s3, s4, s5, s6, s7, s8, s9, s10).flatMap(i -> i);
     }
 
     private static Stream<Arguments> notNumbers() {
@@ -115,10 +160,23 @@ public class RationalNumberUtilTest {
         Stream<Arguments> s3 = Stream.of(NUMBERS).map(n -> n.concat("E[-0]")).map(Arguments::of);
         Stream<Arguments> s4 = Stream.of(NUMBERS).map(n -> n.concat("E[+00]")).map(Arguments::of);
         Stream<Arguments> s5 = Stream.of(NUMBERS).map(n -> n.concat("E[+10]")).map(Arguments::of);
-        Stream<Arguments> s6 = Stream.of(NUMBERS).map(n -> n.concat("E[123]")).map(Arguments::of);
+        Stream<Arguments> s6 = Stream.of(NUMBERS).map(n -> n.concat("E[]")).map(Arguments::of);
         Stream<Arguments> s7 = Stream.of(NUMBERS).filter("0"::equals).map(n -> n.concat("E[00]")).map(Arguments::of);
+        Stream<Arguments> s8 = Stream.of(NUMBERS).map(n -> n.concat("E[12")).map(Arguments::of);
+        // Note: An exponent out of range does not make a malformed number string valid
+        Stream<Arguments> s9 = Stream.of(NUMBERS).map(n -> n.concat("E[99999999999")).map(Arguments::of);
+
+        return Stream.of(s0, s1, s2, s3, s4, s5, s6, s7, s8, s9).flatMap(i -> i);
+    }
+
+    private static Stream<Arguments> exponentsOutOfRange() {
+        // Note: Exponents that overflow an int (4294967297 = 2^32 + 1) or exceed the maximum exponent
+        Stream<Arguments> s0 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat("E[99999999999]")).map(Arguments::of);
+        Stream<Arguments> s1 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat("E[4294967297]")).map(Arguments::of);
+        Stream<Arguments> s2 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat(String.format("E[%d]", RationalNumberUtil.MAX_EXPONENT + 1))).map(Arguments::of);
+        Stream<Arguments> s3 = Stream.of(NUMBERS).filter(n -> !"0".equals(n)).map(n -> n.concat(String.format("E[-%d]", RationalNumberUtil.MAX_EXPONENT + 1))).map(Arguments::of);
 
-        return Stream.of(s0, s1, s2, s3, s4, s5, s6, s7).flatMap(i -> i);
+        return Stream.of(s0, s1, s2, s3).flatMap(i -> i);
     }
 
     private static Stream<Arguments> numberComponents() {
@@ -187,6 +245,8 @@ public class RationalNumberUtilTest {
                 Arguments.of("Hello world", null, new IllegalArgumentException(RationalNumberUtil.NOT_A_NUMBER_MESSAGE)),
                 Arguments.of(" 1", null, new IllegalArgumentException(RationalNumberUtil.NOT_A_NUMBER_MESSAGE)),
                 Arguments.of("01", null, new IllegalArgumentException(RationalNumberUtil.NOT_A_NUMBER_MESSAGE)),
+                Arguments.of("1E[4294967297]", null, new IllegalArgumentException(RationalNumberUtil.EXPONENT_OUT_OF_RANGE_MESSAGE)),
+                Arguments.of("1E[10001]", null, new IllegalArgumentException(RationalNumberUtil.EXPONENT_OUT_OF_RANGE_MESSAGE)),
                 Arguments.of("12.345[6789]R", new RationalNumber(10287037, 833250), null),
                 Arguments.of("-12.345[6789]R", new RationalNumber(-10287037, 833250), null),
                 Arguments.of("12.345[6789]RE[02]", new RationalNumber(1028703700, 833250), null),
@@ -194,7 +254,21 @@ public class RationalNumberUtilTest {
                 Arguments.of("0.23", new RationalNumber(23, 100), null),
                 Arguments.of("0.23E[01]", new RationalNumber(23, 10), null),
                 Arguments.of("0.23E[-01]", new RationalNumber(23, 1000), null),
-                Arguments.of("0", new RationalNumber(0), null)
+                Arguments.of("0", new RationalNumber(0), null),
+                Arguments.of("1.5E[-123]", new RationalNumber(BigInteger.valueOf(15), BigInteger.TEN.pow(124)), null),
+                Arguments.of("-2E[100]", new RationalNumber(BigInteger.TEN.pow(100).multiply(BigInteger.valueOf(-2))), null),
+                Arguments.of("123456789012345678901234567890.[1]R", new RationalNumber(new BigInteger("1111111101111111110111111111011"), BigInteger.valueOf(9)), null),
+                Arguments.of("0.0000000000000000000000000000[3]RE[10]", new RationalNumber(BigInteger.ONE, BigInteger.valueOf(3).multiply(BigInteger.TEN.pow(18))), null)
+        );
+    }
+
+    private static Stream<Arguments> bigDecimalStrings() {
+        return Stream.of(
+                Arguments.of("0", BigDecimal.ZERO),
+                Arguments.of("-12.345", new BigDecimal("-12.345")),
+                Arguments.of("0.23E[-01]", new BigDecimal("0.023")),
+                Arguments.of("5E[100]", new BigDecimal("5E100")),
+                Arguments.of("123456789012345678901234567890.5", new BigDecimal("123456789012345678901234567890.5"))
         );
     }
 